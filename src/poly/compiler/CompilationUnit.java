@@ -29,6 +29,7 @@ public class CompilationUnit {
     private ContentNode contentNode;
     private ImportTable importTable;
     private List<ClassDefinition> classDefinitions;
+    private boolean isFailed;
 
     /**
      * Constructs a compilation unit with the given source code.
@@ -38,6 +39,21 @@ public class CompilationUnit {
         this.sourceCode = sourceCode;
     }
 
+    /**
+     * Sets the compilation unit as failed, so that its next compilation steps are skipped.
+     */
+    public void setFailed() {
+        isFailed = true;
+    }
+
+    /**
+     * Returns whether an error has been detected during the compilation of the unit.
+     * @return true if the compilation unit failed
+     */
+    public boolean isFailed() {
+        return isFailed;
+    }
+
     /**
      * Tokenizes the source code.
      */
@@ -106,7 +122,7 @@ public class CompilationUnit {
         //Optimize the code if optimizations parameter is enabled
         if(Parameters.optimizations()) {
             for(ClassDefinition definition : classDefinitions)
-                Optimizer.getInstance().optimize();
+                Optimizer.getInstance(importTable, definition).optimize();
         }
     }
 
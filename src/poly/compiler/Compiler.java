@@ -1,15 +1,23 @@
 package poly.compiler;
 
+import poly.compiler.error.CompilerException;
+import poly.compiler.error.Diagnostics;
 import poly.compiler.file.JarBuilder;
 import poly.compiler.file.ProjectReader;
 import poly.compiler.file.ProjectWriter;
 import poly.compiler.file.SourceCode;
 import poly.compiler.log.Verbose;
 import poly.compiler.output.ClassFile;
+import poly.compiler.resolver.DependencyResolver;
 import poly.compiler.resolver.LibraryClasses;
+import poly.compiler.resolver.ProjectClasses;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * The Compiler class. This class is the entry point of the compiling process.
@@ -39,6 +47,7 @@ public class Compiler {
     private static final String HEADER_HELP = """
               General command syntax:
                 poly [project] [arguments] [options]
+                poly run [project] [arguments] [options] [-- program arguments]
              
               Project:          The path to the project folder.
              
@@ -46,12 +55,16 @@ public class Compiler {
                 --src [path]    The path to the source folder.
                 --out [path]    The path to the output folder.
                 --libs [path]   The path to the library folder.
+                --main [class]  The qualified name of the class to run.
              
               Options:
                 -warnings       Prints warning messages.
                 -verbose        Prints every compilation-related message.
                 -optimize       Optimizes the output code.
+                -release        Removes the assert-statements from the output code.
                 -jar            Produces a JAR file with the output code.
+                -store          Stores the JAR file entries without compression.
+                -reproducible   Produces identical output files for identical sources.
              
               View the Poly documentation for more information.
              """;
@@ -71,30 +84,106 @@ public class Compiler {
         if(arguments.length == 1 && arguments[0].equals(Parameters.VERSION))
             return;
 
-        //Initialize parameters from arguments
-        Parameters.initialize(arguments);
+        //Check run mode
+        boolean isRunning = arguments[0].equals(Parameters.RUN);
+        if(isRunning) {
+            arguments = Arrays.copyOfRange(arguments, 1, arguments.length);
 
-        //Load project library files
-        LibraryClasses.loadLibraries();
+            //Print help message if no project
+            if(arguments.length == 0) {
+                System.out.println(HEADER_HELP);
+                return;
+            }
+        }
+
+        try {
+            //Initialize parameters from arguments
+            Parameters.initialize(arguments);
+
+            //Load project library files
+            LibraryClasses.loadLibraries();
+
+            //Load project source code files
+            List<SourceCode> sourceCodes = ProjectReader.read(Parameters.getSourcePath());
+
+            //Compile in memory and run the project
+            if(isRunning) {
+                int status = Runner.run(compileInMemory(sourceCodes), Parameters.getMainClass(), Parameters.getProgramArguments());
 
-        //Load project source code files
-        List<SourceCode> sourceCodes = ProjectReader.read(Parameters.getSourcePath());
+                //Exit with the status of the program
+                if(status != 0)
+                    System.exit(status);
 
-        //Measure starting compilation time
-        long startCompilationTime = System.currentTimeMillis();
+                return;
+            }
 
-        //Start compilation
-        List<ClassFile> classFiles = compile(sourceCodes);
+            //Measure starting compilation time
+            long startCompilationTime = System.currentTimeMillis();
 
-        //Compute total compilation time in milliseconds
-        long compilationTime = System.currentTimeMillis() - startCompilationTime;
+            //Start compilation
+            Map<String, byte[]> classes = getClassBytes(compile(sourceCodes));
 
-        //Write project output class files
-        ProjectWriter.write(classFiles, Parameters.getOutputPath());
-        JarBuilder.build();
+            //Compute total compilation time in milliseconds
+            long compilationTime = System.currentTimeMillis() - startCompilationTime;
 
-        //Print success message
-        System.out.println("Project successfully compiled in " + compilationTime + " ms.");
+            //Write project output class files
+            ProjectWriter.write(classes, Parameters.getOutputPath());
+            JarBuilder.build(classes);
+
+            //Print success message
+            System.out.println("Project successfully compiled in " + compilationTime + " ms.");
+        } catch(CompilerException exception) {
+            //Rethrow unexpected exceptions that are not reported errors
+            if(!Diagnostics.hasErrors())
+                throw exception;
+
+            //Print compilation failure message
+            if(!exception.isReported())
+                System.err.println("[ERROR] " + exception.getMessage());
+
+            //Stop with the code of the first reported error
+            System.exit(Diagnostics.getExitCode());
+        }
+    }
+
+    /**
+     * Compiles the given list of source codes in memory and returns the compiled class files bytes,
+     * mapped by class qualified name. No file is read or written, and the libraries are only loaded
+     * on the first call, so that they can be reused by the next compilations of the same process.
+     * If an error is detected, a CompilerException is thrown and the reported errors
+     * are available through the diagnostics.
+     * @param sourceCodes the list of source codes
+     * @return the map of class files bytes
+     */
+    public static synchronized Map<String, byte[]> compileInMemory(List<SourceCode> sourceCodes) {
+        //Load libraries once for every compilation
+        if(!LibraryClasses.isLoaded()) {
+            Parameters.initialize();
+            LibraryClasses.loadLibraries();
+        }
+
+        return getClassBytes(compile(sourceCodes));
+    }
+
+    /**
+     * Returns the bytes of the given class files, mapped by class qualified name.
+     * The bytes of the class files are generated in parallel.
+     * @param classFiles the list of class files
+     * @return the map of class files bytes
+     */
+    private static Map<String, byte[]> getClassBytes(List<ClassFile> classFiles) {
+        //Generate every class file bytes
+        List<byte[]> bytes = classFiles.parallelStream()
+                .map(ClassFile::getBytes)
+                .toList();
+
+        Map<String, byte[]> classes = new LinkedHashMap<>();
+
+        //Map class files bytes in compilation order
+        for(int i = 0; i < classFiles.size(); i++)
+            classes.put(classFiles.get(i).getClassQualifiedName(), bytes.get(i));
+
+        return classes;
     }
 
     /**
@@ -103,6 +192,11 @@ public class Compiler {
      * @return the list of compiled class file
      */
     private static List<ClassFile> compile(List<SourceCode> sourceCodes) {
+        //Clear errors and symbols from any previous compilation
+        Diagnostics.clear();
+        ProjectClasses.clear();
+        DependencyResolver.clear();
+
         //Initialize compilation units list
         List<CompilationUnit> compilationUnits = new ArrayList<>();
 
@@ -113,38 +207,34 @@ public class Compiler {
         long startTime = System.currentTimeMillis();
 
         //Tokenize the code
-        for(CompilationUnit unit : compilationUnits)
-            unit.tokenize();
+        runPhase(compilationUnits, CompilationUnit::tokenize);
 
         //Parse the code
-        for(CompilationUnit unit : compilationUnits)
-            unit.parse();
+        runPhase(compilationUnits, CompilationUnit::parse);
+        checkErrors();
 
         long parsingTime = System.currentTimeMillis();
         Verbose.println("Parsing completed in " + (parsingTime - startTime) + " ms.");
 
         //Resolve classes
-        for(CompilationUnit unit : compilationUnits)
-            unit.resolveClass();
+        runPhase(compilationUnits, CompilationUnit::resolveClass);
 
         //Resolve symbols
-        for(CompilationUnit unit : compilationUnits)
-            unit.resolveSymbols();
+        runPhase(compilationUnits, CompilationUnit::resolveSymbols);
 
         //Resolve project
-        for(CompilationUnit unit : compilationUnits)
-            unit.resolveDependencies();
+        runPhase(compilationUnits, CompilationUnit::resolveDependencies);
+        checkErrors();
 
         long resolvingTime = System.currentTimeMillis();
         Verbose.println("Resolving completed in " + (resolvingTime - parsingTime) + " ms.");
 
         //Analyze the code
-        for(CompilationUnit unit : compilationUnits)
-            unit.analyze();
+        runPhase(compilationUnits, CompilationUnit::analyze);
 
         //Optimize output code
-        for(CompilationUnit unit : compilationUnits)
-            unit.optimize();
+        runPhase(compilationUnits, CompilationUnit::optimize);
+        checkErrors();
 
         long analyzingTime = System.currentTimeMillis();
         Verbose.println("Analyzing completed in " + (analyzingTime - resolvingTime) + " ms.");
@@ -153,9 +243,41 @@ public class Compiler {
         List<ClassFile> classFiles = new ArrayList<>();
 
         //Generate the output code
-        for(CompilationUnit unit : compilationUnits)
-            classFiles.addAll(unit.generate());
+        runPhase(compilationUnits, unit -> classFiles.addAll(unit.generate()));
+        checkErrors();
 
         return classFiles;
     }
+
+    /**
+     * Runs the given compilation phase on every compilation unit. If an error is reported
+     * while running the phase on a unit, the unit is marked as failed and skipped in the
+     * next phases, and the phase continues with the remaining units.
+     * @param compilationUnits the list of compilation units
+     * @param phase the compilation phase
+     */
+    private static void runPhase(List<CompilationUnit> compilationUnits, Consumer<CompilationUnit> phase) {
+        for(CompilationUnit unit : compilationUnits) {
+            if(unit.isFailed())
+                continue;
+
+            try {
+                phase.accept(unit);
+            } catch(CompilerException exception) {
+                //Rethrow unexpected exceptions that are not reported errors
+                if(!exception.isReported())
+                    throw exception;
+
+                unit.setFailed();
+            }
+        }
+    }
+
+    /**
+     * Stops the compilation if at least one error has been reported.
+     */
+    private static void checkErrors() {
+        if(Diagnostics.hasErrors())
+            throw new CompilerException("Compilation failed with " + Diagnostics.getErrorCount() + " error(s).");
+    }
 }
\ No newline at end of file
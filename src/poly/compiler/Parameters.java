@@ -6,6 +6,7 @@ import java.io.File;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.Arrays;
 
 /**
  * The Parameters class. This class contains the various parameters for the compiler.
@@ -15,15 +16,21 @@ import java.nio.file.Path;
  */
 public class Parameters {
     public static final String VERSION = "-version";
+    public static final String RUN = "run";
     private static boolean OPTIMIZATIONS = false;
     private static boolean VERBOSITY = false;
     private static boolean WARNINGS = false;
     private static boolean JAR_OUTPUT = false;
+    private static boolean JAR_STORED = false;
+    private static boolean RELEASE = false;
+    private static boolean REPRODUCIBLE = false;
     private static String PROJECT_PATH = null;
     private static String SOURCE_PATH = "src";
     private static String OUTPUT_PATH = "out";
     private static String LIBRARY_PATH = null;
     private static String POLYLIB_PATH = null;
+    private static String MAIN_CLASS = null;
+    private static String[] PROGRAM_ARGUMENTS = new String[0];
 
     /**
      * Initialize the parameters from the given program arguments.
@@ -48,11 +55,21 @@ public class Parameters {
                 case "-warnings" -> WARNINGS = true;
                 case "-optimize" -> OPTIMIZATIONS = true;
                 case "-jar" -> JAR_OUTPUT = true;
+                case "-store" -> JAR_STORED = true;
+                case "-release" -> RELEASE = true;
+                case "-reproducible" -> REPRODUCIBLE = true;
 
                 //Initialize arguments
                 case "--src" -> SOURCE_PATH = arguments[i++];
                 case "--out" -> OUTPUT_PATH = arguments[i++];
                 case "--libs" -> LIBRARY_PATH = arguments[i++];
+                case "--main" -> MAIN_CLASS = arguments[i++].replace('.', '/');
+
+                //Initialize program arguments
+                case "--" -> {
+                    PROGRAM_ARGUMENTS = Arrays.copyOfRange(arguments, i, arguments.length);
+                    i = arguments.length;
+                }
 
                 //Make sure the argument is valid
                 default -> new GeneralError.UnknownArgument(argument);
@@ -64,6 +81,23 @@ public class Parameters {
         OUTPUT_PATH = Path.of(PROJECT_PATH).resolve(OUTPUT_PATH).toString();
         if(LIBRARY_PATH != null) LIBRARY_PATH = Path.of(PROJECT_PATH).resolve(LIBRARY_PATH).toString();
 
+        //Find Poly standard library
+        findPolylibPath();
+    }
+
+    /**
+     * Initialize the parameters for an in-memory compilation, which has no project folder.
+     * Only the Poly standard library path is resolved, and the other parameters keep their values.
+     */
+    public static void initialize() {
+        //Find Poly standard library
+        findPolylibPath();
+    }
+
+    /**
+     * Finds the Poly standard library file next to the compiler, and defines its path if it exists.
+     */
+    private static void findPolylibPath() {
         try {
             //Find working folder
             URL url = Compiler.class.getProtectionDomain().getCodeSource().getLocation();
@@ -81,6 +115,15 @@ public class Parameters {
         }
     }
 
+    /**
+     * Enables or disables the output bytecode optimizations, for an in-memory compilation
+     * which is not initialized from program arguments.
+     * @param optimizations whether the output bytecode should be optimized
+     */
+    public static void setOptimizations(boolean optimizations) {
+        OPTIMIZATIONS = optimizations;
+    }
+
     /**
      * Returns whether the output bytecode should be optimized.
      * @return true if the output bytecode should be optimized
@@ -89,6 +132,24 @@ public class Parameters {
         return OPTIMIZATIONS;
     }
 
+    /**
+     * Returns whether the output code is compiled for release, in which case
+     * the assert-statements are removed from the output code.
+     * @return true if the assert-statements should be removed
+     */
+    public static boolean release() {
+        return RELEASE;
+    }
+
+    /**
+     * Returns whether the output files should be reproducible, in which case the
+     * JAR file entries have a fixed timestamp instead of the compilation time.
+     * @return true if the output files should be reproducible
+     */
+    public static boolean reproducible() {
+        return REPRODUCIBLE;
+    }
+
     /**
      * Returns whether compilation information and timings should be printed
      * in the console during the compilation process.
@@ -114,6 +175,14 @@ public class Parameters {
         return JAR_OUTPUT;
     }
 
+    /**
+     * Returns whether the entries of the output JAR file should be stored without compression.
+     * @return true if the JAR file entries should not be compressed
+     */
+    public static boolean jarStored() {
+        return JAR_STORED;
+    }
+
     /**
      * Returns the path of the project folder.
      * @return the project folder path
@@ -153,4 +222,20 @@ public class Parameters {
     public static String getPolylibPath() {
         return POLYLIB_PATH;
     }
+
+    /**
+     * Returns the qualified name of the class to run, or to define as the JAR file main class.
+     * @return the main class name (null if not specified)
+     */
+    public static String getMainClass() {
+        return MAIN_CLASS;
+    }
+
+    /**
+     * Returns the arguments given to the program when it is run by the compiler.
+     * @return the program arguments
+     */
+    public static String[] getProgramArguments() {
+        return PROGRAM_ARGUMENTS;
+    }
 }
@@ -0,0 +1,214 @@
+package poly.compiler;
+
+import poly.compiler.error.GeneralError;
+import poly.compiler.file.JarBuilder;
+import poly.compiler.file.MemoryClassLoader;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The Runner class. This class is used to execute a project compiled in memory,
+ * by defining its classes with a memory class loader and invoking its main method
+ * in the same JVM as the compiler.
+ * @author Vincent Philippe (@vincent64)
+ */
+public class Runner {
+    /** The name of the main method. */
+    private static final String MAIN_METHOD = "main";
+    /** The exit code of a program stopped by an uncaught exception. */
+    private static final int EXCEPTION_EXIT_CODE = 1;
+
+    private Runner() { }
+
+    /**
+     * Runs the main method of the given main class with the given program arguments,
+     * and returns the exit status of the program. The assertions are enabled, and the
+     * library class loader is closed once the main method returns.
+     * If the main class name is null, the main class is found among the compiled classes.
+     * @param classes the class files bytes, mapped by class qualified name
+     * @param mainClassName the main class name (null if not specified)
+     * @param arguments the program arguments
+     * @return the exit status (0 if the program did not throw an uncaught exception)
+     */
+    public static int run(Map<String, byte[]> classes, String mainClassName, String[] arguments) {
+        try(URLClassLoader libraryClassLoader = getLibraryClassLoader()) {
+            MemoryClassLoader classLoader = new MemoryClassLoader(classes, libraryClassLoader);
+
+            //Enable assertions
+            libraryClassLoader.setDefaultAssertionStatus(true);
+            classLoader.setDefaultAssertionStatus(true);
+
+            return run(classLoader, classes, mainClassName, arguments);
+        } catch(IOException e) {
+            throw new RuntimeException("Could not close library class loader.", e);
+        }
+    }
+
+    /**
+     * Runs the main method with the given class loader, and returns the exit status of the program.
+     * @param classLoader the class loader
+     * @param classes the class files bytes, mapped by class qualified name
+     * @param mainClassName the main class name (null if not specified)
+     * @param arguments the program arguments
+     * @return the exit status
+     */
+    private static int run(MemoryClassLoader classLoader, Map<String, byte[]> classes, String mainClassName, String[] arguments) {
+        //Find main method
+        Method mainMethod = mainClassName != null
+                ? getMainMethod(classLoader, mainClassName.replace('/', '.'))
+                : findMainMethod(classLoader, classes);
+
+        if(mainMethod == null)
+            new GeneralError.MissingMainMethod(mainClassName != null ? mainClassName : "project");
+
+        Thread thread = Thread.currentThread();
+        java.lang.ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+
+        try {
+            //Invoke main method
+            mainMethod.invoke(null, (Object) arguments);
+        } catch(InvocationTargetException e) {
+            //Print the program exception like the JVM would
+            Throwable exception = e.getCause();
+            trimStackTrace(exception);
+            System.err.print("Exception in thread \"" + thread.getName() + "\" ");
+            exception.printStackTrace();
+
+            //Return the status of an uncaught exception
+            return EXCEPTION_EXIT_CODE;
+        } catch(IllegalAccessException e) {
+            new GeneralError.MissingMainMethod(mainMethod.getDeclaringClass().getName());
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+
+        return 0;
+    }
+
+    /**
+     * Removes the frames of the runner and of the reflective main method invocation
+     * at the bottom of the stack traces of the given exception and its causes,
+     * so that the stack traces end with the main method like the JVM would print them.
+     * @param exception the exception
+     */
+    private static void trimStackTrace(Throwable exception) {
+        while(exception != null) {
+            StackTraceElement[] stackTrace = exception.getStackTrace();
+            int length = stackTrace.length;
+
+            //Find the last frame of the program
+            while(length > 0 && isRunnerFrame(stackTrace[length - 1]))
+                length--;
+
+            if(length > 0 && length < stackTrace.length)
+                exception.setStackTrace(Arrays.copyOf(stackTrace, length));
+
+            exception = exception.getCause();
+        }
+    }
+
+    /**
+     * Returns whether the given stack frame belongs to the compiler or to the reflective invocation.
+     * @param frame the stack frame
+     * @return true if the frame is not a frame of the program
+     */
+    private static boolean isRunnerFrame(StackTraceElement frame) {
+        String className = frame.getClassName();
+
+        return className.startsWith("poly.compiler.")
+                || className.startsWith("jdk.internal.reflect.")
+                || className.equals(Method.class.getName());
+    }
+
+    /**
+     * Finds the main method among the given compiled classes.
+     * @param classLoader the class loader
+     * @param classes the class files bytes
+     * @return the main method (null if not found)
+     */
+    private static Method findMainMethod(java.lang.ClassLoader classLoader, Map<String, byte[]> classes) {
+        Method mainMethod = null;
+
+        for(String className : classes.keySet()) {
+            Method method = getMainMethod(classLoader, className.replace('/', '.'));
+
+            //Make sure there is only one main method
+            if(method != null) {
+                if(mainMethod != null)
+                    new GeneralError.AmbiguousMainMethod(mainMethod.getDeclaringClass().getName(),
+                            method.getDeclaringClass().getName());
+
+                mainMethod = method;
+            }
+        }
+
+        return mainMethod;
+    }
+
+    /**
+     * Returns the public static main method of the given class.
+     * @param classLoader the class loader
+     * @param className the class name
+     * @return the main method (null if not found)
+     */
+    private static Method getMainMethod(java.lang.ClassLoader classLoader, String className) {
+        try {
+            //Load class without initializing it
+            Class<?> clazz = Class.forName(className, false, classLoader);
+            Method method = clazz.getDeclaredMethod(MAIN_METHOD, String[].class);
+
+            //Make sure the method is public and static
+            if(Modifier.isPublic(method.getModifiers()) && Modifier.isStatic(method.getModifiers()))
+                return method;
+        } catch(ClassNotFoundException | NoSuchMethodException e) {
+            return null;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the class loader of the Poly standard library and the project libraries.
+     * @return the library class loader
+     */
+    private static URLClassLoader getLibraryClassLoader() {
+        List<URL> urls = new ArrayList<>();
+
+        try {
+            //Add Poly standard library
+            if(Parameters.getPolylibPath() != null)
+                urls.add(new File(Parameters.getPolylibPath()).toURI().toURL());
+
+            //Add third-party libraries
+            if(Parameters.getLibraryPath() != null) {
+                File[] files = new File(Parameters.getLibraryPath()).listFiles();
+
+                if(files != null) {
+                    //Add libraries in name order
+                    Arrays.sort(files);
+
+                    for(File file : files) {
+                        if(file.isFile() && file.getName().endsWith(JarBuilder.JAR_EXTENSION))
+                            urls.add(file.toURI().toURL());
+                    }
+                }
+            }
+        } catch(MalformedURLException e) {
+            throw new RuntimeException("Could not read library path.");
+        }
+
+        return new URLClassLoader(urls.toArray(new URL[0]), java.lang.ClassLoader.getPlatformClassLoader());
+    }
+}
@@ -1,5 +1,6 @@
 package poly.compiler.analyzer;
 
+import poly.compiler.Parameters;
 import poly.compiler.analyzer.content.OperatorMethod;
 import poly.compiler.analyzer.table.ImportTable;
 import poly.compiler.analyzer.table.Variable;
@@ -15,11 +16,15 @@ import poly.compiler.parser.tree.variable.*;
 import poly.compiler.resolver.ClassDefinition;
 import poly.compiler.resolver.Classes;
 import poly.compiler.resolver.LibraryClasses;
+import poly.compiler.resolver.MethodDefinition;
 import poly.compiler.resolver.symbol.*;
 import poly.compiler.util.ClassName;
 import poly.compiler.warning.AnalyzingWarning;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The Analyzer class. This class is used to analyze the AST produced by the parser.
@@ -37,16 +42,24 @@ import java.util.List;
 public final class Analyzer implements NodeModifier {
     private final Transformer transformer;
     private final ImportTable importTable;
+    private final ClassDefinition classDefinition;
     private final ClassDeclaration classDeclaration;
     private final ClassSymbol classSymbol;
     private final VariableTable variableTable;
     private MethodDeclaration currentMethod;
+    private LambdaExpression currentLambda;
+    private LambdaExpression parallelLambda;
+    private int lambdaVariableCounter;
+    private int lambdaCount;
+    private int threadScopeCount;
+    private int parallelForeachCount;
     private int currentLoopLevel;
     private boolean isInitialized;
     private boolean isStaticContext;
 
     private Analyzer(ImportTable importTable, ClassDefinition classDefinition) {
         this.importTable = importTable;
+        this.classDefinition = classDefinition;
 
         classDeclaration = classDefinition.getClassDeclaration();
         classSymbol = classDefinition.getClassSymbol();
@@ -111,6 +124,10 @@ public final class Analyzer implements NodeModifier {
         if(!classDeclaration.isInterface() && methodDeclaration.isEmpty())
             new AnalyzingError.MissingMethodBody(methodDeclaration);
 
+        //Make sure the method is not an asynchronous constructor
+        if(methodDeclaration.isAsync() && methodDeclaration.isConstructor())
+            new AnalyzingError.InvalidAsyncMethod(methodDeclaration);
+
         //Nothing to analyze if empty
         if(methodDeclaration.isEmpty())
             return methodDeclaration;
@@ -118,6 +135,10 @@ public final class Analyzer implements NodeModifier {
         //Clear local variables table
         variableTable.clear();
 
+        //Transform asynchronous method body to a task submission
+        if(methodDeclaration.isAsync())
+            transformer.transformAsyncMethod(methodDeclaration, getAsyncTaskSymbol(methodDeclaration.getReturnType()));
+
         //Visit parameters list
         methodDeclaration.setParameterList(methodDeclaration.getParameterList().accept(this));
 
@@ -127,16 +148,8 @@ public final class Analyzer implements NodeModifier {
         StatementBlock statementBlock = (StatementBlock) methodDeclaration.getBody();
         List<Statement> statements = statementBlock.getStatements();
 
-        boolean hasReturned = false;
-        for(Node statement : statements) {
-            if(statement instanceof ReturnStatement) {
-                hasReturned = true;
-                break;
-            }
-        }
-
         //Make sure there is a return statement
-        if(methodDeclaration.getReturnType() != null && !hasReturned)
+        if(methodDeclaration.getReturnType() != null && !hasReturnStatement(statementBlock))
             new AnalyzingError.MissingReturnStatement(methodDeclaration);
 
         //Skip if method is not constructor or class is an enum
@@ -242,6 +255,12 @@ public final class Analyzer implements NodeModifier {
             if(hasJumped)
                 new AnalyzingError.UnreachableStatement(statements.get(i));
 
+            //Expand thread-statement in the statement block
+            if(statements.get(i) instanceof ThreadStatement threadStatement) {
+                statements.remove(i);
+                statements.addAll(i, generateThreadStatements(threadStatement));
+            }
+
             //Visit statement
             statements.set(i, statements.get(i).accept(this));
 
@@ -334,26 +353,40 @@ public final class Analyzer implements NodeModifier {
 
     @Override
     public Statement visitForeachStatement(ForeachStatement foreachStatement) {
+        //Visit parallel foreach-statement
+        if(foreachStatement.isParallel())
+            return visitParallelForeachStatement(foreachStatement);
+
         //Get the amount of previous local variables
         int previousVariableCount = variableTable.getVariableCount();
 
         //Visit iterable expression
         foreachStatement.setExpression(foreachStatement.getExpression().accept(this));
 
-        //Make sure the expression is an array
-        if(foreachStatement.getExpression().getExpressionType().getKind() != Type.Kind.ARRAY)
-            new AnalyzingError.ExpectedArrayType(foreachStatement.getExpression());
+        Type iterableType = foreachStatement.getExpression().getExpressionType();
+
+        //Make sure the expression is an array or an iterable object
+        if(iterableType.getKind() != Type.Kind.ARRAY && !isIterableType(iterableType))
+            new AnalyzingError.ExpectedIterableType(foreachStatement.getExpression());
 
         //Visit variable declaration
         foreachStatement.setVariableDeclaration(foreachStatement.getVariableDeclaration().accept(this));
 
         VariableDeclaration variableDeclaration = (VariableDeclaration) foreachStatement.getVariableDeclaration();
-        Type arrayType = ((Array) foreachStatement.getExpression().getExpressionType()).getType();
         Type variableType = getTypeFromNode(variableDeclaration.getType());
 
-        //Make sure the array type is assignable to the variable type
-        if(!arrayType.isAssignableTo(variableType))
-            new AnalyzingError.TypeConversion(variableDeclaration, variableType, arrayType);
+        if(iterableType instanceof Array array) {
+            Type arrayType = array.getType();
+
+            //Make sure the array type is assignable to the variable type
+            if(!arrayType.isAssignableTo(variableType))
+                new AnalyzingError.TypeConversion(variableDeclaration, variableType, arrayType);
+        } else {
+            //Make sure the elements can be cast to the variable type
+            if(variableType.getKind() == Type.Kind.PRIMITIVE)
+                new AnalyzingError.TypeConversion(variableDeclaration,
+                        new Object(LibraryClasses.findClass(ClassName.OBJECT)), variableType);
+        }
 
         //Visit statement body
         currentLoopLevel++;
@@ -372,29 +405,43 @@ public final class Analyzer implements NodeModifier {
         switchStatement.setExpression(switchStatement.getExpression().accept(this));
 
         Expression expression = switchStatement.getExpression();
+        Type type = expression.getExpressionType();
 
         //Make sure the expression is valid
-        if(!(expression.getExpressionType() instanceof Primitive primitive && primitive.isIntegerType()))
+        if(!isSwitchableType(type))
             new AnalyzingError.InvalidSwitchExpression(expression);
 
         List<Statement> cases = switchStatement.getCases();
+        Set<String> caseValues = new HashSet<>();
 
         //Visit every case statement
         for(int i = 0; i < cases.size(); i++) {
-            //Visit case statement
-            cases.set(i, cases.get(i).accept(this));
+            //Visit enum case statement
+            if(type instanceof Object object && object.getClassSymbol().isEnum()) {
+                visitEnumCaseStatement((CaseStatement) cases.get(i), object);
+            }
+
+            //Visit constant case statement
+            else {
+                //Visit case statement
+                cases.set(i, cases.get(i).accept(this));
+
+                Expression caseExpression = ((CaseStatement) cases.get(i)).getExpression();
 
-            CaseStatement caseStatement = (CaseStatement) cases.get(i);
-            Expression caseExpression = caseStatement.getExpression();
+                //Make sure the case expression is constant
+                if(!isConstantExpression(caseExpression) || isNullExpression(caseExpression))
+                    new AnalyzingError.ExpectedConstantExpression(caseExpression);
 
-            //Make sure the case expression is constant
-            if(!isConstantExpression(caseExpression))
-                new AnalyzingError.ExpectedConstantExpression(caseExpression);
+                //Make sure the case expression type is valid
+                if(!caseExpression.getExpressionType().equals(type))
+                    new AnalyzingError.TypeConversion(caseExpression, caseExpression.getExpressionType(), type);
+            }
+
+            Expression caseExpression = ((CaseStatement) cases.get(i)).getExpression();
 
-            //Make sure the case expression type is valid
-            if(!caseExpression.getExpressionType().equals(expression.getExpressionType()))
-                new AnalyzingError.TypeConversion(caseExpression,
-                        caseExpression.getExpressionType(), expression.getExpressionType());
+            //Make sure the case value is unique
+            if(!caseValues.add(getSwitchCaseValue(caseExpression)))
+                new AnalyzingError.DuplicateSwitchCase(caseExpression);
         }
 
         //Visit optional else case statement
@@ -454,9 +501,26 @@ public final class Analyzer implements NodeModifier {
                 new AnalyzingError.UnresolvableClass(assertStatement, ClassName.ASSERTION_ERROR.toString());
         }
 
+        //Add the field guarding the assert-statements of the class
+        if(!Parameters.release() && classSymbol.findAssertionsField() == null) {
+            classSymbol.addSymbol(FieldSymbol.generateAssertionsField(classSymbol));
+            classDefinition.addStaticConstructor();
+        }
+
         return assertStatement;
     }
 
+    @Override
+    public Statement visitThreadStatement(ThreadStatement threadStatement) {
+        StatementBlock statementBlock = new StatementBlock(threadStatement.getMeta());
+
+        //Generate thread-statement statements
+        for(Statement statement : generateThreadStatements(threadStatement))
+            statementBlock.addStatement(statement);
+
+        return statementBlock.accept(this);
+    }
+
     @Override
     public Statement visitTryStatement(TryStatement tryStatement) {
         //Visit statement body
@@ -509,6 +573,10 @@ public final class Analyzer implements NodeModifier {
     public Statement visitReturnStatement(ReturnStatement returnStatement) {
         Expression expression = returnStatement.getExpression();
 
+        //Make sure the return statement does not return from a parallel iteration
+        if(currentLambda != null && currentLambda == parallelLambda)
+            new AnalyzingError.ParallelReturn(returnStatement);
+
         //Make sure the return statement returns nothing when not expected
         if(expression != null && currentMethod.getReturnType() == null)
             new AnalyzingError.UnexpectedReturnValue(returnStatement);
@@ -619,6 +687,15 @@ public final class Analyzer implements NodeModifier {
         if(constructorSymbol == null)
             new AnalyzingError.UnresolvableConstructor(superStatement, argumentTypes);
 
+        //Make sure the light exception only passes a message and a cause to runtime exception
+        if(classSymbol.isLight() && !superclassSymbol.isLight()) {
+            Type[] parameterTypes = constructorSymbol.getParameterTypes();
+
+            if(parameterTypes.length > 2 || (parameterTypes.length > 0
+                    && !parameterTypes[0].equals(new Object(LibraryClasses.findClass(ClassName.STRING)))))
+                new AnalyzingError.InvalidLightSuperCall(superStatement);
+        }
+
         return superStatement;
     }
 
@@ -923,6 +1000,19 @@ public final class Analyzer implements NodeModifier {
 
     @Override
     public Expression visitCastExpression(CastExpression castExpression) {
+        //Infer cast type to lambda expression
+        if(castExpression.getExpression() instanceof LambdaExpression lambdaExpression) {
+            Type castType = getTypeFromNode(castExpression.getCastType());
+
+            //Make sure the type exists
+            if(castType == null)
+                new AnalyzingError.UnresolvableType(castExpression.getCastType());
+
+            lambdaExpression.setExpressionType(castType);
+
+            return lambdaExpression.accept(this);
+        }
+
         //Visit cast expression
         castExpression.setExpression(castExpression.getExpression().accept(this));
 
@@ -991,6 +1081,9 @@ public final class Analyzer implements NodeModifier {
             //Find variable
             Variable variable = variableTable.findVariableWithName(simpleName.getName());
 
+            //Capture variable in lambda expression
+            captureVariable(variable);
+
             //Define resulting type
             simpleName.setExpressionType(variable.getType());
         }
@@ -1012,6 +1105,10 @@ public final class Analyzer implements NodeModifier {
             if(!isInitialized && !fieldSymbol.isStatic())
                 new AnalyzingError.UninitializedThisReference(simpleName);
 
+            //Capture this reference in lambda expression
+            if(!fieldSymbol.isStatic())
+                captureThis();
+
             //Define resulting type
             simpleName.setExpressionType(fieldSymbol.getType());
         }
@@ -1043,6 +1140,10 @@ public final class Analyzer implements NodeModifier {
             if(!isInitialized && !methodSymbol.isStatic())
                 new AnalyzingError.UninitializedThisReference(methodCall);
 
+            //Capture this reference in lambda expression
+            if(!methodSymbol.isStatic())
+                captureThis();
+
             //Define resulting type
             methodCall.setExpressionType(methodSymbol.getReturnType());
         }
@@ -1493,6 +1594,11 @@ public final class Analyzer implements NodeModifier {
 
     @Override
     public Expression visitSumExpression(SumExpression sumExpression) {
+        //Analyze parallel sum-expression
+        if(sumExpression.isParallel())
+            return visitParallelReduction(sumExpression, sumExpression.getVariableInitialization(), sumExpression.getCondition(),
+                    sumExpression.getIncrementExpression(), sumExpression.getExpression(), "summation");
+
         //Get the amount of previous local variables
         int previousVariableCount = variableTable.getVariableCount();
 
@@ -1526,6 +1632,11 @@ public final class Analyzer implements NodeModifier {
 
     @Override
     public Expression visitProdExpression(ProdExpression prodExpression) {
+        //Analyze parallel prod-expression
+        if(prodExpression.isParallel())
+            return visitParallelReduction(prodExpression, prodExpression.getVariableInitialization(), prodExpression.getCondition(),
+                    prodExpression.getIncrementExpression(), prodExpression.getExpression(), "product");
+
         //Get the amount of previous local variables
         int previousVariableCount = variableTable.getVariableCount();
 
@@ -1557,6 +1668,138 @@ public final class Analyzer implements NodeModifier {
         return prodExpression;
     }
 
+    @Override
+    public Expression visitLambdaExpression(LambdaExpression lambdaExpression) {
+        Type type = lambdaExpression.getExpressionType();
+
+        //Make sure the type can be inferred
+        if(type == null)
+            new AnalyzingError.TypeInference(lambdaExpression);
+
+        //Find functional interface method
+        MethodSymbol interfaceMethodSymbol = type instanceof Object object
+                ? object.getClassSymbol().findFunctionalMethod()
+                : null;
+
+        //Make sure the type is a functional interface
+        if(interfaceMethodSymbol == null)
+            new AnalyzingError.InvalidLambdaTarget(lambdaExpression, type);
+
+        List<Node> parameters = ((ParameterList) lambdaExpression.getParameterList()).getParameters();
+        Type[] parameterTypes = interfaceMethodSymbol.getParameterTypes();
+        Type returnType = interfaceMethodSymbol.getReturnType();
+
+        //Make sure the parameters count is matching
+        if(parameters.size() != parameterTypes.length)
+            new AnalyzingError.InvalidLambdaParameters(lambdaExpression, interfaceMethodSymbol.getName(), parameterTypes);
+
+        for(int i = 0; i < parameters.size(); i++) {
+            Parameter parameter = (Parameter) parameters.get(i);
+
+            //Infer parameter type from functional interface method
+            if(parameter.getType() == null)
+                parameter.setType(NodeGenerator.forType(parameterTypes[i]));
+
+            //Make sure the parameter type is matching
+            else if(!parameterTypes[i].equals(getTypeFromNode(parameter.getType())))
+                new AnalyzingError.InvalidLambdaParameters(parameter, interfaceMethodSymbol.getName(), parameterTypes);
+        }
+
+        //Generate lambda body statements block
+        StatementBlock statementBlock;
+        if(lambdaExpression.getBody() instanceof Expression expression) {
+            Statement statement;
+
+            if(returnType instanceof Void) {
+                ExpressionStatement expressionStatement = new ExpressionStatement(expression.getMeta());
+                expressionStatement.setExpression(expression);
+                statement = expressionStatement;
+            } else {
+                ReturnStatement returnStatement = new ReturnStatement(expression.getMeta());
+                returnStatement.setExpression(expression);
+                statement = returnStatement;
+            }
+
+            statementBlock = new StatementBlock(expression.getMeta());
+            statementBlock.addStatement(statement);
+        } else {
+            statementBlock = (StatementBlock) lambdaExpression.getBody();
+        }
+
+        //Generate lambda method declaration
+        MethodDeclaration methodDeclaration = new MethodDeclaration(lambdaExpression.getMeta());
+        methodDeclaration.setName(getLambdaMethodName());
+        methodDeclaration.setParameterList(lambdaExpression.getParameterList());
+        methodDeclaration.setBody(statementBlock);
+        if(!(returnType instanceof Void))
+            methodDeclaration.setReturnType(NodeGenerator.forType(returnType));
+
+        //Visit lambda body
+        methodDeclaration.setBody((Statement) visitLambdaBody(lambdaExpression, methodDeclaration, statementBlock));
+
+        //Make sure there is a return statement
+        if(methodDeclaration.getReturnType() != null && !hasReturnStatement(statementBlock))
+            new AnalyzingError.MissingReturnStatement(lambdaExpression);
+
+        //Add lambda method to the class
+        addLambdaMethod(lambdaExpression, methodDeclaration, parameters, interfaceMethodSymbol);
+
+        return lambdaExpression;
+    }
+
+    @Override
+    public Expression visitAwaitExpression(AwaitExpression awaitExpression) {
+        //Visit future expression
+        awaitExpression.setExpression(awaitExpression.getExpression().accept(this));
+
+        Expression expression = awaitExpression.getExpression();
+        Type type = expression.getExpressionType();
+
+        //Make sure the expression is a future
+        if(!(type instanceof Object object) || object.getClassSymbol() == null
+                || !object.getClassSymbol().isSubtypeOf(LibraryClasses.findClass(ClassName.FUTURE)))
+            new AnalyzingError.ExpectedFutureType(expression);
+
+        //Find the result type of an asynchronous method call
+        MethodSymbol calledMethodSymbol = findCalledMethod(expression);
+        Type resultType = calledMethodSymbol != null && calledMethodSymbol.getAsyncReturnType() != null
+                ? calledMethodSymbol.getAsyncReturnType()
+                : new Object(LibraryClasses.findClass(ClassName.OBJECT));
+
+        //Get the result method name
+        String methodName;
+        if(resultType instanceof Void)
+            methodName = "join";
+        else if(resultType instanceof Primitive primitive)
+            methodName = "get" + getPrimitiveName(primitive);
+        else
+            methodName = "get";
+
+        //Generate future result method call
+        ArgumentList argumentList = new ArgumentList(awaitExpression.getMeta());
+        argumentList.addArgument(expression);
+
+        MethodCall methodCall = new MethodCall(awaitExpression.getMeta());
+        methodCall.setMethodName(methodName);
+        methodCall.setArgumentList(argumentList);
+
+        ClassSymbol asyncSymbol = Classes.findClass(ClassName.ASYNC);
+        MemberAccess memberAccess = NodeGenerator.forMemberAccess(NodeGenerator.forType(new Object(asyncSymbol)), methodCall);
+
+        //Find future result method
+        Type[] argumentTypes = getTypesFromArguments(argumentList);
+        MethodSymbol methodSymbol = asyncSymbol.findMethod(methodName, argumentTypes, classSymbol, methodCall);
+
+        //Make sure the method exists
+        if(methodSymbol == null)
+            new AnalyzingError.UnresolvableMethod(methodCall, methodName, argumentTypes);
+
+        //Define resulting type
+        memberAccess.setExpressionType(methodSymbol.getReturnType());
+
+        return generateCastExpression(memberAccess, resultType);
+    }
+
     @Override
     public Expression visitThisExpression(ThisExpression thisExpression) {
         //Make sure the method is not static
@@ -1567,6 +1810,9 @@ public final class Analyzer implements NodeModifier {
         if(!isInitialized)
             new AnalyzingError.UninitializedThisReference(thisExpression);
 
+        //Capture this reference in lambda expression
+        captureThis();
+
         //Define type as current class
         thisExpression.setExpressionType(new Object(classSymbol));
 
@@ -1583,6 +1829,9 @@ public final class Analyzer implements NodeModifier {
         if(!isInitialized)
             new AnalyzingError.UninitializedSuperReference(superExpression);
 
+        //Capture this reference in lambda expression
+        captureThis();
+
         ClassSymbol superclassSymbol = (ClassSymbol) classSymbol.getSuperclassSymbol();
 
         //Make sure the superclass exists
@@ -1605,6 +1854,9 @@ public final class Analyzer implements NodeModifier {
         if(!isInitialized)
             new AnalyzingError.UninitializedOuterReference(outerExpression);
 
+        //Capture this reference in lambda expression
+        captureThis();
+
         //Make sure the class is inner
         if(!classDeclaration.isInner())
             new AnalyzingError.InvalidOuterReference(outerExpression);
@@ -1723,6 +1975,41 @@ public final class Analyzer implements NodeModifier {
 
     //Alternative visit methods
 
+    /**
+     * Visit the given case statement node as a case of an enum switch-statement.
+     * The case expression is either the simple name of the enum constant,
+     * or its name qualified by the enum class name.
+     * @param caseStatement the case statement
+     * @param enumType the enum type
+     */
+    private void visitEnumCaseStatement(CaseStatement caseStatement, Object enumType) {
+        Expression caseExpression = caseStatement.getExpression();
+        String name = null;
+
+        //Get constant name from simple name
+        if(caseExpression instanceof SimpleName simpleName)
+            name = simpleName.getName();
+
+        //Get constant name from qualified name
+        else if(caseExpression instanceof QualifiedName qualifiedName
+                && enumType.equals(getTypeFromNode(qualifiedName.getQualifiedName())))
+            name = qualifiedName.getName();
+
+        //Make sure the case expression is an enum constant name
+        if(name == null)
+            new AnalyzingError.ExpectedConstantExpression(caseExpression);
+
+        //Make sure the enum constant exists
+        if(enumType.getClassSymbol().findEnumOrdinal(name) < 0)
+            new AnalyzingError.UnresolvableSymbol(caseExpression, name);
+
+        //Define resulting type
+        caseExpression.setExpressionType(enumType);
+
+        //Visit statement block
+        caseStatement.setBody(caseStatement.getBody().accept(this));
+    }
+
     /**
      * Visit the given unary expression node as an operation overload and returns the transformed node.
      * @param unaryExpression the unary expression
@@ -1767,9 +2054,13 @@ public final class Analyzer implements NodeModifier {
 
         //Transform string binary operation
         if(classSymbol.getClassName().equals(ClassName.STRING)) {
-            //Transform string concatenation
-            if(binaryExpression.getKind() == BinaryExpression.Kind.OPERATION_ADDITION)
-                return transformer.transformStringConcatenation(binaryExpression);
+            //Analyze string concatenation
+            if(binaryExpression.getKind() == BinaryExpression.Kind.OPERATION_ADDITION) {
+                //Define resulting type
+                binaryExpression.setExpressionType(object);
+
+                return binaryExpression;
+            }
 
             //Transform string repeating
             if(binaryExpression.getKind() == BinaryExpression.Kind.OPERATION_MULTIPLICATION)
@@ -1848,9 +2139,14 @@ public final class Analyzer implements NodeModifier {
         //Find assignment overload method
         MethodSymbol methodSymbol = classSymbol.findMethod(methodName, argumentTypes, this.classSymbol, assignmentExpression);
 
-        //Make sure the object supports the assignment
-        if(methodSymbol == null)
-            new AnalyzingError.InvalidAssignment(assignmentExpression, object);
+        //Transform to an operation and an assignment if the object has no in-place overload
+        if(methodSymbol == null) {
+            //Make sure the variable can be evaluated twice
+            if(!(variableExpression instanceof SimpleName))
+                new AnalyzingError.InvalidAssignment(assignmentExpression, object);
+
+            return transformer.transformAssignmentOperation(assignmentExpression);
+        }
 
         return transformer.transformOperationOverload(assignmentExpression, variableExpression, expression, methodName);
     }
@@ -1878,6 +2174,10 @@ public final class Analyzer implements NodeModifier {
             if(fieldSymbol == null || fieldSymbol.getType().getKind() != Type.Kind.OBJECT)
                 new AnalyzingError.UnresolvableMethod(methodCall, methodName, argumentTypes);
 
+            //Capture this reference in lambda expression
+            if(!fieldSymbol.isStatic())
+                captureThis();
+
             classSymbol = ((Object) fieldSymbol.getType()).getClassSymbol();
         }
 
@@ -1887,6 +2187,9 @@ public final class Analyzer implements NodeModifier {
             if(variable.getType().getKind() != Type.Kind.OBJECT)
                 new AnalyzingError.UnresolvableMethod(methodCall, methodName, argumentTypes);
 
+            //Capture variable in lambda expression
+            captureVariable(variable);
+
             classSymbol = ((Object) variable.getType()).getClassSymbol();
         }
 
@@ -1946,6 +2249,9 @@ public final class Analyzer implements NodeModifier {
             Variable variable = variableTable.findVariableWithName(name);
 
             if(variable != null) {
+                //Capture variable in lambda expression
+                captureVariable(variable);
+
                 //Define resulting type
                 simpleName.setExpressionType(variable.getType());
                 return null;
@@ -1955,6 +2261,10 @@ public final class Analyzer implements NodeModifier {
             FieldSymbol fieldSymbol = classSymbol.findField(name, classSymbol);
 
             if(fieldSymbol != null) {
+                //Capture this reference in lambda expression
+                if(!fieldSymbol.isStatic())
+                    captureThis();
+
                 //Define resulting type
                 simpleName.setExpressionType(fieldSymbol.getType());
                 return null;
@@ -2076,7 +2386,15 @@ public final class Analyzer implements NodeModifier {
                 if(variable.isConstant() && variable.isAssigned())
                     new AnalyzingError.InvalidConstantAssignment(variableExpression, simpleName.getName());
 
+                //Make sure the variable is not captured by the lambda expression
+                if(isCapturedVariable(variable))
+                    new AnalyzingError.CapturedVariableAssignment(variableExpression, simpleName.getName());
+
             } else {
+                //Make sure the field is not assigned in a parallel iteration
+                if(parallelLambda != null)
+                    new AnalyzingError.ParallelFieldAssignment(variableExpression, simpleName.getName());
+
                 //Find field in current class
                 FieldSymbol fieldSymbol = classSymbol.findField(simpleName.getName(), classSymbol);
 
@@ -2095,6 +2413,10 @@ public final class Analyzer implements NodeModifier {
             if(type.getKind() == Type.Kind.ARRAY)
                 new AnalyzingError.InvalidConstantAssignment(variableExpression, simpleName.getName());
 
+            //Make sure the field of this object is not assigned in a parallel iteration
+            if(parallelLambda != null && memberAccess.getMember() instanceof ThisExpression)
+                new AnalyzingError.ParallelFieldAssignment(variableExpression, simpleName.getName());
+
             ClassSymbol classSymbol = ((Object) type).getClassSymbol();
             FieldSymbol fieldSymbol = classSymbol.findField(simpleName.getName(), this.classSymbol);
 
@@ -2117,6 +2439,10 @@ public final class Analyzer implements NodeModifier {
             if(type.getKind() == Type.Kind.ARRAY)
                 new AnalyzingError.InvalidConstantAssignment(variableExpression, qualifiedName.getName());
 
+            //Make sure the static field is not assigned in a parallel iteration
+            if(parallelLambda != null && getTypeFromNode(qualifiedName.getQualifiedName()) != null)
+                new AnalyzingError.ParallelFieldAssignment(variableExpression, qualifiedName.getName());
+
             ClassSymbol classSymbol = ((Object) type).getClassSymbol();
             FieldSymbol fieldSymbol = classSymbol.findField(qualifiedName.getName(), this.classSymbol);
 
@@ -2139,6 +2465,639 @@ public final class Analyzer implements NodeModifier {
 
 
 
+    /**
+     * Captures the given variable in the current lambda expression
+     * if the variable is declared outside of it.
+     * @param variable the variable
+     */
+    private void captureVariable(Variable variable) {
+        if(isCapturedVariable(variable))
+            currentLambda.addCapturedVariable(variable);
+    }
+
+    /**
+     * Captures the this reference in the current lambda expression.
+     */
+    private void captureThis() {
+        if(currentLambda != null)
+            currentLambda.setCapturingThis();
+    }
+
+    /**
+     * Returns whether the given variable is declared outside of the current lambda expression.
+     * @param variable the variable
+     * @return true if the variable is captured
+     */
+    private boolean isCapturedVariable(Variable variable) {
+        return currentLambda != null && variable.getIndex() < lambdaVariableCounter;
+    }
+
+    /**
+     * Visits the given parallel sum-expression or prod-expression, and transforms it to a call to the
+     * parallel reduction method with the given name. The body expression is lifted into a lambda method
+     * of the loop variable, whose functional interface depends on the body expression type.
+     * @param reduction the parallel sum-expression or prod-expression
+     * @param variableInitialization the variable initialization
+     * @param condition the condition expression
+     * @param incrementExpression the increment expression
+     * @param expression the body expression
+     * @param methodName the parallel reduction method name
+     * @return the transformed node
+     */
+    private Expression visitParallelReduction(Expression reduction, Statement variableInitialization, Expression condition,
+                                              Statement incrementExpression, Expression expression, String methodName) {
+        //Make sure the range is an integer range incremented by one
+        if(!isParallelRange(variableInitialization, condition, incrementExpression))
+            new AnalyzingError.InvalidParallelRange(reduction);
+
+        VariableDeclaration variableDeclaration = (VariableDeclaration) variableInitialization;
+        BinaryExpression binaryExpression = (BinaryExpression) condition;
+        Primitive integerType = new Primitive(Primitive.Kind.INTEGER);
+
+        //Generate the exclusive upper bound
+        Expression bound = binaryExpression.getSecond();
+        if(binaryExpression.getKind() == BinaryExpression.Kind.COMPARISON_LESS_EQUAL) {
+            Literal.Integer literal = new Literal.Integer(bound.getMeta(), 1);
+            BinaryExpression additionExpression = new BinaryExpression(bound.getMeta());
+            additionExpression.setKind(BinaryExpression.Kind.OPERATION_ADDITION);
+            additionExpression.setFirst(bound);
+            additionExpression.setSecond(literal);
+            bound = additionExpression;
+        }
+
+        //Visit range bounds
+        Expression from = variableDeclaration.getInitializationExpression().accept(this);
+        Expression to = bound.accept(this);
+
+        //Make sure the range bounds are integers
+        if(!from.getExpressionType().equals(integerType))
+            new AnalyzingError.TypeConversion(from, from.getExpressionType(), integerType);
+        if(!to.getExpressionType().equals(integerType))
+            new AnalyzingError.TypeConversion(to, to.getExpressionType(), integerType);
+
+        //Generate lambda expression of the loop variable
+        ParameterList parameterList = new ParameterList(reduction.getMeta());
+        parameterList.addParameter(NodeGenerator.forParameter(variableDeclaration.getName(), integerType));
+
+        LambdaExpression lambdaExpression = new LambdaExpression(reduction.getMeta());
+        lambdaExpression.setParameterList(parameterList);
+
+        MethodDeclaration methodDeclaration = new MethodDeclaration(reduction.getMeta());
+        methodDeclaration.setName(getLambdaMethodName());
+        methodDeclaration.setParameterList(parameterList);
+
+        //Visit body expression
+        expression = (Expression) visitLambdaBody(lambdaExpression, methodDeclaration, expression);
+        Type type = expression.getExpressionType();
+
+        //Make sure the expression type is a numerical expression
+        if(!(type instanceof Primitive primitive && primitive.isNumericalType()))
+            new AnalyzingError.ExpectedNumericalExpression(expression);
+
+        //Find the functional interface corresponding to the expression type
+        Primitive.Kind kind = ((Primitive) type).getPrimitiveKind();
+        ClassSymbol interfaceSymbol = Classes.findClass(switch(kind) {
+            case LONG -> ClassName.INT_TO_LONG_FUNCTION;
+            case FLOAT -> ClassName.INT_TO_FLOAT_FUNCTION;
+            case DOUBLE -> ClassName.INT_TO_DOUBLE_FUNCTION;
+            default -> ClassName.INT_UNARY_OPERATOR;
+        });
+        MethodSymbol interfaceMethodSymbol = interfaceSymbol.findFunctionalMethod();
+        Type returnType = interfaceMethodSymbol.getReturnType();
+
+        //Generate lambda method body
+        ReturnStatement returnStatement = new ReturnStatement(expression.getMeta());
+        returnStatement.setExpression(generateCastExpression(expression, returnType));
+
+        StatementBlock statementBlock = new StatementBlock(expression.getMeta());
+        statementBlock.addStatement(returnStatement);
+
+        methodDeclaration.setBody(statementBlock);
+        methodDeclaration.setReturnType(NodeGenerator.forType(returnType));
+
+        //Add lambda method to the class
+        addLambdaMethod(lambdaExpression, methodDeclaration, parameterList.getParameters(), interfaceMethodSymbol);
+        lambdaExpression.setBody(statementBlock);
+        lambdaExpression.setExpressionType(new Object(interfaceSymbol));
+
+        //Generate parallel reduction method call
+        ArgumentList argumentList = new ArgumentList(reduction.getMeta());
+        argumentList.addArgument(from);
+        argumentList.addArgument(to);
+        argumentList.addArgument(lambdaExpression);
+
+        MethodCall methodCall = new MethodCall(reduction.getMeta());
+        methodCall.setMethodName(methodName);
+        methodCall.setArgumentList(argumentList);
+
+        ClassSymbol parallelSymbol = Classes.findClass(ClassName.PARALLEL);
+        Expression member = NodeGenerator.forType(new Object(parallelSymbol));
+        MemberAccess memberAccess = NodeGenerator.forMemberAccess(member, methodCall);
+
+        //Find parallel reduction method
+        Type[] argumentTypes = getTypesFromArguments(argumentList);
+        MethodSymbol methodSymbol = parallelSymbol.findMethod(methodName, argumentTypes, classSymbol, methodCall);
+
+        //Make sure the method exists
+        if(methodSymbol == null)
+            new AnalyzingError.UnresolvableMethod(methodCall, methodName, argumentTypes);
+
+        //Define resulting type
+        memberAccess.setExpressionType(methodSymbol.getReturnType());
+
+        return generateCastExpression(memberAccess, type);
+    }
+
+    /**
+     * Visits the given parallel foreach-statement. The iterable expression is stored in a local variable,
+     * and the body is lifted in a lambda method called for every index of the iterable, which
+     * is split in ranges run on the common fork-join pool.
+     * @param foreachStatement the foreach-statement
+     * @return the generated statements block
+     */
+    private Statement visitParallelForeachStatement(ForeachStatement foreachStatement) {
+        //Get the amount of previous local variables
+        int previousVariableCount = variableTable.getVariableCount();
+
+        Node.Meta meta = foreachStatement.getMeta();
+        String iterableName = "parallel$" + parallelForeachCount++;
+        String indexName = iterableName + "$index";
+        Primitive integerType = new Primitive(Primitive.Kind.INTEGER);
+
+        //Visit iterable expression
+        Expression expression = foreachStatement.getExpression().accept(this);
+        Type iterableType = expression.getExpressionType();
+
+        //Make sure the expression is an array or an array list
+        boolean isArray = iterableType.getKind() == Type.Kind.ARRAY;
+        if(!isArray && !(iterableType instanceof Object object
+                && object.getClassSymbol().getClassName().equals(ClassName.ARRAY_LIST)))
+            new AnalyzingError.InvalidParallelIterable(expression);
+
+        //Store the iterable expression in a local variable
+        VariableDeclaration iterableDeclaration = NodeGenerator.forVariableDeclaration(iterableName, expression);
+        variableTable.addVariable(iterableType, iterableName, true).setAsAssigned();
+
+        VariableDeclaration variableDeclaration = (VariableDeclaration) foreachStatement.getVariableDeclaration();
+        Type variableType = getTypeFromNode(variableDeclaration.getType());
+
+        //Make sure the type is valid
+        if(variableType == null)
+            new AnalyzingError.UnresolvableClass(variableDeclaration.getType(), variableDeclaration.getType().toString());
+
+        //Generate element access
+        Expression iterable = NodeGenerator.forSimpleName(iterableName, null);
+        Expression index = NodeGenerator.forSimpleName(indexName, null);
+        Expression element;
+        if(isArray) {
+            ArrayAccess arrayAccess = new ArrayAccess(meta);
+            arrayAccess.setArray(iterable);
+            arrayAccess.setAccessExpression(index);
+            element = arrayAccess;
+        } else {
+            //Make sure the elements can be cast to the variable type
+            if(variableType.getKind() == Type.Kind.PRIMITIVE)
+                new AnalyzingError.TypeConversion(variableDeclaration,
+                        new Object(LibraryClasses.findClass(ClassName.OBJECT)), variableType);
+
+            ArgumentList argumentList = new ArgumentList(meta);
+            argumentList.addArgument(index);
+
+            MethodCall methodCall = new MethodCall(meta);
+            methodCall.setMethodName("get");
+            methodCall.setArgumentList(argumentList);
+
+            CastExpression castExpression = new CastExpression(meta);
+            castExpression.setExpression(NodeGenerator.forMemberAccess(iterable, methodCall));
+            castExpression.setCastType(NodeGenerator.forType(variableType));
+            element = castExpression;
+        }
+
+        //Generate iteration body with the element variable
+        variableDeclaration.setInitializationExpression(element);
+
+        StatementBlock statementBlock = new StatementBlock(meta);
+        statementBlock.addStatement(variableDeclaration);
+        statementBlock.addStatement(foreachStatement.getBody());
+
+        //Generate lambda expression of the index variable
+        ParameterList parameterList = new ParameterList(meta);
+        parameterList.addParameter(NodeGenerator.forParameter(indexName, integerType));
+
+        LambdaExpression lambdaExpression = new LambdaExpression(meta);
+        lambdaExpression.setParameterList(parameterList);
+
+        MethodDeclaration methodDeclaration = new MethodDeclaration(meta);
+        methodDeclaration.setName(getLambdaMethodName());
+        methodDeclaration.setParameterList(parameterList);
+
+        //Visit iteration body
+        LambdaExpression previousParallelLambda = parallelLambda;
+        parallelLambda = lambdaExpression;
+        statementBlock = (StatementBlock) visitLambdaBody(lambdaExpression, methodDeclaration, statementBlock);
+        parallelLambda = previousParallelLambda;
+
+        //Add lambda method to the class
+        ClassSymbol interfaceSymbol = LibraryClasses.findClass(ClassName.INT_CONSUMER);
+        methodDeclaration.setBody(statementBlock);
+        addLambdaMethod(lambdaExpression, methodDeclaration, parameterList.getParameters(), interfaceSymbol.findFunctionalMethod());
+        lambdaExpression.setBody(statementBlock);
+        lambdaExpression.setExpressionType(new Object(interfaceSymbol));
+
+        //Visit iterable size
+        Expression size;
+        if(isArray) {
+            size = NodeGenerator.forMemberAccess(NodeGenerator.forSimpleName(iterableName, null),
+                    NodeGenerator.forSimpleName("size", null));
+        } else {
+            MethodCall methodCall = new MethodCall(meta);
+            methodCall.setMethodName("size");
+            methodCall.setArgumentList(new ArgumentList(meta));
+            size = NodeGenerator.forMemberAccess(NodeGenerator.forSimpleName(iterableName, null), methodCall);
+        }
+        size = size.accept(this);
+
+        //Generate parallel iteration method call
+        ArgumentList argumentList = new ArgumentList(meta);
+        argumentList.addArgument(size);
+        argumentList.addArgument(lambdaExpression);
+
+        MethodCall methodCall = new MethodCall(meta);
+        methodCall.setMethodName("forEach");
+        methodCall.setArgumentList(argumentList);
+
+        ClassSymbol parallelSymbol = Classes.findClass(ClassName.PARALLEL);
+        MemberAccess memberAccess = NodeGenerator.forMemberAccess(NodeGenerator.forType(new Object(parallelSymbol)), methodCall);
+
+        //Find parallel iteration method
+        Type[] argumentTypes = getTypesFromArguments(argumentList);
+        MethodSymbol methodSymbol = parallelSymbol.findMethod("forEach", argumentTypes, classSymbol, methodCall);
+
+        //Make sure the method exists
+        if(methodSymbol == null)
+            new AnalyzingError.UnresolvableMethod(methodCall, "forEach", argumentTypes);
+
+        //Define resulting type
+        memberAccess.setExpressionType(methodSymbol.getReturnType());
+
+        ExpressionStatement expressionStatement = new ExpressionStatement(meta);
+        expressionStatement.setExpression(memberAccess);
+
+        //Remove local variables added in this foreach-statement
+        variableTable.removeVariables(variableTable.getVariableCount() - previousVariableCount);
+
+        StatementBlock foreachBlock = new StatementBlock(meta);
+        foreachBlock.addStatement(iterableDeclaration);
+        foreachBlock.addStatement(expressionStatement);
+
+        return foreachBlock;
+    }
+
+    /**
+     * Returns whether the given variable initialization, condition and increment expression form
+     * an integer range, which is incremented by one up to a bound.
+     * @param variableInitialization the variable initialization
+     * @param condition the condition expression
+     * @param incrementExpression the increment expression
+     * @return true if the range is a parallel range
+     */
+    private boolean isParallelRange(Statement variableInitialization, Expression condition, Statement incrementExpression) {
+        //Make sure the variable is an initialized integer
+        if(!(variableInitialization instanceof VariableDeclaration variableDeclaration)
+                || !(variableDeclaration.getType() instanceof PrimitiveType primitiveType)
+                || primitiveType.getKind() != Primitive.Kind.INTEGER
+                || variableDeclaration.getInitializationExpression() == null)
+            return false;
+
+        String name = variableDeclaration.getName();
+
+        //Make sure the condition compares the variable to a bound
+        if(!(condition instanceof BinaryExpression binaryExpression)
+                || binaryExpression.getKind() != BinaryExpression.Kind.COMPARISON_LESS
+                && binaryExpression.getKind() != BinaryExpression.Kind.COMPARISON_LESS_EQUAL
+                || !isSimpleName(binaryExpression.getFirst(), name))
+            return false;
+
+        if(!(incrementExpression instanceof ExpressionStatement expressionStatement))
+            return false;
+
+        //Make sure the variable is incremented by one
+        if(expressionStatement.getExpression() instanceof UnaryExpression unaryExpression)
+            return unaryExpression.getKind().isIncrement() && isSimpleName(unaryExpression.getExpression(), name);
+
+        return expressionStatement.getExpression() instanceof AssignmentExpression assignmentExpression
+                && assignmentExpression.getKind() == AssignmentExpression.Kind.ASSIGNMENT_ADDITION
+                && isSimpleName(assignmentExpression.getVariable(), name)
+                && assignmentExpression.getExpression() instanceof Literal.Integer literal
+                && literal.getValue() == 1;
+    }
+
+    /**
+     * Returns whether the given expression is a simple name with the given name.
+     * @param expression the expression
+     * @param name the name
+     * @return true if the expression is the simple name
+     */
+    private boolean isSimpleName(Expression expression, String name) {
+        return expression instanceof SimpleName simpleName && simpleName.getName().equals(name);
+    }
+
+    /**
+     * Generates the statements of the given thread-statement. Every statement of the body is forked
+     * as a task in a new task scope, and the scope is joined after the last task.
+     * The variables declared in the body are then declared with the results of their task futures.
+     * @param threadStatement the thread-statement
+     * @return the generated statements
+     */
+    private List<Statement> generateThreadStatements(ThreadStatement threadStatement) {
+        Node.Meta meta = threadStatement.getMeta();
+        String scopeName = "thread$" + threadScopeCount++;
+
+        List<Statement> statements = new ArrayList<>();
+        List<Statement> resultStatements = new ArrayList<>();
+
+        //Open the task scope
+        VariableDeclaration scopeDeclaration = new VariableDeclaration(meta);
+        scopeDeclaration.setName(scopeName);
+        scopeDeclaration.setType(NodeGenerator.forType(new Object(Classes.findClass(ClassName.ASYNC).findClass("Scope"))));
+        scopeDeclaration.setInitializationExpression(generateAsyncCall(meta, "open"));
+        statements.add(scopeDeclaration);
+
+        for(Statement statement : ((StatementBlock) threadStatement.getBody()).getStatements()) {
+            Expression task;
+
+            if(statement instanceof VariableDeclaration variableDeclaration
+                    && variableDeclaration.getInitializationExpression() != null) {
+                Node type = variableDeclaration.getType();
+                Type variableType = getTypeFromNode(type);
+
+                //Make sure the type is valid
+                if(variableType == null)
+                    new AnalyzingError.UnresolvableClass(type, type.toString());
+
+                //Infer type before the expression is moved into the task
+                Expression expression = variableDeclaration.getInitializationExpression();
+                inferType(expression, variableType);
+
+                task = generateTaskLambda(statement.getMeta(), expression, getAsyncTaskSymbol(type));
+
+                //Declare the task future of the variable
+                String futureName = scopeName + "$" + variableDeclaration.getName();
+                VariableDeclaration futureDeclaration = new VariableDeclaration(statement.getMeta());
+                futureDeclaration.setName(futureName);
+                futureDeclaration.setType(NodeGenerator.forType(new Object(LibraryClasses.findClass(ClassName.FUTURE))));
+                futureDeclaration.setInitializationExpression(generateAsyncCall(meta, "fork",
+                        NodeGenerator.forSimpleName(scopeName, null), task));
+                statements.add(futureDeclaration);
+
+                //Initialize the variable with the task result
+                Expression result = NodeGenerator.forSimpleName(futureName, null);
+                if(variableType instanceof Primitive primitive) {
+                    result = generateAsyncCall(meta, "get" + getPrimitiveName(primitive), result);
+                } else {
+                    CastExpression castExpression = new CastExpression(meta);
+                    castExpression.setExpression(generateAsyncCall(meta, "get", result));
+                    castExpression.setCastType(NodeGenerator.forType(variableType));
+                    result = castExpression;
+                }
+
+                variableDeclaration.setInitializationExpression(result);
+                resultStatements.add(variableDeclaration);
+            } else if(statement instanceof ExpressionStatement) {
+                StatementBlock body = new StatementBlock(statement.getMeta());
+                body.addStatement(statement);
+                task = generateTaskLambda(statement.getMeta(), body, getAsyncTaskSymbol(null));
+
+                //Fork the statement
+                ExpressionStatement forkStatement = new ExpressionStatement(statement.getMeta());
+                forkStatement.setExpression(generateAsyncCall(meta, "fork",
+                        NodeGenerator.forSimpleName(scopeName, null), task));
+                statements.add(forkStatement);
+            } else {
+                new AnalyzingError.InvalidThreadStatement(statement);
+            }
+        }
+
+        //Join the task scope
+        ExpressionStatement joinStatement = new ExpressionStatement(meta);
+        joinStatement.setExpression(generateAsyncCall(meta, "join", NodeGenerator.forSimpleName(scopeName, null)));
+        statements.add(joinStatement);
+
+        statements.addAll(resultStatements);
+
+        return statements;
+    }
+
+    /**
+     * Generates a call to the method of the Async class with the given name and arguments.
+     * @param meta the node meta
+     * @param methodName the method name
+     * @param arguments the arguments
+     * @return the method call
+     */
+    private Expression generateAsyncCall(Node.Meta meta, String methodName, Expression... arguments) {
+        ArgumentList argumentList = new ArgumentList(meta);
+        for(Expression argument : arguments)
+            argumentList.addArgument(argument);
+
+        MethodCall methodCall = new MethodCall(meta);
+        methodCall.setMethodName(methodName);
+        methodCall.setArgumentList(argumentList);
+
+        return NodeGenerator.forMemberAccess(NodeGenerator.forType(new Object(Classes.findClass(ClassName.ASYNC))), methodCall);
+    }
+
+    /**
+     * Generates a lambda expression without parameters with the given body and functional interface.
+     * @param meta the node meta
+     * @param body the lambda body
+     * @param interfaceSymbol the functional interface symbol
+     * @return the lambda expression
+     */
+    private LambdaExpression generateTaskLambda(Node.Meta meta, Node body, ClassSymbol interfaceSymbol) {
+        LambdaExpression lambdaExpression = new LambdaExpression(meta);
+        lambdaExpression.setParameterList(new ParameterList(meta));
+        lambdaExpression.setBody(body);
+        lambdaExpression.setExpressionType(new Object(interfaceSymbol));
+
+        return lambdaExpression;
+    }
+
+    /**
+     * Generates a cast of the given analyzed expression to the given type,
+     * or returns the expression itself if it already has the given type.
+     * @param expression the expression
+     * @param type the cast type
+     * @return the cast expression
+     */
+    private Expression generateCastExpression(Expression expression, Type type) {
+        if(expression.getExpressionType().equals(type))
+            return expression;
+
+        CastExpression castExpression = new CastExpression(expression.getMeta());
+        castExpression.setExpression(expression);
+        castExpression.setCastType(NodeGenerator.forType(type));
+        castExpression.setExpressionType(type);
+
+        return castExpression;
+    }
+
+    /**
+     * Returns the symbol of the task functional interface of an asynchronous method with the given return type node.
+     * @param returnType the return type node
+     * @return the task interface symbol
+     */
+    private ClassSymbol getAsyncTaskSymbol(Node returnType) {
+        //Run void methods as runnable tasks
+        if(returnType == null)
+            return LibraryClasses.findClass(ClassName.RUNNABLE);
+
+        //Run primitive methods as primitive tasks
+        if(getTypeFromNode(returnType) instanceof Primitive primitive)
+            return Classes.findClass(ClassName.ASYNC).findClass(getPrimitiveName(primitive) + "Task");
+
+        return LibraryClasses.findClass(ClassName.CALLABLE);
+    }
+
+    /**
+     * Returns the symbol of the method called by the given expression,
+     * or null if the expression is not a method call.
+     * @param expression the expression
+     * @return the called method symbol
+     */
+    private MethodSymbol findCalledMethod(Expression expression) {
+        //Find method in current class
+        if(expression instanceof MethodCall methodCall && methodCall.getMethod() == null)
+            return classSymbol.findMethod(methodCall.getMethodName(),
+                    getTypesFromArguments((ArgumentList) methodCall.getArgumentList()), classSymbol, methodCall);
+
+        //Find method in member class
+        if(expression instanceof MemberAccess memberAccess && memberAccess.getAccessor() instanceof MethodCall methodCall) {
+            Type memberType = memberAccess.getMember().getExpressionType();
+            if(memberType == null)
+                memberType = getTypeFromNode(memberAccess.getMember());
+
+            if(memberType instanceof Object object)
+                return object.getClassSymbol().findMethod(methodCall.getMethodName(),
+                        getTypesFromArguments((ArgumentList) methodCall.getArgumentList()), classSymbol, methodCall);
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the capitalized name of the given primitive type, used in the asynchronous task names.
+     * @param primitive the primitive type
+     * @return the primitive name
+     */
+    private String getPrimitiveName(Primitive primitive) {
+        return switch(primitive.getPrimitiveKind()) {
+            case BOOLEAN -> "Bool";
+            case BYTE -> "Byte";
+            case CHAR -> "Char";
+            case SHORT -> "Short";
+            case INTEGER -> "Int";
+            case LONG -> "Long";
+            case FLOAT -> "Float";
+            case DOUBLE -> "Double";
+        };
+    }
+
+    /**
+     * Visits the given lambda body in the context of the given lambda expression and lambda method,
+     * and propagates the captures of the lambda expression to the enclosing lambda expression.
+     * @param lambdaExpression the lambda expression
+     * @param methodDeclaration the lambda method declaration
+     * @param body the lambda body
+     * @return the visited lambda body
+     */
+    private Node visitLambdaBody(LambdaExpression lambdaExpression, MethodDeclaration methodDeclaration, Node body) {
+        //Retrieve the current method context
+        MethodDeclaration previousMethod = currentMethod;
+        LambdaExpression previousLambda = currentLambda;
+        int previousLambdaVariableCounter = lambdaVariableCounter;
+        int previousLoopLevel = currentLoopLevel;
+        int previousVariableCount = variableTable.getVariableCount();
+
+        currentMethod = methodDeclaration;
+        currentLambda = lambdaExpression;
+        lambdaVariableCounter = variableTable.getVariableCounter();
+        currentLoopLevel = 0;
+
+        //Visit parameters list
+        methodDeclaration.setParameterList(methodDeclaration.getParameterList().accept(this));
+
+        //Visit lambda body
+        body = body.accept(this);
+
+        //Remove lambda parameters from the table
+        variableTable.removeVariables(variableTable.getVariableCount() - previousVariableCount);
+
+        //Restore the previous method context
+        currentMethod = previousMethod;
+        currentLambda = previousLambda;
+        lambdaVariableCounter = previousLambdaVariableCounter;
+        currentLoopLevel = previousLoopLevel;
+
+        //Propagate captures to the enclosing lambda expression
+        for(Variable variable : lambdaExpression.getCapturedVariables())
+            captureVariable(variable);
+        if(lambdaExpression.isCapturingThis())
+            captureThis();
+
+        return body;
+    }
+
+    /**
+     * Adds the given lambda method declaration to the current class, with the captured variables
+     * added before the given lambda parameters.
+     * @param lambdaExpression the lambda expression
+     * @param methodDeclaration the lambda method declaration
+     * @param parameters the lambda parameters
+     * @param interfaceMethodSymbol the functional interface method symbol
+     */
+    private void addLambdaMethod(LambdaExpression lambdaExpression, MethodDeclaration methodDeclaration,
+                                 List<Node> parameters, MethodSymbol interfaceMethodSymbol) {
+        //Set lambda method static if this is not captured
+        if(!lambdaExpression.isCapturingThis())
+            methodDeclaration.setStatic();
+
+        //Add captured variables before lambda parameters
+        ParameterList parameterList = new ParameterList(lambdaExpression.getMeta());
+        for(Variable variable : lambdaExpression.getCapturedVariables())
+            parameterList.addParameter(NodeGenerator.forParameter(variable.getName(), variable.getType()));
+        for(Node parameter : parameters)
+            parameterList.addParameter(parameter);
+        methodDeclaration.setParameterList(parameterList);
+
+        //Add lambda method to the class
+        MethodSymbol methodSymbol = MethodSymbol.fromMethodDeclaration(methodDeclaration, classSymbol, importTable).asPrivateSynthetic();
+        classSymbol.addSymbol(methodSymbol);
+        classDefinition.addMethodDefinition(new MethodDefinition(methodDeclaration, methodSymbol));
+
+        lambdaExpression.setMethodSymbol(methodSymbol);
+        lambdaExpression.setInterfaceMethodSymbol(interfaceMethodSymbol);
+    }
+
+    /**
+     * Returns the name of the next lambda method, which is made from the enclosing method name.
+     * @return the lambda method name
+     */
+    private String getLambdaMethodName() {
+        String methodName;
+
+        if(currentMethod == null || currentMethod.isStaticConstructor())
+            methodName = isStaticContext ? "static" : "new";
+        else if(currentMethod.isConstructor())
+            methodName = "new";
+        else
+            methodName = currentMethod.getName();
+
+        return "lambda$" + methodName + "$" + lambdaCount++;
+    }
+
+
+
     //Matching and validating methods
 
     /**
@@ -2170,6 +3129,10 @@ public final class Analyzer implements NodeModifier {
                 classCreation.setExpressionType(type);
         }
 
+        //Infer type to lambda expression
+        if(expression instanceof LambdaExpression lambdaExpression)
+            lambdaExpression.setExpressionType(type);
+
         //Propagate type to if-expression
         if(expression instanceof IfExpression ifExpression
                 && type.getKind() == Type.Kind.OBJECT) {
@@ -2231,6 +3194,16 @@ public final class Analyzer implements NodeModifier {
                     && memberAccess.getAccessor() instanceof SimpleName);
     }
 
+    /**
+     * Returns whether the given type is an object type that can be iterated over.
+     * @param type the type
+     * @return true if the type is iterable
+     */
+    private boolean isIterableType(Type type) {
+        return type instanceof Object object
+                && object.getClassSymbol().isSubtypeOf(LibraryClasses.findClass(ClassName.ITERABLE));
+    }
+
     /**
      * Returns whether the given expression is a constant expression.
      * @param expression the expression
@@ -2240,6 +3213,38 @@ public final class Analyzer implements NodeModifier {
         return expression instanceof Literal;
     }
 
+    /**
+     * Returns whether the given type can be used as a switch-statement expression type.
+     * A type is switchable if it is an integer primitive, a string or an enum.
+     * @param type the type
+     * @return true if the type is switchable
+     */
+    private boolean isSwitchableType(Type type) {
+        if(type instanceof Primitive primitive)
+            return primitive.isIntegerType();
+
+        return type instanceof Object object
+                && object.getClassSymbol() != null
+                && (object.getClassSymbol().isEnum()
+                    || object.getClassSymbol().equals(LibraryClasses.findClass(ClassName.STRING)));
+    }
+
+    /**
+     * Returns the value of the given switch case expression, used to detect duplicate cases.
+     * @param expression the case expression
+     * @return the case value
+     */
+    private String getSwitchCaseValue(Expression expression) {
+        if(expression instanceof Literal.String string)
+            return String.valueOf(string.getValue());
+        else if(expression instanceof SimpleName simpleName)
+            return simpleName.getName();
+        else if(expression instanceof QualifiedName qualifiedName)
+            return qualifiedName.getName();
+        else
+            return expression.toString();
+    }
+
     /**
      * Matches the given node as a boolean expression, and throw an error
      * if the node is not a boolean expression.
@@ -2297,6 +3302,20 @@ public final class Analyzer implements NodeModifier {
         return type.isAssignableTo(new Object(classSymbol));
     }
 
+    /**
+     * Returns whether the given statements block contains a return statement.
+     * @param statementBlock the statements block
+     * @return true if there is a return statement
+     */
+    private boolean hasReturnStatement(StatementBlock statementBlock) {
+        for(Node statement : statementBlock.getStatements()) {
+            if(statement instanceof ReturnStatement)
+                return true;
+        }
+
+        return false;
+    }
+
     /**
      * Returns whether the given statement is a terminal statement.
      * A statement is terminal if it always terminates with either a return-statement or a throw-statement.
@@ -0,0 +1,375 @@
+package poly.compiler.analyzer;
+
+import poly.compiler.analyzer.type.Primitive;
+import poly.compiler.parser.tree.MethodDeclaration;
+import poly.compiler.parser.tree.Node;
+import poly.compiler.parser.tree.NodeVisitor;
+import poly.compiler.parser.tree.expression.*;
+import poly.compiler.parser.tree.statement.*;
+import poly.compiler.parser.tree.variable.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The Effects class. This class is used by the Optimizer class to collect the side effects of a part of the AST.
+ * This includes the names of the variables and fields that are declared or assigned, and whether
+ * any code outside the AST part may be executed, such as a method call or a class creation.
+ * Fields are tracked by name only, so that assigning a field of any object marks every field with this name.
+ * @author Vincent Philippe (@vincent64)
+ */
+final class Effects implements NodeVisitor {
+    private final Set<String> assignedNames;
+    private final Set<String> declaredNames;
+    private boolean isCalling;
+
+    private Effects() {
+        //Initialize names sets
+        assignedNames = new HashSet<>();
+        declaredNames = new HashSet<>();
+    }
+
+    /**
+     * Collects and returns the side effects of the given node.
+     * @param node the node
+     * @return the side effects
+     */
+    static Effects fromNode(Node node) {
+        Effects effects = new Effects();
+        if(node != null)
+            node.accept(effects);
+
+        return effects;
+    }
+
+    /**
+     * Collects and returns the side effects of every given node.
+     * @param nodes the nodes
+     * @return the side effects
+     */
+    static Effects fromNodes(List<? extends Node> nodes) {
+        Effects effects = new Effects();
+        for(Node node : nodes)
+            node.accept(effects);
+
+        return effects;
+    }
+
+    /**
+     * Adds the given name to the assigned names.
+     * @param name the variable or field name
+     */
+    void addAssignedName(String name) {
+        assignedNames.add(name);
+    }
+
+    /**
+     * Returns whether a variable or a field with the given name is declared or assigned.
+     * @param name the variable or field name
+     * @return true if the name is assigned
+     */
+    boolean isAssigned(String name) {
+        return assignedNames.contains(name);
+    }
+
+    /**
+     * Returns whether code outside the AST part may be executed, which could assign any field.
+     * @return true if code may be called
+     */
+    boolean isCalling() {
+        return isCalling;
+    }
+
+    /**
+     * Returns the names of the declared variables and parameters.
+     * @return the declared names
+     */
+    Set<String> getDeclaredNames() {
+        return declaredNames;
+    }
+
+    /**
+     * Visits the given assigned expression, and adds the assigned variable or field name.
+     * @param expression the assigned expression
+     */
+    private void visitAssignedExpression(Expression expression) {
+        if(expression instanceof SimpleName simpleName) {
+            assignedNames.add(simpleName.getName());
+        } else if(expression instanceof MemberAccess memberAccess
+                && memberAccess.getAccessor() instanceof SimpleName simpleName) {
+            assignedNames.add(simpleName.getName());
+            memberAccess.getMember().accept(this);
+        } else if(expression instanceof QualifiedName qualifiedName) {
+            assignedNames.add(qualifiedName.getName());
+            qualifiedName.getQualifiedName().accept(this);
+        } else {
+            expression.accept(this);
+        }
+    }
+
+    /**
+     * Adds the given declared variable or parameter name.
+     * @param name the name
+     */
+    private void addDeclaredName(String name) {
+        declaredNames.add(name);
+        assignedNames.add(name);
+    }
+
+    /**
+     * Visits the given node if it is not null.
+     * @param node the node
+     */
+    private void visitNode(Node node) {
+        if(node != null)
+            node.accept(this);
+    }
+
+    @Override
+    public void visitMethodDeclaration(MethodDeclaration methodDeclaration) {
+        visitNode(methodDeclaration.getParameterList());
+        visitNode(methodDeclaration.getBody());
+    }
+
+    @Override
+    public void visitAssertStatement(AssertStatement assertStatement) {
+        visitNode(assertStatement.getCondition());
+        visitNode(assertStatement.getExceptionExpression());
+    }
+
+    @Override
+    public void visitCaseStatement(CaseStatement caseStatement) {
+        visitNode(caseStatement.getExpression());
+        visitNode(caseStatement.getBody());
+    }
+
+    @Override
+    public void visitDoStatement(DoStatement doStatement) {
+        visitNode(doStatement.getBody());
+        visitNode(doStatement.getCondition());
+    }
+
+    @Override
+    public void visitExpressionStatement(ExpressionStatement expressionStatement) {
+        visitNode(expressionStatement.getExpression());
+    }
+
+    @Override
+    public void visitForStatement(ForStatement forStatement) {
+        visitNode(forStatement.getStatement());
+        visitNode(forStatement.getCondition());
+        visitNode(forStatement.getExpression());
+        visitNode(forStatement.getBody());
+    }
+
+    @Override
+    public void visitForeachStatement(ForeachStatement foreachStatement) {
+        visitNode(foreachStatement.getVariableDeclaration());
+        visitNode(foreachStatement.getExpression());
+        visitNode(foreachStatement.getBody());
+    }
+
+    @Override
+    public void visitIfStatement(IfStatement ifStatement) {
+        visitNode(ifStatement.getCondition());
+        visitNode(ifStatement.getBody());
+        visitNode(ifStatement.getElseBody());
+    }
+
+    @Override
+    public void visitMatchStatement(MatchStatement matchStatement) {
+        for(Statement statement : matchStatement.getCases())
+            statement.accept(this);
+        visitNode(matchStatement.getElseCase());
+    }
+
+    @Override
+    public void visitReturnStatement(ReturnStatement returnStatement) {
+        visitNode(returnStatement.getExpression());
+    }
+
+    @Override
+    public void visitStatementBlock(StatementBlock statementBlock) {
+        for(Statement statement : statementBlock.getStatements())
+            statement.accept(this);
+    }
+
+    @Override
+    public void visitSuperStatement(SuperStatement superStatement) {
+        isCalling = true;
+        visitNode(superStatement.getArgumentList());
+    }
+
+    @Override
+    public void visitSwitchStatement(SwitchStatement switchStatement) {
+        visitNode(switchStatement.getExpression());
+        for(Statement statement : switchStatement.getCases())
+            statement.accept(this);
+        visitNode(switchStatement.getElseCase());
+    }
+
+    @Override
+    public void visitThisStatement(ThisStatement thisStatement) {
+        isCalling = true;
+        visitNode(thisStatement.getArgumentList());
+    }
+
+    @Override
+    public void visitThrowStatement(ThrowStatement throwStatement) {
+        visitNode(throwStatement.getExpression());
+    }
+
+    @Override
+    public void visitTryStatement(TryStatement tryStatement) {
+        visitNode(tryStatement.getBody());
+        visitNode(tryStatement.getExceptionParameter());
+        visitNode(tryStatement.getCatchBody());
+    }
+
+    @Override
+    public void visitVariableDeclaration(VariableDeclaration variableDeclaration) {
+        addDeclaredName(variableDeclaration.getName());
+        visitNode(variableDeclaration.getInitializationExpression());
+    }
+
+    @Override
+    public void visitWhileStatement(WhileStatement whileStatement) {
+        visitNode(whileStatement.getCondition());
+        visitNode(whileStatement.getBody());
+    }
+
+    @Override
+    public void visitArrayAccess(ArrayAccess arrayAccess) {
+        visitNode(arrayAccess.getArray());
+        visitNode(arrayAccess.getAccessExpression());
+    }
+
+    @Override
+    public void visitArrayCreation(ArrayCreation arrayCreation) {
+        visitNode(arrayCreation.getInitializationExpression());
+    }
+
+    @Override
+    public void visitAssignmentExpression(AssignmentExpression assignmentExpression) {
+        //Compound assignments of objects call the operator overload
+        if(assignmentExpression.getKind() != AssignmentExpression.Kind.ASSIGNMENT
+                && !(assignmentExpression.getVariable().getExpressionType() instanceof Primitive))
+            isCalling = true;
+
+        visitAssignedExpression(assignmentExpression.getVariable());
+        visitNode(assignmentExpression.getExpression());
+    }
+
+    @Override
+    public void visitBinaryExpression(BinaryExpression binaryExpression) {
+        //Operations on objects may call methods, such as string concatenation
+        if(!(binaryExpression.getFirst().getExpressionType() instanceof Primitive)) {
+            switch(binaryExpression.getKind()) {
+                case REFERENCE_EQUAL, REFERENCE_NOT_EQUAL, COMPARISON_NULL -> {}
+                case TYPE_EQUAL, TYPE_NOT_EQUAL -> {
+                    visitNode(binaryExpression.getFirst());
+                    return;
+                }
+                default -> isCalling = true;
+            }
+        }
+
+        visitNode(binaryExpression.getFirst());
+        visitNode(binaryExpression.getSecond());
+    }
+
+    @Override
+    public void visitCastExpression(CastExpression castExpression) {
+        visitNode(castExpression.getExpression());
+    }
+
+    @Override
+    public void visitClassCreation(ClassCreation classCreation) {
+        isCalling = true;
+        visitNode(classCreation.getArgumentList());
+    }
+
+    @Override
+    public void visitIfExpression(IfExpression ifExpression) {
+        visitNode(ifExpression.getCondition());
+        visitNode(ifExpression.getExpression());
+        visitNode(ifExpression.getElseExpression());
+    }
+
+    @Override
+    public void visitLiteral(Literal literal) {
+        if(literal instanceof Literal.Array array) {
+            for(Expression expression : array.getElements())
+                expression.accept(this);
+        }
+    }
+
+    @Override
+    public void visitMemberAccess(MemberAccess memberAccess) {
+        //Static accesses may initialize another class
+        if(memberAccess.getMember().getExpressionType() == null)
+            isCalling = true;
+        else
+            memberAccess.getMember().accept(this);
+
+        if(memberAccess.getAccessor() instanceof MethodCall methodCall)
+            methodCall.accept(this);
+    }
+
+    @Override
+    public void visitMethodCall(MethodCall methodCall) {
+        isCalling = true;
+        visitNode(methodCall.getArgumentList());
+    }
+
+    @Override
+    public void visitProdExpression(ProdExpression prodExpression) {
+        visitNode(prodExpression.getVariableInitialization());
+        visitNode(prodExpression.getCondition());
+        visitNode(prodExpression.getIncrementExpression());
+        visitNode(prodExpression.getExpression());
+    }
+
+    @Override
+    public void visitQualifiedName(QualifiedName qualifiedName) {
+        //Static accesses may initialize another class
+        if(qualifiedName.getQualifiedName().getExpressionType() == null)
+            isCalling = true;
+        else
+            qualifiedName.getQualifiedName().accept(this);
+    }
+
+    @Override
+    public void visitSumExpression(SumExpression sumExpression) {
+        visitNode(sumExpression.getVariableInitialization());
+        visitNode(sumExpression.getCondition());
+        visitNode(sumExpression.getIncrementExpression());
+        visitNode(sumExpression.getExpression());
+    }
+
+    @Override
+    public void visitUnaryExpression(UnaryExpression unaryExpression) {
+        if(unaryExpression.getKind().isIncrement() || unaryExpression.getKind().isDecrement())
+            visitAssignedExpression(unaryExpression.getExpression());
+        else
+            visitNode(unaryExpression.getExpression());
+    }
+
+    @Override
+    public void visitArgumentList(ArgumentList argumentList) {
+        for(Expression expression : argumentList.getArguments())
+            expression.accept(this);
+    }
+
+    @Override
+    public void visitParameter(Parameter parameter) {
+        addDeclaredName(parameter.getName());
+    }
+
+    @Override
+    public void visitParameterList(ParameterList parameterList) {
+        for(Node node : parameterList.getParameters())
+            node.accept(this);
+    }
+}
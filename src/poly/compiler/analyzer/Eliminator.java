@@ -0,0 +1,395 @@
+package poly.compiler.analyzer;
+
+import poly.compiler.analyzer.Inspector.Purity;
+import poly.compiler.analyzer.type.Primitive;
+import poly.compiler.parser.tree.Node;
+import poly.compiler.parser.tree.NodeGenerator;
+import poly.compiler.parser.tree.expression.*;
+import poly.compiler.parser.tree.statement.*;
+import poly.compiler.parser.tree.variable.ArgumentList;
+import poly.compiler.parser.tree.variable.VariableDeclaration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The Eliminator class. This class is used by the Optimizer class to eliminate the common subexpressions
+ * of the basic blocks in a statements list. A basic block is a sequence of statements executed one after another,
+ * ending with a statement that may jump, such as an if-statement or a loop.
+ * An expression without side effects evaluated multiple times in a basic block is stored in a synthetic
+ * local variable, as long as none of its variables and fields are assigned between its evaluations.
+ * @author Vincent Philippe (@vincent64)
+ */
+final class Eliminator {
+    private static final String VARIABLE_PREFIX = "$common";
+    private final Inspector inspector;
+    private int variableCount;
+
+    Eliminator(Inspector inspector) {
+        this.inspector = inspector;
+    }
+
+    /**
+     * Eliminates the common subexpressions of every basic block in the given statements list.
+     * The synthetic variable declarations are inserted in the list.
+     * @param statements the statements list
+     */
+    void eliminate(List<Statement> statements) {
+        int start = 0;
+        for(int i = 0; i <= statements.size(); i++) {
+            //Find the end of the basic block
+            if(i < statements.size() && isSequentialStatement(statements.get(i)))
+                continue;
+
+            //Include the expression evaluated before the jump
+            int end = i < statements.size() && getJumpExpression(statements.get(i)) != null ? i + 1 : i;
+
+            i += eliminateBlock(statements, start, end);
+            start = i + 1;
+        }
+    }
+
+    /**
+     * Eliminates the common subexpressions of the basic block between the given indices,
+     * and returns the amount of synthetic variable declarations inserted.
+     * @param statements the statements list
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the amount of inserted declarations
+     */
+    private int eliminateBlock(List<Statement> statements, int start, int end) {
+        int count = 0;
+        while(true) {
+            //Collect every evaluated expression
+            List<Occurrence> occurrences = new ArrayList<>();
+            for(int i = start; i < end + count; i++)
+                collectStatement(statements.get(i), i, occurrences);
+
+            //Find the largest common subexpression
+            List<Occurrence> group = findGroup(statements, occurrences);
+            if(group == null)
+                return count;
+
+            if(replaceGroup(statements, group))
+                count++;
+        }
+    }
+
+    /**
+     * Finds and returns the occurrences of the largest expression that can be stored in a variable,
+     * or returns null if there is none.
+     * @param statements the statements list
+     * @param occurrences the occurrences in evaluation order
+     * @return the occurrences of the common subexpression
+     */
+    private List<Occurrence> findGroup(List<Statement> statements, List<Occurrence> occurrences) {
+        List<Occurrence> bestGroup = null;
+        int bestSize = 0;
+
+        for(int i = 0; i < occurrences.size(); i++) {
+            Expression expression = occurrences.get(i).expression;
+            int size = getSize(expression);
+            if(size <= bestSize)
+                continue;
+
+            //Find the equivalent expressions evaluated after the expression, until it may change
+            List<Occurrence> group = new ArrayList<>();
+            group.add(occurrences.get(i));
+            for(int j = i + 1; j < occurrences.size(); j++) {
+                Occurrence occurrence = occurrences.get(j);
+                if(!inspector.isEquivalent(expression, occurrence.expression))
+                    continue;
+
+                if(!isInvariant(expression, statements, group.getFirst().index, occurrence.index))
+                    break;
+
+                group.add(occurrence);
+            }
+
+            if(group.size() >= 2) {
+                bestGroup = group;
+                bestSize = size;
+            }
+        }
+
+        return bestGroup;
+    }
+
+    /**
+     * Returns whether the given expression keeps its value while evaluating the statements between the given indices.
+     * @param expression the expression
+     * @param statements the statements list
+     * @param start the first statement index
+     * @param end the last statement index
+     * @return true if the expression is invariant
+     */
+    private boolean isInvariant(Expression expression, List<Statement> statements, int start, int end) {
+        List<Node> nodes = new ArrayList<>();
+        for(int i = start; i <= end; i++)
+            nodes.add(getEvaluatedNode(statements.get(i)));
+
+        return inspector.isInvariant(expression, Effects.fromNodes(nodes));
+    }
+
+    /**
+     * Replaces the given occurrences with a synthetic variable, and inserts its declaration
+     * before the statement of the first occurrence. Returns whether a declaration was inserted,
+     * as the variable of a synthetic declaration initialized with the expression is reused.
+     * @param statements the statements list
+     * @param group the occurrences of the common subexpression
+     * @return true if a declaration was inserted
+     */
+    private boolean replaceGroup(List<Statement> statements, List<Occurrence> group) {
+        Occurrence first = group.getFirst();
+        Expression expression = first.expression;
+
+        //Reuse the synthetic variable initialized with the expression
+        if(statements.get(first.index) instanceof VariableDeclaration declaration
+                && declaration.getInitializationExpression() == expression
+                && inspector.isSyntheticVariable(declaration.getName())) {
+            for(Occurrence occurrence : group.subList(1, group.size()))
+                occurrence.replacer.accept(NodeGenerator.forSimpleName(declaration.getName(), expression.getExpressionType()));
+
+            return false;
+        }
+
+        String name = VARIABLE_PREFIX + variableCount++;
+        inspector.addSyntheticVariable(name);
+
+        VariableDeclaration variableDeclaration;
+        if(inspector.getPurity(expression) == Purity.SAFE) {
+            //Evaluate the expression before the statement
+            variableDeclaration = NodeGenerator.forVariableDeclaration(name, expression);
+            first.replacer.accept(NodeGenerator.forSimpleName(name, expression.getExpressionType()));
+        } else {
+            //Assign the variable where the expression is first evaluated, in case it throws an exception
+            variableDeclaration = NodeGenerator.forVariableDeclaration(name, expression.getExpressionType());
+            first.replacer.accept(NodeGenerator.forAssignmentExpression(name, expression));
+        }
+
+        //Replace the other occurrences
+        for(Occurrence occurrence : group.subList(1, group.size()))
+            occurrence.replacer.accept(NodeGenerator.forSimpleName(name, expression.getExpressionType()));
+
+        statements.add(first.index, variableDeclaration);
+
+        return true;
+    }
+
+    /**
+     * Returns whether the given statement is always followed by the next statement.
+     * @param statement the statement
+     * @return true if the statement is sequential
+     */
+    private boolean isSequentialStatement(Statement statement) {
+        return statement instanceof ExpressionStatement || statement instanceof VariableDeclaration;
+    }
+
+    /**
+     * Returns the expression evaluated by the given statement before jumping, or null if there is none.
+     * @param statement the statement
+     * @return the jump expression
+     */
+    private Expression getJumpExpression(Statement statement) {
+        return switch(statement) {
+            case IfStatement ifStatement -> ifStatement.getCondition();
+            case SwitchStatement switchStatement -> switchStatement.getExpression();
+            case ReturnStatement returnStatement -> returnStatement.getExpression();
+            case ThrowStatement throwStatement -> throwStatement.getExpression();
+            default -> null;
+        };
+    }
+
+    /**
+     * Returns the part of the given statement evaluated in the basic block.
+     * @param statement the statement
+     * @return the evaluated node
+     */
+    private Node getEvaluatedNode(Statement statement) {
+        return isSequentialStatement(statement) ? statement : getJumpExpression(statement);
+    }
+
+    /**
+     * Collects the expressions evaluated by the given statement in the basic block.
+     * @param statement the statement
+     * @param index the statement index
+     * @param occurrences the occurrences list
+     */
+    private void collectStatement(Statement statement, int index, List<Occurrence> occurrences) {
+        switch(statement) {
+            case ExpressionStatement expressionStatement ->
+                    collectExpression(expressionStatement.getExpression(), expressionStatement::setExpression, index, occurrences);
+            case VariableDeclaration variableDeclaration -> {
+                if(variableDeclaration.getInitializationExpression() != null)
+                    collectExpression(variableDeclaration.getInitializationExpression(),
+                            variableDeclaration::setInitializationExpression, index, occurrences);
+            }
+            case IfStatement ifStatement ->
+                    collectExpression(ifStatement.getCondition(), ifStatement::setCondition, index, occurrences);
+            case SwitchStatement switchStatement ->
+                    collectExpression(switchStatement.getExpression(), switchStatement::setExpression, index, occurrences);
+            case ReturnStatement returnStatement -> {
+                if(returnStatement.getExpression() != null)
+                    collectExpression(returnStatement.getExpression(), returnStatement::setExpression, index, occurrences);
+            }
+            case ThrowStatement throwStatement ->
+                    collectExpression(throwStatement.getExpression(), throwStatement::setExpression, index, occurrences);
+            default -> {}
+        }
+    }
+
+    /**
+     * Collects the given expression and its subexpressions that are always evaluated, in evaluation order.
+     * @param expression the expression
+     * @param replacer the consumer replacing the expression in its parent node
+     * @param index the statement index
+     * @param occurrences the occurrences list
+     */
+    private void collectExpression(Expression expression, Consumer<Expression> replacer, int index, List<Occurrence> occurrences) {
+        if(isCandidate(expression))
+            occurrences.add(new Occurrence(expression, replacer, index));
+
+        switch(expression) {
+            case BinaryExpression binaryExpression -> {
+                collectExpression(binaryExpression.getFirst(), binaryExpression::setFirst, index, occurrences);
+
+                //The second operand is not always evaluated
+                switch(binaryExpression.getKind()) {
+                    case LOGICAL_AND, LOGICAL_OR, COMPARISON_NULL, TYPE_EQUAL, TYPE_NOT_EQUAL -> {}
+                    default -> collectExpression(binaryExpression.getSecond(), binaryExpression::setSecond, index, occurrences);
+                }
+            }
+            case UnaryExpression unaryExpression -> {
+                if(unaryExpression.getKind().isIncrement() || unaryExpression.getKind().isDecrement())
+                    collectAssignedExpression(unaryExpression.getExpression(), index, occurrences);
+                else
+                    collectExpression(unaryExpression.getExpression(), unaryExpression::setExpression, index, occurrences);
+            }
+            case CastExpression castExpression ->
+                    collectExpression(castExpression.getExpression(), castExpression::setExpression, index, occurrences);
+            case MemberAccess memberAccess -> {
+                if(memberAccess.getMember().getExpressionType() != null)
+                    collectExpression(memberAccess.getMember(), memberAccess::setMember, index, occurrences);
+                if(memberAccess.getAccessor() instanceof MethodCall methodCall)
+                    collectArguments((ArgumentList) methodCall.getArgumentList(), index, occurrences);
+            }
+            case QualifiedName qualifiedName -> {
+                if(qualifiedName.getQualifiedName().getExpressionType() != null)
+                    collectExpression(qualifiedName.getQualifiedName(), qualifiedName::setQualifiedName, index, occurrences);
+            }
+            case ArrayAccess arrayAccess -> {
+                collectExpression(arrayAccess.getArray(), arrayAccess::setArray, index, occurrences);
+                collectExpression(arrayAccess.getAccessExpression(), arrayAccess::setAccessExpression, index, occurrences);
+            }
+            case ArrayCreation arrayCreation ->
+                    collectExpression(arrayCreation.getInitializationExpression(), arrayCreation::setInitializationExpression, index, occurrences);
+            case AssignmentExpression assignmentExpression -> {
+                collectAssignedExpression(assignmentExpression.getVariable(), index, occurrences);
+                collectExpression(assignmentExpression.getExpression(), assignmentExpression::setExpression, index, occurrences);
+            }
+            case MethodCall methodCall ->
+                    collectArguments((ArgumentList) methodCall.getArgumentList(), index, occurrences);
+            case ClassCreation classCreation ->
+                    collectArguments((ArgumentList) classCreation.getArgumentList(), index, occurrences);
+            case IfExpression ifExpression ->
+                    collectExpression(ifExpression.getCondition(), ifExpression::setCondition, index, occurrences);
+            case Literal.Array array ->
+                    collectExpressions(array.getElements(), index, occurrences);
+            default -> {}
+        }
+    }
+
+    /**
+     * Collects the subexpressions of the given assigned expression. The assigned variable or field itself is not collected.
+     * @param expression the assigned expression
+     * @param index the statement index
+     * @param occurrences the occurrences list
+     */
+    private void collectAssignedExpression(Expression expression, int index, List<Occurrence> occurrences) {
+        if(expression instanceof MemberAccess memberAccess) {
+            if(memberAccess.getMember().getExpressionType() != null)
+                collectExpression(memberAccess.getMember(), memberAccess::setMember, index, occurrences);
+        } else if(expression instanceof QualifiedName qualifiedName) {
+            if(qualifiedName.getQualifiedName().getExpressionType() != null)
+                collectExpression(qualifiedName.getQualifiedName(), qualifiedName::setQualifiedName, index, occurrences);
+        } else if(expression instanceof ArrayAccess arrayAccess) {
+            collectExpression(arrayAccess.getArray(), arrayAccess::setArray, index, occurrences);
+            collectExpression(arrayAccess.getAccessExpression(), arrayAccess::setAccessExpression, index, occurrences);
+        }
+    }
+
+    /**
+     * Collects the expressions of the given arguments list.
+     * @param argumentList the arguments list
+     * @param index the statement index
+     * @param occurrences the occurrences list
+     */
+    private void collectArguments(ArgumentList argumentList, int index, List<Occurrence> occurrences) {
+        if(argumentList != null)
+            collectExpressions(argumentList.getArguments(), index, occurrences);
+    }
+
+    /**
+     * Collects the expressions of the given expressions list.
+     * @param expressions the expressions list
+     * @param index the statement index
+     * @param occurrences the occurrences list
+     */
+    private void collectExpressions(List<Expression> expressions, int index, List<Occurrence> occurrences) {
+        for(int i = 0; i < expressions.size(); i++) {
+            int position = i;
+            collectExpression(expressions.get(i), expression -> expressions.set(position, expression), index, occurrences);
+        }
+    }
+
+    /**
+     * Returns whether the given expression may be stored in a variable.
+     * Boolean expressions are left to the conditional jumps.
+     * @param expression the expression
+     * @return true if the expression is a candidate
+     */
+    private boolean isCandidate(Expression expression) {
+        if(!(expression instanceof BinaryExpression || expression instanceof UnaryExpression
+                || expression instanceof CastExpression || expression instanceof MemberAccess
+                || expression instanceof QualifiedName || expression instanceof SimpleName))
+            return false;
+
+        if(expression.getExpressionType() instanceof Primitive primitive && primitive.isBooleanType())
+            return false;
+
+        return inspector.isWorthStoring(expression) && inspector.getPurity(expression) != Purity.IMPURE;
+    }
+
+    /**
+     * Returns the amount of nodes in the given expression.
+     * @param expression the expression
+     * @return the expression size
+     */
+    private int getSize(Expression expression) {
+        return switch(expression) {
+            case BinaryExpression binaryExpression -> 1 + getSize(binaryExpression.getFirst()) + getSize(binaryExpression.getSecond());
+            case UnaryExpression unaryExpression -> 1 + getSize(unaryExpression.getExpression());
+            case CastExpression castExpression -> 1 + getSize(castExpression.getExpression());
+            case MemberAccess memberAccess -> 1 + getSize(memberAccess.getMember());
+            case QualifiedName qualifiedName -> 1 + getSize(qualifiedName.getQualifiedName());
+            default -> 1;
+        };
+    }
+
+    /**
+     * The Eliminator.Occurrence class. This class represents an expression evaluated in a basic block,
+     * along with the index of its statement and the way to replace it in its parent node.
+     */
+    private static final class Occurrence {
+        private final Expression expression;
+        private final Consumer<Expression> replacer;
+        private final int index;
+
+        private Occurrence(Expression expression, Consumer<Expression> replacer, int index) {
+            this.expression = expression;
+            this.replacer = replacer;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package poly.compiler.analyzer;
+
+import poly.compiler.analyzer.Inspector.Purity;
+import poly.compiler.analyzer.type.Primitive;
+import poly.compiler.parser.tree.NodeGenerator;
+import poly.compiler.parser.tree.expression.*;
+import poly.compiler.parser.tree.statement.ExpressionStatement;
+import poly.compiler.parser.tree.statement.Statement;
+import poly.compiler.parser.tree.variable.VariableDeclaration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The Hoister class. This class is used by the Optimizer class to move loop-invariant expressions
+ * out of loops and summations. Each invariant expression is stored in a synthetic local variable
+ * declared before the outermost region it is invariant in, and is replaced by a read of this variable.
+ * Only expressions without side effects are hoisted. Expressions that may throw an exception,
+ * such as reading the size of an array, are only hoisted from the operands of a loop condition.
+ * @author Vincent Philippe (@vincent64)
+ */
+final class Hoister {
+    private static final String VARIABLE_PREFIX = "$invariant";
+    private final Inspector inspector;
+    private final List<Region> regions;
+    private int variableCount;
+
+    Hoister(Inspector inspector) {
+        this.inspector = inspector;
+
+        //Initialize regions list
+        regions = new ArrayList<>();
+    }
+
+    /**
+     * Creates and returns the region repeating the given statement.
+     * The hoisted variables of the region must be declared before the statement.
+     * @param statement the statement
+     * @return the region
+     */
+    Region createRegion(Statement statement) {
+        return new Region(Effects.fromNode(statement));
+    }
+
+    /**
+     * Enters the given region. The expressions visited until the region is exited
+     * are evaluated repeatedly in the region.
+     * @param region the region
+     */
+    void enterRegion(Region region) {
+        regions.add(region);
+    }
+
+    /**
+     * Exits the current region.
+     */
+    void exitRegion() {
+        regions.removeLast();
+    }
+
+    /**
+     * Hoists the given expression out of the outermost region it is invariant in,
+     * and returns the synthetic variable reference replacing it, or null if it cannot be hoisted.
+     * @param expression the expression
+     * @param optimizer the optimizer
+     * @return the synthetic variable reference
+     */
+    Expression hoistExpression(Expression expression, Optimizer optimizer) {
+        //Make sure the expression is worth and safe to hoist
+        if(regions.isEmpty() || !inspector.isWorthStoring(expression)
+                || inspector.getPurity(expression) != Purity.SAFE)
+            return null;
+
+        //Find the outermost region in which the expression is invariant
+        for(int i = 0; i < regions.size(); i++) {
+            if(inspector.isInvariant(expression, regions.get(i).effects))
+                return hoistExpression(expression, i, optimizer);
+        }
+
+        return null;
+    }
+
+    /**
+     * Hoists the operands of the given loop condition that may throw an exception out of the current region.
+     * These operands are evaluated anyway when entering the loop, as long as the preceding operands
+     * and the loop initialization statement cannot throw an exception.
+     * @param condition the loop condition
+     * @param initialization the loop initialization statement
+     * @param optimizer the optimizer
+     */
+    void hoistCondition(Expression condition, Statement initialization, Optimizer optimizer) {
+        //Make sure the condition is an operation on primitives evaluating both operands
+        if(!(condition instanceof BinaryExpression binaryExpression)
+                || binaryExpression.getKind() == BinaryExpression.Kind.LOGICAL_AND
+                || binaryExpression.getKind() == BinaryExpression.Kind.LOGICAL_OR
+                || !(binaryExpression.getFirst().getExpressionType() instanceof Primitive)
+                || !(binaryExpression.getSecond().getExpressionType() instanceof Primitive))
+            return;
+
+        //Make sure the initialization statement cannot throw an exception
+        if(initialization != null && !isSafeStatement(initialization))
+            return;
+
+        //Hoist the first operand
+        Expression first = binaryExpression.getFirst();
+        if(isHoistableOperand(first))
+            binaryExpression.setFirst(hoistExpression(first, regions.size() - 1, optimizer));
+        else if(inspector.getPurity(first) != Purity.SAFE)
+            return;
+
+        //Hoist the second operand
+        Expression second = binaryExpression.getSecond();
+        if(isHoistableOperand(second))
+            binaryExpression.setSecond(hoistExpression(second, regions.size() - 1, optimizer));
+    }
+
+    /**
+     * Hoists the given expression out of the region at the given index,
+     * and returns the synthetic variable reference replacing it.
+     * @param expression the expression
+     * @param index the region index
+     * @param optimizer the optimizer
+     * @return the synthetic variable reference
+     */
+    private Expression hoistExpression(Expression expression, int index, Optimizer optimizer) {
+        Region region = regions.get(index);
+
+        //Hoist the parts of the expression that are invariant in the outer regions
+        List<Region> innerRegions = new ArrayList<>(regions.subList(index, regions.size()));
+        regions.subList(index, regions.size()).clear();
+        expression = expression.accept(optimizer);
+        regions.addAll(innerRegions);
+
+        //Reuse the variable of an equivalent expression hoisted out of the same region
+        for(VariableDeclaration declaration : region.declarations) {
+            if(inspector.isEquivalent(declaration.getInitializationExpression(), expression))
+                return NodeGenerator.forSimpleName(declaration.getName(), expression.getExpressionType());
+        }
+
+        String name = VARIABLE_PREFIX + variableCount++;
+        inspector.addSyntheticVariable(name);
+
+        //Declare the synthetic variable before the region
+        region.declarations.add(NodeGenerator.forVariableDeclaration(name, expression));
+
+        //Mark the synthetic variable as assigned in the outer regions
+        for(int i = 0; i < index; i++)
+            regions.get(i).effects.addAssignedName(name);
+
+        return NodeGenerator.forSimpleName(name, expression.getExpressionType());
+    }
+
+    /**
+     * Returns whether the given condition operand may throw an exception
+     * and can be hoisted out of the current region.
+     * @param expression the operand expression
+     * @return true if the operand can be hoisted
+     */
+    private boolean isHoistableOperand(Expression expression) {
+        return inspector.isWorthStoring(expression)
+                && inspector.getPurity(expression) == Purity.THROWING
+                && inspector.isInvariant(expression, regions.getLast().effects);
+    }
+
+    /**
+     * Returns whether the given statement has no side effects outside local variables
+     * and cannot throw an exception.
+     * @param statement the statement
+     * @return true if the statement is safe
+     */
+    private boolean isSafeStatement(Statement statement) {
+        if(statement instanceof VariableDeclaration variableDeclaration) {
+            Expression expression = variableDeclaration.getInitializationExpression();
+
+            return expression == null || inspector.getPurity(expression) == Purity.SAFE;
+        }
+
+        if(statement instanceof ExpressionStatement expressionStatement
+                && expressionStatement.getExpression() instanceof AssignmentExpression assignmentExpression) {
+            return assignmentExpression.getKind() == AssignmentExpression.Kind.ASSIGNMENT
+                    && assignmentExpression.getVariable() instanceof SimpleName
+                    && inspector.getPurity(assignmentExpression.getExpression()) == Purity.SAFE;
+        }
+
+        return false;
+    }
+
+    /**
+     * The Hoister.Region class. This class represents a part of the AST that is evaluated repeatedly,
+     * such as a loop or the statement containing a summation. It contains the side effects of the region
+     * and the declarations of the variables hoisted out of it.
+     */
+    static final class Region {
+        private final Effects effects;
+        private final List<VariableDeclaration> declarations;
+
+        private Region(Effects effects) {
+            this.effects = effects;
+
+            //Initialize declarations list
+            declarations = new ArrayList<>();
+        }
+
+        /**
+         * Returns the declarations of the variables hoisted out of the region.
+         * @return the declarations
+         */
+        List<VariableDeclaration> getDeclarations() {
+            return declarations;
+        }
+    }
+}
@@ -0,0 +1,742 @@
+package poly.compiler.analyzer;
+
+import poly.compiler.analyzer.Inspector.Purity;
+import poly.compiler.analyzer.table.ImportTable;
+import poly.compiler.analyzer.type.Object;
+import poly.compiler.analyzer.type.Primitive;
+import poly.compiler.analyzer.type.Type;
+import poly.compiler.output.content.AccessModifier;
+import poly.compiler.parser.tree.FieldDeclaration;
+import poly.compiler.parser.tree.MethodDeclaration;
+import poly.compiler.parser.tree.Node;
+import poly.compiler.parser.tree.NodeGenerator;
+import poly.compiler.parser.tree.expression.*;
+import poly.compiler.parser.tree.statement.ReturnStatement;
+import poly.compiler.parser.tree.statement.Statement;
+import poly.compiler.parser.tree.statement.StatementBlock;
+import poly.compiler.parser.tree.variable.ArgumentList;
+import poly.compiler.parser.tree.variable.Parameter;
+import poly.compiler.parser.tree.variable.ParameterList;
+import poly.compiler.parser.tree.variable.VariableDeclaration;
+import poly.compiler.resolver.ClassDefinition;
+import poly.compiler.resolver.MethodDefinition;
+import poly.compiler.resolver.ProjectClasses;
+import poly.compiler.resolver.symbol.ClassSymbol;
+import poly.compiler.resolver.symbol.FieldSymbol;
+import poly.compiler.resolver.symbol.MethodSymbol;
+import poly.compiler.util.ClassName;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The Inliner class. This class is used by the Optimizer class to replace the calls to small methods
+ * with the body of the called method. Only the methods that cannot be overridden, and whose body
+ * only returns a small expression, are inlined. The parameters are replaced with the call arguments,
+ * which must be local variables, literals or safe expressions of local variables, so that the
+ * arguments can be moved into the body without changing the order of the side effects.
+ * The inlined nodes are attributed to the line of the call.
+ * @author Vincent Philippe (@vincent64)
+ */
+final class Inliner {
+    private static final int MAX_INLINED_SIZE = 12;
+    private static final int MAX_INLINING_DEPTH = 4;
+    private final Inspector inspector;
+    private final ClassSymbol classSymbol;
+    private final ImportTable importTable;
+    private final Map<String, Expression> arguments;
+    private final Map<String, Integer> argumentUses;
+    private ClassSymbol calleeSymbol;
+    private Expression receiver;
+    private Node.Meta meta;
+    private int size;
+    private int depth;
+
+    Inliner(Inspector inspector, ClassSymbol classSymbol, ImportTable importTable) {
+        this.inspector = inspector;
+        this.classSymbol = classSymbol;
+        this.importTable = importTable;
+
+        //Initialize arguments maps
+        arguments = new HashMap<>();
+        argumentUses = new HashMap<>();
+    }
+
+    /**
+     * Inlines the given method call of the current class, and returns the optimized inlined expression,
+     * or null if the method cannot be inlined.
+     * @param methodCall the method call
+     * @param optimizer the optimizer
+     * @return the inlined expression
+     */
+    Expression inlineExpression(MethodCall methodCall, Optimizer optimizer) {
+        if(methodCall.getMethod() != null)
+            return null;
+
+        MethodSymbol methodSymbol = classSymbol.findMethod(methodCall.getMethodName(),
+                getTypesFromArguments(methodCall), classSymbol, methodCall);
+
+        //Instance methods are called on the current object
+        if(methodSymbol == null || !methodSymbol.isStatic() && !methodSymbol.getClassSymbol().equals(classSymbol))
+            return null;
+
+        Expression receiver = null;
+        if(!methodSymbol.isStatic()) {
+            receiver = new ThisExpression(methodCall.getMeta());
+            receiver.setExpressionType(new Object(classSymbol));
+        }
+
+        return inlineMethod(methodSymbol, receiver, methodCall, methodCall.getExpressionType(), optimizer);
+    }
+
+    /**
+     * Inlines the given method call member access, and returns the optimized inlined expression,
+     * or null if the method cannot be inlined.
+     * @param memberAccess the member access
+     * @param optimizer the optimizer
+     * @return the inlined expression
+     */
+    Expression inlineExpression(MemberAccess memberAccess, Optimizer optimizer) {
+        if(!(memberAccess.getAccessor() instanceof MethodCall methodCall))
+            return null;
+
+        Expression member = memberAccess.getMember();
+
+        //Find the called class
+        Type memberType = member.getExpressionType() == null
+                ? Type.fromTypeNode(member, classSymbol, importTable)
+                : member.getExpressionType();
+        if(!(memberType instanceof Object object))
+            return null;
+
+        MethodSymbol methodSymbol = object.getClassSymbol().findMethod(methodCall.getMethodName(),
+                getTypesFromArguments(methodCall), classSymbol, methodCall);
+        if(methodSymbol == null)
+            return null;
+
+        //Inline static method
+        if(member.getExpressionType() == null)
+            return methodSymbol.isStatic()
+                    ? inlineMethod(methodSymbol, null, methodCall, memberAccess.getExpressionType(), optimizer)
+                    : null;
+
+        //Make sure the object is the current object or a local variable of the called class exactly
+        if(methodSymbol.isStatic() || !memberType.equals(new Object(methodSymbol.getClassSymbol())))
+            return null;
+
+        if(member instanceof ThisExpression && methodSymbol.getClassSymbol().equals(classSymbol)
+                || member instanceof SimpleName simpleName && inspector.isLocalVariable(simpleName.getName()))
+            return inlineMethod(methodSymbol, member, methodCall, memberAccess.getExpressionType(), optimizer);
+
+        return null;
+    }
+
+    /**
+     * Inlines the method with the given symbol called with the given receiver and method call,
+     * and returns the optimized inlined expression, or null if the method cannot be inlined.
+     * @param methodSymbol the method symbol
+     * @param receiver the receiver expression (null if the method is static)
+     * @param methodCall the method call
+     * @param type the call type
+     * @param optimizer the optimizer
+     * @return the inlined expression
+     */
+    private Expression inlineMethod(MethodSymbol methodSymbol, Expression receiver, MethodCall methodCall,
+                                    Type type, Optimizer optimizer) {
+        if(depth >= MAX_INLINING_DEPTH || !isInlinable(methodSymbol))
+            return null;
+
+        //Make sure the call does not skip the initialization of another class
+        if(methodSymbol.isStatic() && !isInitializationFree(methodSymbol.getClassSymbol()))
+            return null;
+
+        //Find the method declaration
+        ClassDefinition classDefinition = ProjectClasses.findClassDefinition(methodSymbol.getClassSymbol());
+        MethodDefinition methodDefinition = classDefinition != null
+                ? classDefinition.findMethodDefinition(methodSymbol)
+                : null;
+        if(methodDefinition == null)
+            return null;
+
+        MethodDeclaration methodDeclaration = methodDefinition.getMethodDeclaration();
+
+        //Make sure the body only returns an expression of the call type
+        List<Statement> statements = ((StatementBlock) methodDeclaration.getBody()).getStatements();
+        if(statements.size() != 1
+                || !(statements.getFirst() instanceof ReturnStatement returnStatement)
+                || returnStatement.getExpression() == null
+                || !Objects.equals(returnStatement.getExpression().getExpressionType(), type))
+            return null;
+
+        //Map parameters to arguments
+        if(!mapArguments(methodSymbol, methodDeclaration, methodCall))
+            return null;
+
+        calleeSymbol = methodSymbol.getClassSymbol();
+        this.receiver = receiver;
+        meta = methodCall.getMeta();
+        size = 0;
+
+        Expression expression = copyExpression(returnStatement.getExpression());
+        if(expression == null)
+            return null;
+
+        //Make sure the arguments that are not trivial are evaluated at most once
+        for(Map.Entry<String, Integer> argumentUse : argumentUses.entrySet()) {
+            if(argumentUse.getValue() > 1 && !isTrivial(arguments.get(argumentUse.getKey())))
+                return null;
+        }
+
+        //Make sure a null object still throws an exception before any side effect
+        if(receiver instanceof SimpleName simpleName && !isDereferencedFirst(expression, simpleName.getName()))
+            return null;
+
+        //Optimize the inlined expression
+        depth++;
+        expression = expression.accept(optimizer);
+        depth--;
+
+        return expression;
+    }
+
+    /**
+     * Returns whether the method with the given symbol can be inlined. The method must not be overridable.
+     * @param methodSymbol the method symbol
+     * @return true if the method can be inlined
+     */
+    private boolean isInlinable(MethodSymbol methodSymbol) {
+        if(methodSymbol.isEmpty() || methodSymbol.isConstructor() || methodSymbol.isStaticConstructor())
+            return false;
+
+        return methodSymbol.isStatic()
+                || methodSymbol.isConstant()
+                || methodSymbol.getAccessModifier() == AccessModifier.PRIVATE
+                || methodSymbol.getClassSymbol().isConstant();
+    }
+
+    /**
+     * Returns whether calling a static method of the given class cannot initialize the class with side effects.
+     * The class is already initialized if it is a superclass of the current class. Otherwise, the class must not
+     * be an enum, its static constructor must be empty, its static fields must only be initialized with literals,
+     * and the same must hold for its superclasses.
+     * @param ownerSymbol the class symbol of the called method
+     * @return true if the class initialization has no side effects
+     */
+    private boolean isInitializationFree(ClassSymbol ownerSymbol) {
+        if(ownerSymbol.getClassName().equals(ClassName.OBJECT))
+            return true;
+
+        //Classes are initialized before their subclasses
+        for(ClassSymbol symbol = classSymbol; symbol != null; symbol = (ClassSymbol) symbol.getSuperclassSymbol()) {
+            if(symbol.equals(ownerSymbol))
+                return true;
+        }
+
+        ClassDefinition classDefinition = ProjectClasses.findClassDefinition(ownerSymbol);
+        if(classDefinition == null || classDefinition.getClassDeclaration().isEnum())
+            return false;
+
+        for(MethodDefinition methodDefinition : classDefinition.getMethodDefinitions()) {
+            MethodDeclaration methodDeclaration = methodDefinition.getMethodDeclaration();
+            if(methodDeclaration.isStaticConstructor()
+                    && !((StatementBlock) methodDeclaration.getBody()).getStatements().isEmpty())
+                return false;
+        }
+
+        for(Node node : classDefinition.getClassDeclaration().getFields()) {
+            FieldDeclaration fieldDeclaration = (FieldDeclaration) node;
+            if(!fieldDeclaration.isStatic())
+                continue;
+
+            Expression expression = ((VariableDeclaration) fieldDeclaration.getVariable()).getInitializationExpression();
+            if(expression != null && (!(expression instanceof Literal) || expression instanceof Literal.Array))
+                return false;
+        }
+
+        ClassSymbol superclassSymbol = (ClassSymbol) ownerSymbol.getSuperclassSymbol();
+
+        return superclassSymbol == null || isInitializationFree(superclassSymbol);
+    }
+
+    /**
+     * Maps the parameters of the given method declaration to the arguments of the given method call.
+     * Returns whether every argument can be moved into the method body.
+     * @param methodSymbol the method symbol
+     * @param methodDeclaration the method declaration
+     * @param methodCall the method call
+     * @return true if the arguments can be inlined
+     */
+    private boolean mapArguments(MethodSymbol methodSymbol, MethodDeclaration methodDeclaration, MethodCall methodCall) {
+        List<Node> parameters = ((ParameterList) methodDeclaration.getParameterList()).getParameters();
+        List<Expression> expressions = ((ArgumentList) methodCall.getArgumentList()).getArguments();
+
+        arguments.clear();
+        argumentUses.clear();
+
+        if(parameters.size() != expressions.size())
+            return false;
+
+        for(int i = 0; i < parameters.size(); i++) {
+            Parameter parameter = (Parameter) parameters.get(i);
+            Expression argument = expressions.get(i);
+
+            //The argument type must be the parameter type, so that the body calls the same methods
+            if(!Objects.equals(argument.getExpressionType(), methodSymbol.getParameterTypes()[i]))
+                return false;
+
+            if(!isTrivial(argument) && !(isLocalExpression(argument) && inspector.getPurity(argument) == Purity.SAFE))
+                return false;
+
+            arguments.put(parameter.getName(), argument);
+            argumentUses.put(parameter.getName(), 0);
+        }
+
+        return true;
+    }
+
+    /**
+     * Copies and returns the given expression of the inlined method body, replacing the parameters
+     * with the arguments and the current object with the receiver. Returns null if the expression
+     * cannot be inlined or if the inlined body is too large.
+     * @param expression the expression
+     * @return the copied expression
+     */
+    private Expression copyExpression(Expression expression) {
+        if(++size > MAX_INLINED_SIZE)
+            return null;
+
+        //Literals are never modified
+        if(expression instanceof Literal && !(expression instanceof Literal.Array)
+                || expression instanceof PrimitiveAttribute)
+            return expression;
+
+        if(expression instanceof ThisExpression)
+            return receiver != null ? copyTrivial(receiver) : null;
+
+        if(expression instanceof SimpleName simpleName)
+            return copySimpleName(simpleName);
+
+        if(expression instanceof MemberAccess memberAccess) {
+            //Static accesses are resolved from the importations of the method class
+            Expression member = memberAccess.getMember();
+            if(member.getExpressionType() == null)
+                return null;
+
+            if(memberAccess.getAccessor() instanceof SimpleName simpleName)
+                return copyFieldAccess(member, simpleName.getName(), memberAccess.getExpressionType());
+
+            if(memberAccess.getAccessor() instanceof MethodCall methodCall)
+                return copyMethodAccess(member, methodCall, memberAccess.getExpressionType());
+
+            return null;
+        }
+
+        if(expression instanceof QualifiedName qualifiedName) {
+            if(qualifiedName.getQualifiedName().getExpressionType() == null)
+                return null;
+
+            return copyFieldAccess(qualifiedName.getQualifiedName(), qualifiedName.getName(), qualifiedName.getExpressionType());
+        }
+
+        if(expression instanceof MethodCall methodCall)
+            return copyMethodCall(methodCall);
+
+        if(expression instanceof BinaryExpression binaryExpression) {
+            //The second operand of a type comparison is a type
+            if(binaryExpression.getKind() == BinaryExpression.Kind.TYPE_EQUAL
+                    || binaryExpression.getKind() == BinaryExpression.Kind.TYPE_NOT_EQUAL)
+                return null;
+
+            Expression first = copyExpression(binaryExpression.getFirst());
+            Expression second = first != null ? copyExpression(binaryExpression.getSecond()) : null;
+            if(second == null)
+                return null;
+
+            BinaryExpression copiedExpression = new BinaryExpression(meta);
+            copiedExpression.setKind(binaryExpression.getKind());
+            copiedExpression.setFirst(first);
+            copiedExpression.setSecond(second);
+            copiedExpression.setExpressionType(binaryExpression.getExpressionType());
+
+            return copiedExpression;
+        }
+
+        if(expression instanceof UnaryExpression unaryExpression) {
+            if(unaryExpression.getKind().isIncrement() || unaryExpression.getKind().isDecrement())
+                return null;
+
+            Expression operand = copyExpression(unaryExpression.getExpression());
+            if(operand == null)
+                return null;
+
+            UnaryExpression copiedExpression = new UnaryExpression(meta);
+            copiedExpression.setType(unaryExpression.getKind());
+            copiedExpression.setExpression(operand);
+            copiedExpression.setExpressionType(unaryExpression.getExpressionType());
+
+            return copiedExpression;
+        }
+
+        //Only casts between primitives do not refer to a class
+        if(expression instanceof CastExpression castExpression) {
+            if(!(castExpression.getExpressionType() instanceof Primitive)
+                    || !(castExpression.getExpression().getExpressionType() instanceof Primitive))
+                return null;
+
+            Expression operand = copyExpression(castExpression.getExpression());
+            if(operand == null)
+                return null;
+
+            CastExpression copiedExpression = new CastExpression(meta);
+            copiedExpression.setExpression(operand);
+            copiedExpression.setCastType(NodeGenerator.forType(castExpression.getExpressionType()));
+            copiedExpression.setExpressionType(castExpression.getExpressionType());
+
+            return copiedExpression;
+        }
+
+        if(expression instanceof ArrayAccess arrayAccess) {
+            Expression array = copyExpression(arrayAccess.getArray());
+            Expression accessExpression = array != null ? copyExpression(arrayAccess.getAccessExpression()) : null;
+            if(accessExpression == null)
+                return null;
+
+            ArrayAccess copiedExpression = new ArrayAccess(meta);
+            copiedExpression.setArray(array);
+            copiedExpression.setAccessExpression(accessExpression);
+            copiedExpression.setExpressionType(arrayAccess.getExpressionType());
+
+            return copiedExpression;
+        }
+
+        if(expression instanceof IfExpression ifExpression) {
+            Expression condition = copyExpression(ifExpression.getCondition());
+            Expression thenExpression = condition != null ? copyExpression(ifExpression.getExpression()) : null;
+            Expression elseExpression = thenExpression != null ? copyExpression(ifExpression.getElseExpression()) : null;
+            if(elseExpression == null)
+                return null;
+
+            IfExpression copiedExpression = new IfExpression(meta);
+            copiedExpression.setCondition(condition);
+            copiedExpression.setExpression(thenExpression);
+            copiedExpression.setElseExpression(elseExpression);
+            copiedExpression.setExpressionType(ifExpression.getExpressionType());
+
+            return copiedExpression;
+        }
+
+        return null;
+    }
+
+    /**
+     * Copies and returns the given simple name of the inlined method body, which is either a parameter or a field.
+     * Fields are always accessed explicitly, since their name may refer to a local variable at the call.
+     * @param simpleName the simple name
+     * @return the copied expression
+     */
+    private Expression copySimpleName(SimpleName simpleName) {
+        String name = simpleName.getName();
+
+        //Replace parameter with argument
+        if(arguments.containsKey(name)) {
+            Expression argument = arguments.get(name);
+            argumentUses.merge(name, 1, Integer::sum);
+
+            return isTrivial(argument) ? copyTrivial(argument) : argument;
+        }
+
+        FieldSymbol fieldSymbol = calleeSymbol.findField(name, calleeSymbol);
+        if(fieldSymbol == null || !fieldSymbol.isAccessibleFrom(classSymbol))
+            return null;
+
+        Expression member;
+        if(fieldSymbol.isStatic()) {
+            member = NodeGenerator.forType(new Object(fieldSymbol.getClassSymbol()));
+        } else if(receiver != null) {
+            member = copyTrivial(receiver);
+        } else {
+            return null;
+        }
+
+        if(!isProtectedAccessible(fieldSymbol.getAccessModifier(), fieldSymbol.getClassSymbol(),
+                fieldSymbol.isStatic(), member.getExpressionType()))
+            return null;
+
+        return generateMemberAccess(member, NodeGenerator.forSimpleName(name, simpleName.getExpressionType()),
+                simpleName.getExpressionType());
+    }
+
+    /**
+     * Copies and returns the access to the field with the given name of the given member expression.
+     * @param member the member expression
+     * @param name the field name
+     * @param type the field type
+     * @return the copied expression
+     */
+    private Expression copyFieldAccess(Expression member, String name, Type type) {
+        FieldSymbol fieldSymbol = null;
+
+        //Make sure the field can be accessed from the current class
+        if(member.getExpressionType() instanceof Object object) {
+            fieldSymbol = object.getClassSymbol().findField(name, calleeSymbol);
+            if(fieldSymbol == null || !fieldSymbol.isAccessibleFrom(classSymbol))
+                return null;
+        }
+
+        Expression copiedMember = copyExpression(member);
+        if(copiedMember == null)
+            return null;
+
+        if(fieldSymbol != null && !isProtectedAccessible(fieldSymbol.getAccessModifier(), fieldSymbol.getClassSymbol(),
+                fieldSymbol.isStatic(), copiedMember.getExpressionType()))
+            return null;
+
+        return generateMemberAccess(copiedMember, NodeGenerator.forSimpleName(name, type), type);
+    }
+
+    /**
+     * Copies and returns the call of the given method on the given member expression.
+     * @param member the member expression
+     * @param methodCall the method call
+     * @param type the call type
+     * @return the copied expression
+     */
+    private Expression copyMethodAccess(Expression member, MethodCall methodCall, Type type) {
+        if(!(member.getExpressionType() instanceof Object object))
+            return null;
+
+        MethodSymbol methodSymbol = object.getClassSymbol().findMethod(methodCall.getMethodName(),
+                getTypesFromArguments(methodCall), calleeSymbol, methodCall);
+        if(methodSymbol == null || !methodSymbol.isAccessibleFrom(classSymbol))
+            return null;
+
+        //Methods called on this are not virtual, unlike the calls on the receiver
+        if(member instanceof ThisExpression && !(receiver instanceof ThisExpression) && !isInlinable(methodSymbol))
+            return null;
+
+        Expression copiedMember = copyExpression(member);
+        if(copiedMember == null || !isProtectedAccessible(methodSymbol.getAccessModifier(), methodSymbol.getClassSymbol(),
+                methodSymbol.isStatic(), copiedMember.getExpressionType()))
+            return null;
+
+        MethodCall copiedCall = copyCall(methodCall);
+        if(copiedCall == null)
+            return null;
+
+        return generateMemberAccess(copiedMember, copiedCall, type);
+    }
+
+    /**
+     * Copies and returns the given method call of the inlined method body.
+     * The call is made explicit if the receiver is not the current object.
+     * @param methodCall the method call
+     * @return the copied expression
+     */
+    private Expression copyMethodCall(MethodCall methodCall) {
+        if(methodCall.getMethod() != null)
+            return null;
+
+        MethodSymbol methodSymbol = calleeSymbol.findMethod(methodCall.getMethodName(),
+                getTypesFromArguments(methodCall), calleeSymbol, methodCall);
+        if(methodSymbol == null || !methodSymbol.isAccessibleFrom(classSymbol))
+            return null;
+
+        MethodCall copiedCall = copyCall(methodCall);
+        if(copiedCall == null)
+            return null;
+
+        //Keep the call implicit in the same class
+        if(calleeSymbol.equals(classSymbol) && (methodSymbol.isStatic() || receiver instanceof ThisExpression))
+            return copiedCall;
+
+        Expression member;
+        if(methodSymbol.isStatic()) {
+            member = NodeGenerator.forType(new Object(methodSymbol.getClassSymbol()));
+        } else if(receiver != null) {
+            member = copyTrivial(receiver);
+        } else {
+            return null;
+        }
+
+        if(!isProtectedAccessible(methodSymbol.getAccessModifier(), methodSymbol.getClassSymbol(),
+                methodSymbol.isStatic(), member.getExpressionType()))
+            return null;
+
+        return generateMemberAccess(member, copiedCall, methodCall.getExpressionType());
+    }
+
+    /**
+     * Copies and returns the given method call with its arguments.
+     * @param methodCall the method call
+     * @return the copied method call
+     */
+    private MethodCall copyCall(MethodCall methodCall) {
+        ArgumentList argumentList = new ArgumentList(meta);
+        for(Expression argument : ((ArgumentList) methodCall.getArgumentList()).getArguments()) {
+            Expression copiedArgument = copyExpression(argument);
+            if(copiedArgument == null)
+                return null;
+
+            argumentList.addArgument(copiedArgument);
+        }
+
+        MethodCall copiedCall = new MethodCall(meta);
+        copiedCall.setMethodName(methodCall.getMethodName());
+        copiedCall.setArgumentList(argumentList);
+        copiedCall.setExpressionType(methodCall.getExpressionType());
+
+        return copiedCall;
+    }
+
+    /**
+     * Copies and returns the given trivial expression.
+     * @param expression the trivial expression
+     * @return the copied expression
+     */
+    private Expression copyTrivial(Expression expression) {
+        Expression copiedExpression;
+        if(expression instanceof SimpleName simpleName) {
+            copiedExpression = new SimpleName(meta);
+            ((SimpleName) copiedExpression).setName(simpleName.getName());
+        } else if(expression instanceof ThisExpression) {
+            copiedExpression = new ThisExpression(meta);
+        } else {
+            return expression;
+        }
+
+        copiedExpression.setExpressionType(expression.getExpressionType());
+
+        return copiedExpression;
+    }
+
+    /**
+     * Generates a member access with the given member, accessor and expression type.
+     * @param member the member expression
+     * @param accessor the accessor expression
+     * @param type the expression type
+     * @return the member access
+     */
+    private MemberAccess generateMemberAccess(Expression member, Expression accessor, Type type) {
+        MemberAccess memberAccess = new MemberAccess(meta);
+        memberAccess.setMember(member);
+        memberAccess.setAccessor(accessor);
+        memberAccess.setExpressionType(type);
+
+        return memberAccess;
+    }
+
+    /**
+     * Returns whether a member with the given access modifier, declared in the given class, can be accessed
+     * on an object of the given type from the current class. Like the JVM, a protected instance member of a class
+     * from another package can only be accessed on an object of the current class or of one of its subclasses.
+     * @param accessModifier the member access modifier
+     * @param ownerSymbol the class symbol declaring the member
+     * @param isStatic whether the member is static
+     * @param receiverType the type of the accessed object
+     * @return true if the member can be accessed
+     */
+    private boolean isProtectedAccessible(AccessModifier accessModifier, ClassSymbol ownerSymbol,
+                                          boolean isStatic, Type receiverType) {
+        if(accessModifier != AccessModifier.PROTECTED || isStatic
+                || classSymbol.getPackageSymbol().equals(ownerSymbol.getPackageSymbol()))
+            return true;
+
+        return receiverType instanceof Object object && object.getClassSymbol().isSubtypeOf(classSymbol);
+    }
+
+    /**
+     * Returns whether the given inlined expression dereferences the local variable with the given name
+     * before evaluating any expression that may have side effects or throw an exception.
+     * @param expression the inlined expression
+     * @param name the local variable name
+     * @return true if the variable is dereferenced first
+     */
+    private boolean isDereferencedFirst(Expression expression, String name) {
+        if(expression instanceof MemberAccess memberAccess) {
+            Expression member = memberAccess.getMember();
+
+            //The method is called after its arguments are evaluated
+            if(member instanceof SimpleName simpleName && simpleName.getName().equals(name))
+                return !(memberAccess.getAccessor() instanceof MethodCall methodCall)
+                        || ((ArgumentList) methodCall.getArgumentList()).getArguments().stream()
+                        .allMatch(argument -> inspector.getPurity(argument) == Purity.SAFE);
+
+            return member.getExpressionType() != null && isDereferencedFirst(member, name);
+        }
+
+        if(expression instanceof BinaryExpression binaryExpression) {
+            if(isDereferencedFirst(binaryExpression.getFirst(), name))
+                return true;
+
+            //The second operand of a logical operation may not be evaluated
+            return binaryExpression.getKind() != BinaryExpression.Kind.LOGICAL_AND
+                    && binaryExpression.getKind() != BinaryExpression.Kind.LOGICAL_OR
+                    && inspector.getPurity(binaryExpression.getFirst()) == Purity.SAFE
+                    && isDereferencedFirst(binaryExpression.getSecond(), name);
+        }
+
+        if(expression instanceof UnaryExpression unaryExpression)
+            return isDereferencedFirst(unaryExpression.getExpression(), name);
+
+        if(expression instanceof CastExpression castExpression)
+            return isDereferencedFirst(castExpression.getExpression(), name);
+
+        if(expression instanceof ArrayAccess arrayAccess)
+            return isDereferencedFirst(arrayAccess.getArray(), name);
+
+        if(expression instanceof IfExpression ifExpression)
+            return isDereferencedFirst(ifExpression.getCondition(), name);
+
+        return false;
+    }
+
+    /**
+     * Returns whether the given argument is trivial, so that it can be evaluated any number of times.
+     * @param expression the argument
+     * @return true if the argument is trivial
+     */
+    private boolean isTrivial(Expression expression) {
+        return expression instanceof Literal && !(expression instanceof Literal.Array)
+                || expression instanceof ThisExpression
+                || expression instanceof SimpleName simpleName && inspector.isLocalVariable(simpleName.getName());
+    }
+
+    /**
+     * Returns whether the given argument only reads local variables and literals,
+     * which cannot be assigned by the inlined method body.
+     * @param expression the argument
+     * @return true if the argument is local
+     */
+    private boolean isLocalExpression(Expression expression) {
+        if(isTrivial(expression))
+            return true;
+
+        if(expression instanceof BinaryExpression binaryExpression)
+            return isLocalExpression(binaryExpression.getFirst()) && isLocalExpression(binaryExpression.getSecond());
+
+        if(expression instanceof UnaryExpression unaryExpression)
+            return isLocalExpression(unaryExpression.getExpression());
+
+        if(expression instanceof CastExpression castExpression)
+            return isLocalExpression(castExpression.getExpression());
+
+        return false;
+    }
+
+    /**
+     * Returns the array of types from the arguments of the given method call.
+     * @param methodCall the method call
+     * @return the types array
+     */
+    private Type[] getTypesFromArguments(MethodCall methodCall) {
+        List<Expression> arguments = ((ArgumentList) methodCall.getArgumentList()).getArguments();
+        Type[] argumentTypes = new Type[arguments.size()];
+
+        for(int i = 0; i < arguments.size(); i++)
+            argumentTypes[i] = arguments.get(i).getExpressionType();
+
+        return argumentTypes;
+    }
+}
@@ -0,0 +1,360 @@
+package poly.compiler.analyzer;
+
+import poly.compiler.analyzer.type.Array;
+import poly.compiler.analyzer.type.Object;
+import poly.compiler.analyzer.type.Primitive;
+import poly.compiler.parser.tree.MethodDeclaration;
+import poly.compiler.parser.tree.expression.*;
+import poly.compiler.resolver.symbol.ClassSymbol;
+import poly.compiler.resolver.symbol.FieldSymbol;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The Inspector class. This class is used by the Optimizer class to inspect the expressions of the current method.
+ * This includes finding whether an expression has side effects or may throw an exception,
+ * whether it is invariant in a part of the AST, and whether two expressions always evaluate to the same value.
+ * @author Vincent Philippe (@vincent64)
+ */
+final class Inspector {
+    private final ClassSymbol classSymbol;
+    private final Set<String> syntheticNames;
+    private Set<String> localNames;
+
+    Inspector(ClassSymbol classSymbol) {
+        this.classSymbol = classSymbol;
+
+        //Initialize synthetic names set
+        syntheticNames = new HashSet<>();
+    }
+
+    /**
+     * Sets the current method and collects its local variable names.
+     * @param methodDeclaration the method declaration
+     */
+    void setMethod(MethodDeclaration methodDeclaration) {
+        localNames = Effects.fromNode(methodDeclaration).getDeclaredNames();
+    }
+
+    /**
+     * Adds the given synthetic local variable name to the current method.
+     * Synthetic variables are assigned only once, by their declaration.
+     * @param name the variable name
+     */
+    void addSyntheticVariable(String name) {
+        localNames.add(name);
+        syntheticNames.add(name);
+    }
+
+    /**
+     * Returns whether the given name refers to a synthetic local variable.
+     * @param name the name
+     * @return true if the name is a synthetic variable
+     */
+    boolean isSyntheticVariable(String name) {
+        return syntheticNames.contains(name);
+    }
+
+    /**
+     * Returns whether the given name refers to a local variable of the current method.
+     * @param name the name
+     * @return true if the name is a local variable
+     */
+    boolean isLocalVariable(String name) {
+        return localNames.contains(name);
+    }
+
+    /**
+     * Returns whether the given expression is worth being stored in a variable.
+     * Literals and local variables are already cheap to load, and constant expressions are not stored.
+     * @param expression the expression
+     * @return true if the expression is worth storing
+     */
+    boolean isWorthStoring(Expression expression) {
+        if(expression.getExpressionType() == null
+                || expression.getExpressionType() instanceof poly.compiler.analyzer.type.Void)
+            return false;
+
+        if(expression instanceof SimpleName simpleName)
+            return !isLocalVariable(simpleName.getName());
+
+        return !isConstant(expression);
+    }
+
+    /**
+     * Returns whether the given expression only contains literal values.
+     * @param expression the expression
+     * @return true if the expression is constant
+     */
+    private boolean isConstant(Expression expression) {
+        if(expression instanceof Literal || expression instanceof PrimitiveAttribute)
+            return true;
+
+        if(expression instanceof BinaryExpression binaryExpression)
+            return isConstant(binaryExpression.getFirst()) && isConstant(binaryExpression.getSecond());
+
+        if(expression instanceof UnaryExpression unaryExpression)
+            return isConstant(unaryExpression.getExpression());
+
+        if(expression instanceof CastExpression castExpression)
+            return isConstant(castExpression.getExpression());
+
+        return expression instanceof ThisExpression || expression instanceof SuperExpression;
+    }
+
+    /**
+     * Returns the purity of the given expression.
+     * @param expression the expression
+     * @return the purity
+     */
+    Purity getPurity(Expression expression) {
+        //Literal arrays create a new array every time
+        if(expression instanceof Literal.Array)
+            return Purity.IMPURE;
+
+        if(expression instanceof Literal || expression instanceof PrimitiveAttribute
+                || expression instanceof ThisExpression || expression instanceof SuperExpression)
+            return Purity.SAFE;
+
+        //Read local variable or field of the current class
+        if(expression instanceof SimpleName simpleName) {
+            if(isLocalVariable(simpleName.getName()))
+                return Purity.SAFE;
+
+            //Reading a field of an interface may initialize it
+            FieldSymbol fieldSymbol = classSymbol.findField(simpleName.getName(), classSymbol);
+            return fieldSymbol != null && !fieldSymbol.getClassSymbol().isInterface()
+                    ? Purity.SAFE
+                    : Purity.IMPURE;
+        }
+
+        //Read field or array size
+        if(expression instanceof MemberAccess memberAccess)
+            return memberAccess.getAccessor() instanceof SimpleName
+                    ? getFieldPurity(memberAccess.getMember())
+                    : Purity.IMPURE;
+
+        if(expression instanceof QualifiedName qualifiedName)
+            return getFieldPurity(qualifiedName.getQualifiedName());
+
+        if(expression instanceof BinaryExpression binaryExpression) {
+            //Operations on objects may call methods, such as string concatenation
+            if(!(binaryExpression.getFirst().getExpressionType() instanceof Primitive)
+                    || !(binaryExpression.getSecond().getExpressionType() instanceof Primitive)
+                    || !(binaryExpression.getExpressionType() instanceof Primitive primitive))
+                return Purity.IMPURE;
+
+            Purity purity = switch(binaryExpression.getKind()) {
+                case OPERATION_ADDITION, OPERATION_SUBTRACTION, OPERATION_MULTIPLICATION,
+                        EQUALITY_EQUAL, EQUALITY_NOT_EQUAL, COMPARISON_GREATER, COMPARISON_GREATER_EQUAL,
+                        COMPARISON_LESS, COMPARISON_LESS_EQUAL, COMPARISON_SPACESHIP,
+                        LOGICAL_AND, LOGICAL_OR, BITWISE_AND, BITWISE_XOR, BITWISE_OR,
+                        BITWISE_SHIFT_LEFT, BITWISE_SHIFT_RIGHT, BITWISE_SHIFT_RIGHT_ARITHMETIC -> Purity.SAFE;
+                //Integer division by zero throws an exception
+                case OPERATION_DIVISION, OPERATION_MODULO -> primitive.isIntegerType() ? Purity.THROWING : Purity.SAFE;
+                default -> Purity.IMPURE;
+            };
+
+            return Purity.max(purity, Purity.max(getPurity(binaryExpression.getFirst()),
+                    getPurity(binaryExpression.getSecond())));
+        }
+
+        if(expression instanceof UnaryExpression unaryExpression) {
+            return switch(unaryExpression.getKind()) {
+                case OPERATION_NEGATE, LOGICAL_NOT, BITWISE_NOT -> getPurity(unaryExpression.getExpression());
+                default -> Purity.IMPURE;
+            };
+        }
+
+        //Only casts between primitives cannot throw an exception
+        if(expression instanceof CastExpression castExpression)
+            return castExpression.getExpressionType() instanceof Primitive
+                    && castExpression.getExpression().getExpressionType() instanceof Primitive
+                    ? getPurity(castExpression.getExpression())
+                    : Purity.IMPURE;
+
+        return Purity.IMPURE;
+    }
+
+    /**
+     * Returns the purity of reading a field or the array size of the given member expression.
+     * @param member the member expression
+     * @return the purity
+     */
+    private Purity getFieldPurity(Expression member) {
+        //Static accesses may initialize another class
+        if(member.getExpressionType() == null)
+            return Purity.IMPURE;
+
+        //Fields of the current object can always be read
+        if(member instanceof ThisExpression || member instanceof SuperExpression)
+            return Purity.SAFE;
+
+        //Reading from another object throws an exception if it is null
+        return Purity.max(Purity.THROWING, getPurity(member));
+    }
+
+    /**
+     * Returns whether the given expression is invariant in the AST part with the given side effects.
+     * @param expression the expression
+     * @param effects the side effects
+     * @return true if the expression is invariant
+     */
+    boolean isInvariant(Expression expression, Effects effects) {
+        if(expression instanceof Literal || expression instanceof PrimitiveAttribute
+                || expression instanceof ThisExpression || expression instanceof SuperExpression)
+            return true;
+
+        if(expression instanceof SimpleName simpleName) {
+            String name = simpleName.getName();
+            FieldSymbol fieldSymbol = classSymbol.findField(name, classSymbol);
+
+            return !effects.isAssigned(name) && (fieldSymbol == null || isInvariantField(fieldSymbol, effects));
+        }
+
+        if(expression instanceof MemberAccess memberAccess
+                && memberAccess.getAccessor() instanceof SimpleName simpleName)
+            return isInvariantAccess(memberAccess.getMember(), simpleName.getName(), effects);
+
+        if(expression instanceof QualifiedName qualifiedName)
+            return isInvariantAccess(qualifiedName.getQualifiedName(), qualifiedName.getName(), effects);
+
+        if(expression instanceof BinaryExpression binaryExpression)
+            return isInvariant(binaryExpression.getFirst(), effects)
+                    && isInvariant(binaryExpression.getSecond(), effects);
+
+        if(expression instanceof UnaryExpression unaryExpression)
+            return isInvariant(unaryExpression.getExpression(), effects);
+
+        if(expression instanceof CastExpression castExpression)
+            return isInvariant(castExpression.getExpression(), effects);
+
+        return false;
+    }
+
+    /**
+     * Returns whether reading the field with the given name or the array size
+     * of the given member expression is invariant in the AST part with the given side effects.
+     * @param member the member expression
+     * @param name the field name
+     * @param effects the side effects
+     * @return true if the access is invariant
+     */
+    private boolean isInvariantAccess(Expression member, String name, Effects effects) {
+        if(!isInvariant(member, effects))
+            return false;
+
+        //The size of an array never changes
+        if(member.getExpressionType() instanceof Array)
+            return true;
+
+        if(!(member.getExpressionType() instanceof Object object) || effects.isAssigned(name))
+            return false;
+
+        FieldSymbol fieldSymbol = object.getClassSymbol().findField(name, classSymbol);
+        return fieldSymbol != null && isInvariantField(fieldSymbol, effects);
+    }
+
+    /**
+     * Returns whether the given field cannot be assigned by code called in the AST part with the given side effects.
+     * @param fieldSymbol the field symbol
+     * @param effects the side effects
+     * @return true if the field is invariant
+     */
+    private boolean isInvariantField(FieldSymbol fieldSymbol, Effects effects) {
+        return fieldSymbol.isConstant() || !effects.isCalling();
+    }
+
+    /**
+     * Returns whether the given expressions are structurally identical, so that
+     * they evaluate to the same value when none of their variables and fields are assigned in-between.
+     * Only the expressions that can be inspected are compared.
+     * @param expression1 the first expression
+     * @param expression2 the second expression
+     * @return true if the expressions are equivalent
+     */
+    boolean isEquivalent(Expression expression1, Expression expression2) {
+        if(!Objects.equals(expression1.getExpressionType(), expression2.getExpressionType()))
+            return false;
+
+        if(expression1 instanceof Literal literal1 && expression2 instanceof Literal literal2)
+            return isEquivalentLiteral(literal1, literal2);
+
+        if(expression1 instanceof PrimitiveAttribute attribute1 && expression2 instanceof PrimitiveAttribute attribute2)
+            return attribute1.getKind() == attribute2.getKind()
+                    && attribute1.getPrimitiveKind() == attribute2.getPrimitiveKind();
+
+        if(expression1 instanceof ThisExpression && expression2 instanceof ThisExpression
+                || expression1 instanceof SuperExpression && expression2 instanceof SuperExpression)
+            return true;
+
+        if(expression1 instanceof SimpleName simpleName1 && expression2 instanceof SimpleName simpleName2)
+            return simpleName1.getName().equals(simpleName2.getName());
+
+        if(expression1 instanceof MemberAccess memberAccess1 && expression2 instanceof MemberAccess memberAccess2)
+            return memberAccess1.getAccessor() instanceof SimpleName accessor1
+                    && memberAccess2.getAccessor() instanceof SimpleName accessor2
+                    && accessor1.getName().equals(accessor2.getName())
+                    && memberAccess1.getMember().getExpressionType() != null
+                    && isEquivalent(memberAccess1.getMember(), memberAccess2.getMember());
+
+        if(expression1 instanceof QualifiedName qualifiedName1 && expression2 instanceof QualifiedName qualifiedName2)
+            return qualifiedName1.getName().equals(qualifiedName2.getName())
+                    && qualifiedName1.getQualifiedName().getExpressionType() != null
+                    && isEquivalent(qualifiedName1.getQualifiedName(), qualifiedName2.getQualifiedName());
+
+        if(expression1 instanceof BinaryExpression binaryExpression1 && expression2 instanceof BinaryExpression binaryExpression2)
+            return binaryExpression1.getKind() == binaryExpression2.getKind()
+                    && isEquivalent(binaryExpression1.getFirst(), binaryExpression2.getFirst())
+                    && isEquivalent(binaryExpression1.getSecond(), binaryExpression2.getSecond());
+
+        if(expression1 instanceof UnaryExpression unaryExpression1 && expression2 instanceof UnaryExpression unaryExpression2)
+            return unaryExpression1.getKind() == unaryExpression2.getKind()
+                    && isEquivalent(unaryExpression1.getExpression(), unaryExpression2.getExpression());
+
+        if(expression1 instanceof CastExpression castExpression1 && expression2 instanceof CastExpression castExpression2)
+            return isEquivalent(castExpression1.getExpression(), castExpression2.getExpression());
+
+        return false;
+    }
+
+    /**
+     * Returns whether the given literals have the same value.
+     * @param literal1 the first literal
+     * @param literal2 the second literal
+     * @return true if the literals are equivalent
+     */
+    private boolean isEquivalentLiteral(Literal literal1, Literal literal2) {
+        return switch(literal1) {
+            case Literal.Null ignored -> literal2 instanceof Literal.Null;
+            case Literal.Boolean value1 -> literal2 instanceof Literal.Boolean value2 && value1.getValue() == value2.getValue();
+            case Literal.Integer value1 -> literal2 instanceof Literal.Integer value2 && value1.getValue() == value2.getValue();
+            case Literal.Long value1 -> literal2 instanceof Literal.Long value2 && value1.getValue() == value2.getValue();
+            case Literal.Float value1 -> literal2 instanceof Literal.Float value2
+                    && Float.floatToIntBits(value1.getValue()) == Float.floatToIntBits(value2.getValue());
+            case Literal.Double value1 -> literal2 instanceof Literal.Double value2
+                    && Double.doubleToLongBits(value1.getValue()) == Double.doubleToLongBits(value2.getValue());
+            case Literal.Char value1 -> literal2 instanceof Literal.Char value2 && value1.getValue() == value2.getValue();
+            case Literal.String value1 -> literal2 instanceof Literal.String value2
+                    && Arrays.equals(value1.getValue(), value2.getValue());
+            default -> false;
+        };
+    }
+
+    /**
+     * The Inspector.Purity enum. This enum contains every level of purity of an expression,
+     * from an expression without side effects that cannot throw, to an expression with side effects.
+     */
+    enum Purity {
+        SAFE,
+        THROWING,
+        IMPURE;
+
+        private static Purity max(Purity purity1, Purity purity2) {
+            return purity1.compareTo(purity2) >= 0 ? purity1 : purity2;
+        }
+    }
+}
@@ -1,23 +1,540 @@
 package poly.compiler.analyzer;
 
+import poly.compiler.analyzer.table.ImportTable;
+import poly.compiler.parser.tree.MethodDeclaration;
+import poly.compiler.parser.tree.Node;
 import poly.compiler.parser.tree.NodeModifier;
+import poly.compiler.parser.tree.expression.*;
+import poly.compiler.parser.tree.statement.*;
+import poly.compiler.parser.tree.variable.ArgumentList;
+import poly.compiler.parser.tree.variable.VariableDeclaration;
+import poly.compiler.resolver.ClassDefinition;
+import poly.compiler.resolver.MethodDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * The Optimizer class. This class is used to optimize the analyzed AST.
  * This includes folding constants and literal values, erasing useless statements and expressions,
  * optimize operations with faster instructions, and much more.
+ * Currently, the optimizer moves the loop-invariant expressions out of loops and summations,
+ * reuses the common subexpressions of basic blocks, reduces the multiplications, divisions
+ * and modulos of integers by a constant power of two to shifts and masks, and inlines the calls
+ * to small methods that cannot be overridden.
  * @author Vincent Philippe (@vincent64)
  */
 public final class Optimizer implements NodeModifier {
-    private Optimizer() {
-        //TODO
+    private final ClassDefinition classDefinition;
+    private final Inspector inspector;
+    private final Hoister hoister;
+    private final Eliminator eliminator;
+    private final Reducer reducer;
+    private final Inliner inliner;
+    private Statement currentStatement;
+    private Hoister.Region statementRegion;
+
+    private Optimizer(ImportTable importTable, ClassDefinition classDefinition) {
+        this.classDefinition = classDefinition;
+
+        inspector = new Inspector(classDefinition.getClassSymbol());
+        hoister = new Hoister(inspector);
+        eliminator = new Eliminator(inspector);
+        reducer = new Reducer(inspector);
+        inliner = new Inliner(inspector, classDefinition.getClassSymbol(), importTable);
     }
 
-    public static Optimizer getInstance() {
-        return new Optimizer();
+    public static Optimizer getInstance(ImportTable importTable, ClassDefinition classDefinition) {
+        return new Optimizer(importTable, classDefinition);
     }
 
+    /**
+     * Optimizes every method of the class, including the methods generated by the analyzer.
+     */
     public void optimize() {
-        //TODO
+        for(MethodDefinition methodDefinition : classDefinition.getMethodDefinitions())
+            methodDefinition.getMethodDeclaration().accept(this);
+    }
+
+    /**
+     * Optimizes the given statement and adds it to the given statements list,
+     * preceded by the declarations of the variables hoisted out of it.
+     * @param statement the statement
+     * @param statements the statements list
+     */
+    private void optimizeStatement(Statement statement, List<Statement> statements) {
+        Statement previousStatement = currentStatement;
+        Hoister.Region previousRegion = statementRegion;
+        currentStatement = statement;
+        statementRegion = null;
+
+        //Visit statement
+        statement = statement.accept(this);
+
+        //Add hoisted variable declarations before the statement
+        if(statementRegion != null)
+            statements.addAll(statementRegion.getDeclarations());
+        statements.add(statement);
+
+        currentStatement = previousStatement;
+        statementRegion = previousRegion;
+    }
+
+    /**
+     * Optimizes and returns the given statement. The statement is wrapped in a statement block
+     * if variables are hoisted out of it.
+     * @param statement the statement
+     * @return the optimized statement
+     */
+    private Statement optimizeStatement(Statement statement) {
+        if(statement == null)
+            return null;
+
+        List<Statement> statements = new ArrayList<>();
+        optimizeStatement(statement, statements);
+
+        if(statements.size() == 1)
+            return statements.getFirst();
+
+        //Wrap statements in a statement block
+        StatementBlock statementBlock = new StatementBlock(statement.getMeta());
+        for(Statement node : statements)
+            statementBlock.addStatement(node);
+
+        return statementBlock;
+    }
+
+    /**
+     * Returns the region repeating the current statement, or null if
+     * no variable can be declared before the current statement.
+     * @return the statement region
+     */
+    private Hoister.Region getStatementRegion() {
+        //The constructor call must be the first statement
+        if(currentStatement instanceof SuperStatement || currentStatement instanceof ThisStatement)
+            return null;
+
+        if(statementRegion == null)
+            statementRegion = hoister.createRegion(currentStatement);
+
+        return statementRegion;
+    }
+
+    /**
+     * Visits and returns the given expression, or returns null if it is null.
+     * @param expression the expression
+     * @return the visited expression
+     */
+    private Expression visitExpression(Expression expression) {
+        return expression != null ? expression.accept(this) : null;
+    }
+
+    /**
+     * Visits the given assigned expression. The assigned variable or field itself is not visited.
+     * @param expression the assigned expression
+     */
+    private void visitAssignedExpression(Expression expression) {
+        if(expression instanceof MemberAccess memberAccess) {
+            if(memberAccess.getMember().getExpressionType() != null)
+                memberAccess.setMember(memberAccess.getMember().accept(this));
+        } else if(expression instanceof QualifiedName qualifiedName) {
+            if(qualifiedName.getQualifiedName().getExpressionType() != null)
+                qualifiedName.setQualifiedName(qualifiedName.getQualifiedName().accept(this));
+        } else if(expression instanceof ArrayAccess arrayAccess) {
+            arrayAccess.setArray(arrayAccess.getArray().accept(this));
+            arrayAccess.setAccessExpression(arrayAccess.getAccessExpression().accept(this));
+        }
+    }
+
+    @Override
+    public Node visitMethodDeclaration(MethodDeclaration methodDeclaration) {
+        if(methodDeclaration.isEmpty() || methodDeclaration.getBody() == null)
+            return methodDeclaration;
+
+        inspector.setMethod(methodDeclaration);
+
+        //Visit method body
+        methodDeclaration.setBody(optimizeStatement(methodDeclaration.getBody()));
+
+        return methodDeclaration;
+    }
+
+    @Override
+    public Statement visitAssertStatement(AssertStatement assertStatement) {
+        assertStatement.setCondition(visitExpression(assertStatement.getCondition()));
+        assertStatement.setExceptionExpression(visitExpression(assertStatement.getExceptionExpression()));
+
+        return assertStatement;
+    }
+
+    @Override
+    public Statement visitDoStatement(DoStatement doStatement) {
+        Hoister.Region region = getStatementRegion();
+
+        //Visit body and condition in the loop region
+        hoister.enterRegion(region);
+        doStatement.setBody(optimizeStatement(doStatement.getBody()));
+        doStatement.setCondition(doStatement.getCondition().accept(this));
+        hoister.exitRegion();
+
+        return doStatement;
+    }
+
+    @Override
+    public Statement visitExpressionStatement(ExpressionStatement expressionStatement) {
+        expressionStatement.setExpression(expressionStatement.getExpression().accept(this));
+
+        return expressionStatement;
+    }
+
+    @Override
+    public Statement visitForStatement(ForStatement forStatement) {
+        //Visit initialization statement before the loop
+        if(forStatement.getStatement() != null)
+            forStatement.setStatement(forStatement.getStatement().accept(this));
+
+        Hoister.Region region = getStatementRegion();
+
+        //Visit condition, update and body in the loop region
+        hoister.enterRegion(region);
+        if(forStatement.getCondition() != null) {
+            hoister.hoistCondition(forStatement.getCondition(), forStatement.getStatement(), this);
+            forStatement.setCondition(forStatement.getCondition().accept(this));
+        }
+        if(forStatement.getExpression() != null)
+            forStatement.setExpression(forStatement.getExpression().accept(this));
+        forStatement.setBody(optimizeStatement(forStatement.getBody()));
+        hoister.exitRegion();
+
+        return forStatement;
+    }
+
+    @Override
+    public Statement visitForeachStatement(ForeachStatement foreachStatement) {
+        //Visit iterated expression before the loop
+        foreachStatement.setExpression(foreachStatement.getExpression().accept(this));
+
+        Hoister.Region region = getStatementRegion();
+
+        //Visit body in the loop region
+        hoister.enterRegion(region);
+        foreachStatement.setBody(optimizeStatement(foreachStatement.getBody()));
+        hoister.exitRegion();
+
+        return foreachStatement;
+    }
+
+    @Override
+    public Statement visitIfStatement(IfStatement ifStatement) {
+        ifStatement.setCondition(ifStatement.getCondition().accept(this));
+        ifStatement.setBody(optimizeStatement(ifStatement.getBody()));
+        ifStatement.setElseBody(optimizeStatement(ifStatement.getElseBody()));
+
+        return ifStatement;
+    }
+
+    @Override
+    public Statement visitMatchStatement(MatchStatement matchStatement) {
+        //Visit every case condition and body
+        for(Statement statement : matchStatement.getCases()) {
+            CaseStatement caseStatement = (CaseStatement) statement;
+            caseStatement.setExpression(caseStatement.getExpression().accept(this));
+            caseStatement.setBody(optimizeStatement(caseStatement.getBody()));
+        }
+
+        //Visit else case
+        matchStatement.setElseCase(optimizeStatement(matchStatement.getElseCase()));
+
+        return matchStatement;
+    }
+
+    @Override
+    public Statement visitReturnStatement(ReturnStatement returnStatement) {
+        returnStatement.setExpression(visitExpression(returnStatement.getExpression()));
+
+        return returnStatement;
+    }
+
+    @Override
+    public Statement visitStatementBlock(StatementBlock statementBlock) {
+        List<Statement> statements = statementBlock.getStatements();
+        List<Statement> optimizedStatements = new ArrayList<>();
+
+        //Visit every statement
+        for(Statement statement : statements)
+            optimizeStatement(statement, optimizedStatements);
+
+        statements.clear();
+        statements.addAll(optimizedStatements);
+
+        //Eliminate common subexpressions
+        eliminator.eliminate(statements);
+
+        return statementBlock;
+    }
+
+    @Override
+    public Statement visitSuperStatement(SuperStatement superStatement) {
+        superStatement.getArgumentList().accept(this);
+
+        return superStatement;
+    }
+
+    @Override
+    public Statement visitSwitchStatement(SwitchStatement switchStatement) {
+        switchStatement.setExpression(switchStatement.getExpression().accept(this));
+
+        //Visit every case body
+        for(Statement statement : switchStatement.getCases()) {
+            CaseStatement caseStatement = (CaseStatement) statement;
+            caseStatement.setBody(optimizeStatement(caseStatement.getBody()));
+        }
+
+        //Visit else case
+        switchStatement.setElseCase(optimizeStatement(switchStatement.getElseCase()));
+
+        return switchStatement;
+    }
+
+    @Override
+    public Statement visitThisStatement(ThisStatement thisStatement) {
+        thisStatement.getArgumentList().accept(this);
+
+        return thisStatement;
+    }
+
+    @Override
+    public Statement visitThrowStatement(ThrowStatement throwStatement) {
+        throwStatement.setExpression(throwStatement.getExpression().accept(this));
+
+        return throwStatement;
+    }
+
+    @Override
+    public Statement visitTryStatement(TryStatement tryStatement) {
+        tryStatement.setBody(optimizeStatement(tryStatement.getBody()));
+        tryStatement.setCatchBody(optimizeStatement(tryStatement.getCatchBody()));
+
+        return tryStatement;
+    }
+
+    @Override
+    public Statement visitVariableDeclaration(VariableDeclaration variableDeclaration) {
+        variableDeclaration.setInitializationExpression(visitExpression(variableDeclaration.getInitializationExpression()));
+
+        return variableDeclaration;
+    }
+
+    @Override
+    public Statement visitWhileStatement(WhileStatement whileStatement) {
+        Hoister.Region region = getStatementRegion();
+
+        //Visit condition and body in the loop region
+        hoister.enterRegion(region);
+        hoister.hoistCondition(whileStatement.getCondition(), null, this);
+        whileStatement.setCondition(whileStatement.getCondition().accept(this));
+        whileStatement.setBody(optimizeStatement(whileStatement.getBody()));
+        hoister.exitRegion();
+
+        return whileStatement;
+    }
+
+    @Override
+    public Expression visitArrayAccess(ArrayAccess arrayAccess) {
+        arrayAccess.setArray(arrayAccess.getArray().accept(this));
+        arrayAccess.setAccessExpression(arrayAccess.getAccessExpression().accept(this));
+
+        return arrayAccess;
+    }
+
+    @Override
+    public Expression visitArrayCreation(ArrayCreation arrayCreation) {
+        arrayCreation.setInitializationExpression(visitExpression(arrayCreation.getInitializationExpression()));
+
+        return arrayCreation;
+    }
+
+    @Override
+    public Expression visitAssignmentExpression(AssignmentExpression assignmentExpression) {
+        visitAssignedExpression(assignmentExpression.getVariable());
+        assignmentExpression.setExpression(assignmentExpression.getExpression().accept(this));
+
+        return assignmentExpression;
+    }
+
+    @Override
+    public Expression visitBinaryExpression(BinaryExpression binaryExpression) {
+        //Hoist the whole expression if possible
+        Expression expression = hoister.hoistExpression(binaryExpression, this);
+        if(expression != null)
+            return expression;
+
+        binaryExpression.setFirst(binaryExpression.getFirst().accept(this));
+
+        //The second operand of a type comparison is a type
+        if(binaryExpression.getKind() != BinaryExpression.Kind.TYPE_EQUAL
+                && binaryExpression.getKind() != BinaryExpression.Kind.TYPE_NOT_EQUAL)
+            binaryExpression.setSecond(binaryExpression.getSecond().accept(this));
+
+        return reducer.reduceExpression(binaryExpression);
+    }
+
+    @Override
+    public Expression visitCastExpression(CastExpression castExpression) {
+        //Hoist the whole expression if possible
+        Expression expression = hoister.hoistExpression(castExpression, this);
+        if(expression != null)
+            return expression;
+
+        castExpression.setExpression(castExpression.getExpression().accept(this));
+
+        return castExpression;
+    }
+
+    @Override
+    public Expression visitClassCreation(ClassCreation classCreation) {
+        classCreation.getArgumentList().accept(this);
+
+        return classCreation;
+    }
+
+    @Override
+    public Expression visitIfExpression(IfExpression ifExpression) {
+        ifExpression.setCondition(ifExpression.getCondition().accept(this));
+        ifExpression.setExpression(ifExpression.getExpression().accept(this));
+        ifExpression.setElseExpression(ifExpression.getElseExpression().accept(this));
+
+        return ifExpression;
+    }
+
+    @Override
+    public Expression visitLiteral(Literal literal) {
+        //Visit array elements
+        if(literal instanceof Literal.Array array) {
+            List<Expression> elements = array.getElements();
+            elements.replaceAll(element -> element.accept(this));
+        }
+
+        return literal;
+    }
+
+    @Override
+    public Expression visitMemberAccess(MemberAccess memberAccess) {
+        //Hoist the field or array size access if possible
+        Expression expression = hoister.hoistExpression(memberAccess, this);
+        if(expression != null)
+            return expression;
+
+        //Inline the called method if possible
+        expression = inliner.inlineExpression(memberAccess, this);
+        if(expression != null)
+            return expression;
+
+        //Visit member if the access is not static
+        if(memberAccess.getMember().getExpressionType() != null)
+            memberAccess.setMember(memberAccess.getMember().accept(this));
+
+        //Visit method call arguments
+        if(memberAccess.getAccessor() instanceof MethodCall methodCall)
+            methodCall.getArgumentList().accept(this);
+
+        return memberAccess;
+    }
+
+    @Override
+    public Expression visitMethodCall(MethodCall methodCall) {
+        //Inline the called method if possible
+        Expression expression = inliner.inlineExpression(methodCall, this);
+        if(expression != null)
+            return expression;
+
+        methodCall.getArgumentList().accept(this);
+
+        return methodCall;
+    }
+
+    @Override
+    public Expression visitProdExpression(ProdExpression prodExpression) {
+        //Visit initialization statement before the product
+        prodExpression.setVariableInitialization(prodExpression.getVariableInitialization().accept(this));
+
+        Hoister.Region region = getStatementRegion();
+
+        //Visit the repeated expressions in the product region
+        if(region != null)
+            hoister.enterRegion(region);
+        prodExpression.setCondition(prodExpression.getCondition().accept(this));
+        prodExpression.setIncrementExpression(prodExpression.getIncrementExpression().accept(this));
+        prodExpression.setExpression(prodExpression.getExpression().accept(this));
+        if(region != null)
+            hoister.exitRegion();
+
+        return prodExpression;
+    }
+
+    @Override
+    public Expression visitQualifiedName(QualifiedName qualifiedName) {
+        //Hoist the field or array size access if possible
+        Expression expression = hoister.hoistExpression(qualifiedName, this);
+        if(expression != null)
+            return expression;
+
+        //Visit qualified name if the access is not static
+        if(qualifiedName.getQualifiedName().getExpressionType() != null)
+            qualifiedName.setQualifiedName(qualifiedName.getQualifiedName().accept(this));
+
+        return qualifiedName;
+    }
+
+    @Override
+    public Expression visitSimpleName(SimpleName simpleName) {
+        //Hoist the field access if possible
+        Expression expression = hoister.hoistExpression(simpleName, this);
+
+        return expression != null ? expression : simpleName;
+    }
+
+    @Override
+    public Expression visitSumExpression(SumExpression sumExpression) {
+        //Visit initialization statement before the summation
+        sumExpression.setVariableInitialization(sumExpression.getVariableInitialization().accept(this));
+
+        Hoister.Region region = getStatementRegion();
+
+        //Visit the repeated expressions in the summation region
+        if(region != null)
+            hoister.enterRegion(region);
+        sumExpression.setCondition(sumExpression.getCondition().accept(this));
+        sumExpression.setIncrementExpression(sumExpression.getIncrementExpression().accept(this));
+        sumExpression.setExpression(sumExpression.getExpression().accept(this));
+        if(region != null)
+            hoister.exitRegion();
+
+        return sumExpression;
+    }
+
+    @Override
+    public Expression visitUnaryExpression(UnaryExpression unaryExpression) {
+        //Visit incremented variable
+        if(unaryExpression.getKind().isIncrement() || unaryExpression.getKind().isDecrement()) {
+            visitAssignedExpression(unaryExpression.getExpression());
+            return unaryExpression;
+        }
+
+        //Hoist the whole expression if possible
+        Expression expression = hoister.hoistExpression(unaryExpression, this);
+        if(expression != null)
+            return expression;
+
+        unaryExpression.setExpression(unaryExpression.getExpression().accept(this));
+
+        return unaryExpression;
+    }
+
+    @Override
+    public Node visitArgumentList(ArgumentList argumentList) {
+        argumentList.getArguments().replaceAll(argument -> argument.accept(this));
+
+        return argumentList;
     }
 }
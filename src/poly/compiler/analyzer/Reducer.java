@@ -0,0 +1,258 @@
+package poly.compiler.analyzer;
+
+import poly.compiler.analyzer.type.Array;
+import poly.compiler.analyzer.type.Primitive;
+import poly.compiler.parser.tree.expression.*;
+
+/**
+ * The Reducer class. This class is used by the Optimizer class to replace integer operations
+ * with cheaper equivalent operations. This includes replacing multiplications, divisions and modulos
+ * by a constant power of two with shifts and masks. The signed division and modulo of a local variable
+ * are rounded toward zero by adding a bias to negative values, so that their result is left unchanged.
+ * @author Vincent Philippe (@vincent64)
+ */
+final class Reducer {
+    private final Inspector inspector;
+
+    Reducer(Inspector inspector) {
+        this.inspector = inspector;
+    }
+
+    /**
+     * Reduces and returns the given binary expression, or returns the expression itself if it cannot be reduced.
+     * @param binaryExpression the binary expression
+     * @return the reduced expression
+     */
+    Expression reduceExpression(BinaryExpression binaryExpression) {
+        //Make sure the operation is on integers
+        if(!(binaryExpression.getFirst().getExpressionType() instanceof Primitive primitive1)
+                || !(binaryExpression.getSecond().getExpressionType() instanceof Primitive primitive2)
+                || !primitive1.isIntegerType() || !primitive2.isIntegerType())
+            return binaryExpression;
+
+        Primitive operationType = Primitive.getWidestPrimitiveBetween(primitive1, primitive2);
+
+        //Make sure the shifted operand is not promoted to a wider type than the operation
+        if(binaryExpression.getKind() != BinaryExpression.Kind.OPERATION_MULTIPLICATION
+                && !hasType(binaryExpression.getFirst(), operationType))
+            return binaryExpression;
+
+        return switch(binaryExpression.getKind()) {
+            case OPERATION_MULTIPLICATION -> reduceMultiplication(binaryExpression, operationType);
+            case OPERATION_DIVISION -> reduceDivision(binaryExpression, operationType);
+            case OPERATION_MODULO -> reduceModulo(binaryExpression, operationType);
+            default -> binaryExpression;
+        };
+    }
+
+    /**
+     * Reduces the multiplication by a power of two to a left shift.
+     * @param binaryExpression the multiplication expression
+     * @param operationType the operation type
+     * @return the reduced expression
+     */
+    private Expression reduceMultiplication(BinaryExpression binaryExpression, Primitive operationType) {
+        Expression first = binaryExpression.getFirst();
+        Expression second = binaryExpression.getSecond();
+
+        //Move the constant to the second operand
+        if(getExponent(second) < 0 && getExponent(first) > 0) {
+            first = binaryExpression.getSecond();
+            second = binaryExpression.getFirst();
+        }
+
+        int exponent = getExponent(second);
+        if(exponent < 0 || !hasType(first, operationType))
+            return binaryExpression;
+
+        //x * 2^k = x << k
+        return generateBinaryExpression(BinaryExpression.Kind.BITWISE_SHIFT_LEFT,
+                first, generateLiteral(second, exponent, Primitive.Kind.INTEGER), binaryExpression.getExpressionType());
+    }
+
+    /**
+     * Reduces the division by a power of two to an arithmetic right shift.
+     * @param binaryExpression the division expression
+     * @param operationType the operation type
+     * @return the reduced expression
+     */
+    private Expression reduceDivision(BinaryExpression binaryExpression, Primitive operationType) {
+        Expression first = binaryExpression.getFirst();
+        int exponent = getExponent(binaryExpression.getSecond());
+        if(exponent < 0)
+            return binaryExpression;
+
+        //x / 2^k = x >>> k for a positive dividend
+        if(isPositive(first))
+            return generateBinaryExpression(BinaryExpression.Kind.BITWISE_SHIFT_RIGHT_ARITHMETIC,
+                    first, generateLiteral(first, exponent, Primitive.Kind.INTEGER), binaryExpression.getExpressionType());
+
+        if(!isLocalVariable(first))
+            return binaryExpression;
+
+        //x / 2^k = (x + bias) >>> k
+        BinaryExpression biasedExpression = generateBinaryExpression(BinaryExpression.Kind.OPERATION_ADDITION,
+                first, generateBias(first, exponent, operationType), operationType);
+
+        return generateBinaryExpression(BinaryExpression.Kind.BITWISE_SHIFT_RIGHT_ARITHMETIC,
+                biasedExpression, generateLiteral(first, exponent, Primitive.Kind.INTEGER), binaryExpression.getExpressionType());
+    }
+
+    /**
+     * Reduces the modulo by a power of two to a bitwise AND.
+     * @param binaryExpression the modulo expression
+     * @param operationType the operation type
+     * @return the reduced expression
+     */
+    private Expression reduceModulo(BinaryExpression binaryExpression, Primitive operationType) {
+        Expression first = binaryExpression.getFirst();
+        int exponent = getExponent(binaryExpression.getSecond());
+        if(exponent < 0)
+            return binaryExpression;
+
+        long divisor = 1L << exponent;
+
+        //x % 2^k = x & (2^k - 1) for a positive dividend
+        if(isPositive(first))
+            return generateBinaryExpression(BinaryExpression.Kind.BITWISE_AND,
+                    first, generateLiteral(first, divisor - 1, operationType.getPrimitiveKind()), binaryExpression.getExpressionType());
+
+        if(!isLocalVariable(first))
+            return binaryExpression;
+
+        //x % 2^k = x - ((x + bias) & -2^k)
+        BinaryExpression biasedExpression = generateBinaryExpression(BinaryExpression.Kind.OPERATION_ADDITION,
+                copyLocalVariable(first), generateBias(first, exponent, operationType), operationType);
+        BinaryExpression maskedExpression = generateBinaryExpression(BinaryExpression.Kind.BITWISE_AND,
+                biasedExpression, generateLiteral(first, -divisor, operationType.getPrimitiveKind()), operationType);
+
+        return generateBinaryExpression(BinaryExpression.Kind.OPERATION_SUBTRACTION,
+                first, maskedExpression, binaryExpression.getExpressionType());
+    }
+
+    /**
+     * Generates the bias added to the given dividend before shifting, which is 2^k - 1
+     * if the dividend is negative, and 0 otherwise: (x >>> (w - 1)) >> (w - k).
+     * @param dividend the dividend local variable
+     * @param exponent the divisor exponent
+     * @param operationType the operation type
+     * @return the bias expression
+     */
+    private Expression generateBias(Expression dividend, int exponent, Primitive operationType) {
+        int width = operationType.getPrimitiveKind() == Primitive.Kind.LONG ? Long.SIZE : Integer.SIZE;
+
+        BinaryExpression signExpression = generateBinaryExpression(BinaryExpression.Kind.BITWISE_SHIFT_RIGHT_ARITHMETIC,
+                copyLocalVariable(dividend), generateLiteral(dividend, width - 1, Primitive.Kind.INTEGER), operationType);
+
+        return generateBinaryExpression(BinaryExpression.Kind.BITWISE_SHIFT_RIGHT,
+                signExpression, generateLiteral(dividend, width - exponent, Primitive.Kind.INTEGER), operationType);
+    }
+
+    /**
+     * Returns the exponent of the given power of two integer literal, or -1 if the expression is not
+     * a power of two integer literal greater than one.
+     * @param expression the expression
+     * @return the exponent
+     */
+    private int getExponent(Expression expression) {
+        long value;
+        if(expression instanceof Literal.Integer literal)
+            value = literal.getValue();
+        else if(expression instanceof Literal.Long literal)
+            value = literal.getValue();
+        else
+            return -1;
+
+        return value > 1 && Long.bitCount(value) == 1 ? Long.numberOfTrailingZeros(value) : -1;
+    }
+
+    /**
+     * Returns whether the given expression is known to never be negative.
+     * @param expression the expression
+     * @return true if the expression is positive
+     */
+    private boolean isPositive(Expression expression) {
+        //The size of an array is never negative
+        if(expression instanceof MemberAccess memberAccess)
+            return memberAccess.getMember().getExpressionType() instanceof Array
+                    && memberAccess.getAccessor() instanceof SimpleName simpleName
+                    && simpleName.getName().equals(Array.SIZE);
+
+        if(expression instanceof QualifiedName qualifiedName)
+            return qualifiedName.getQualifiedName().getExpressionType() instanceof Array
+                    && qualifiedName.getName().equals(Array.SIZE);
+
+        if(expression instanceof Literal.Integer literal)
+            return literal.getValue() >= 0;
+
+        return expression instanceof Literal.Long literal && literal.getValue() >= 0;
+    }
+
+    /**
+     * Returns whether the given expression is a local variable, which can be read multiple times.
+     * @param expression the expression
+     * @return true if the expression is a local variable
+     */
+    private boolean isLocalVariable(Expression expression) {
+        return expression instanceof SimpleName simpleName && inspector.isLocalVariable(simpleName.getName());
+    }
+
+    /**
+     * Generates a copy of the given local variable expression.
+     * @param expression the local variable expression
+     * @return the local variable copy
+     */
+    private SimpleName copyLocalVariable(Expression expression) {
+        SimpleName simpleName = new SimpleName(expression.getMeta());
+        simpleName.setName(((SimpleName) expression).getName());
+        simpleName.setExpressionType(expression.getExpressionType());
+
+        return simpleName;
+    }
+
+    /**
+     * Returns whether the given expression is already of the given operation type once promoted.
+     * @param expression the expression
+     * @param operationType the operation type
+     * @return true if the expression has the operation type
+     */
+    private boolean hasType(Expression expression, Primitive operationType) {
+        return operationType.getPrimitiveKind() != Primitive.Kind.LONG
+                || ((Primitive) expression.getExpressionType()).getPrimitiveKind() == Primitive.Kind.LONG;
+    }
+
+    /**
+     * Generates an integer or long literal with the given value, located at the given expression.
+     * @param expression the expression
+     * @param value the value
+     * @param kind the literal primitive kind
+     * @return the literal
+     */
+    private Literal generateLiteral(Expression expression, long value, Primitive.Kind kind) {
+        Literal literal = kind == Primitive.Kind.LONG
+                ? new Literal.Long(expression.getMeta(), value)
+                : new Literal.Integer(expression.getMeta(), (int) value);
+        literal.setExpressionType(new Primitive(kind));
+
+        return literal;
+    }
+
+    /**
+     * Generates a binary expression with the given kind, operands and expression type.
+     * @param kind the binary expression kind
+     * @param first the first operand
+     * @param second the second operand
+     * @param type the expression type
+     * @return the binary expression
+     */
+    private BinaryExpression generateBinaryExpression(BinaryExpression.Kind kind, Expression first, Expression second,
+                                                      poly.compiler.analyzer.type.Type type) {
+        BinaryExpression binaryExpression = new BinaryExpression(first.getMeta());
+        binaryExpression.setKind(kind);
+        binaryExpression.setFirst(first);
+        binaryExpression.setSecond(second);
+        binaryExpression.setExpressionType(type);
+
+        return binaryExpression;
+    }
+}
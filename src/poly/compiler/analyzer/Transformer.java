@@ -5,18 +5,32 @@ import poly.compiler.analyzer.type.Object;
 import poly.compiler.analyzer.type.Primitive;
 import poly.compiler.analyzer.type.Type;
 import poly.compiler.error.AnalyzingError;
+import poly.compiler.parser.tree.MethodDeclaration;
 import poly.compiler.parser.tree.Node;
+import poly.compiler.parser.tree.NodeGenerator;
 import poly.compiler.parser.tree.expression.*;
+import poly.compiler.parser.tree.statement.ReturnStatement;
+import poly.compiler.parser.tree.statement.StatementBlock;
 import poly.compiler.parser.tree.variable.ArgumentList;
+import poly.compiler.parser.tree.variable.Parameter;
+import poly.compiler.parser.tree.variable.ParameterList;
+import poly.compiler.parser.tree.variable.VariableDeclaration;
+import poly.compiler.resolver.Classes;
+import poly.compiler.resolver.LibraryClasses;
 import poly.compiler.resolver.symbol.ClassSymbol;
 import poly.compiler.util.ClassName;
 
+import java.util.List;
+
 /**
  * The Transformer class. This class is used by the Analyzer class to transform
- * some complex parts of the AST. This includes transforming operation overload.
+ * some complex parts of the AST. This includes transforming operation overload,
+ * augmented assignments of objects without an in-place operation overload
+ * and the body of asynchronous methods.
  * @author Vincent Philippe (@vincent64)
  */
 public final class Transformer {
+    private static final String ASYNC_PARAMETER_PREFIX = "async$";
     private final Analyzer analyzer;
     private final ClassSymbol classSymbol;
 
@@ -53,6 +67,92 @@ public final class Transformer {
         return memberAccess.accept(analyzer);
     }
 
+    /**
+     * Transforms the given augmented assignment node to an assignment of the corresponding
+     * operation between the variable and the expression.
+     * @param assignmentExpression the assignment expression node
+     * @return the transformed node
+     */
+    Expression transformAssignmentOperation(AssignmentExpression assignmentExpression) {
+        SimpleName variable = (SimpleName) assignmentExpression.getVariable();
+
+        //Generate operation variable operand
+        SimpleName simpleName = new SimpleName(variable.getMeta());
+        simpleName.setName(variable.getName());
+
+        //Generate operation
+        BinaryExpression binaryExpression = new BinaryExpression(assignmentExpression.getMeta());
+        binaryExpression.setKind(getBinaryExpressionKind(assignmentExpression.getKind()));
+        binaryExpression.setFirst(simpleName);
+        binaryExpression.setSecond(assignmentExpression.getExpression());
+
+        //Transform augmented assignment to simple assignment
+        AssignmentExpression simpleAssignment = new AssignmentExpression(assignmentExpression.getMeta());
+        simpleAssignment.setKind(AssignmentExpression.Kind.ASSIGNMENT);
+        simpleAssignment.setVariable(variable);
+        simpleAssignment.setExpression(binaryExpression);
+
+        return simpleAssignment.accept(analyzer);
+    }
+
+    /**
+     * Transforms the body of the given asynchronous method declaration to the submission of a task
+     * lambda expression with the given functional interface, and returns the future of the task.
+     * The parameters are renamed and copied into local variables of the task, since the
+     * lambda expression cannot assign the variables it captures.
+     * @param methodDeclaration the asynchronous method declaration
+     * @param taskSymbol the task functional interface symbol
+     */
+    void transformAsyncMethod(MethodDeclaration methodDeclaration, ClassSymbol taskSymbol) {
+        Node.Meta meta = methodDeclaration.getBody().getMeta();
+        StatementBlock body = (StatementBlock) methodDeclaration.getBody();
+
+        //Copy every parameter into a local variable of the task, so that the parameters can be reassigned
+        List<Node> parameters = ((ParameterList) methodDeclaration.getParameterList()).getParameters();
+        for(int i = parameters.size() - 1; i >= 0; i--) {
+            Parameter parameter = (Parameter) parameters.get(i);
+            String parameterName = parameter.getName();
+
+            SimpleName simpleName = new SimpleName(meta);
+            simpleName.setName(ASYNC_PARAMETER_PREFIX + parameterName);
+
+            VariableDeclaration variableDeclaration = new VariableDeclaration(meta);
+            variableDeclaration.setName(parameterName);
+            variableDeclaration.setType(parameter.getType());
+            variableDeclaration.setInitializationExpression(simpleName);
+            if(parameter.isConstant()) variableDeclaration.setConstant();
+
+            body.addFirstStatement(variableDeclaration);
+            parameter.setName(ASYNC_PARAMETER_PREFIX + parameterName);
+        }
+
+        //Generate task lambda expression
+        LambdaExpression lambdaExpression = new LambdaExpression(meta);
+        lambdaExpression.setParameterList(new ParameterList(meta));
+        lambdaExpression.setBody(body);
+        lambdaExpression.setExpressionType(new Object(taskSymbol));
+
+        //Generate task submission method call
+        ArgumentList argumentList = new ArgumentList(meta);
+        argumentList.addArgument(lambdaExpression);
+
+        MethodCall methodCall = new MethodCall(meta);
+        methodCall.setMethodName("submit");
+        methodCall.setArgumentList(argumentList);
+
+        Expression member = NodeGenerator.forType(new Object(Classes.findClass(ClassName.ASYNC)));
+
+        //Return the task future
+        ReturnStatement returnStatement = new ReturnStatement(meta);
+        returnStatement.setExpression(NodeGenerator.forMemberAccess(member, methodCall));
+
+        StatementBlock statementBlock = new StatementBlock(meta);
+        statementBlock.addStatement(returnStatement);
+
+        methodDeclaration.setBody(statementBlock);
+        methodDeclaration.setReturnType(NodeGenerator.forType(new Object(LibraryClasses.findClass(ClassName.FUTURE))));
+    }
+
     /**
      * Transforms the given method call to an operation overload method invocation.
      * @param methodCall the method call
@@ -116,38 +216,6 @@ public final class Transformer {
         return innerClassCreation;
     }
 
-    /**
-     * Transforms the given binary expression node to a string concatenation method call node.
-     * @param binaryExpression the binary expression node
-     * @return the transformed node
-     */
-    Expression transformStringConcatenation(BinaryExpression binaryExpression) {
-        Expression first = binaryExpression.getFirst();
-        Expression second = binaryExpression.getSecond();
-        Type secondType = second.getExpressionType();
-
-        //Add implicit string conversion
-        if(!(secondType instanceof Object object)
-                || !object.getClassSymbol().getClassInternalQualifiedName()
-                .equals(ClassName.STRING.toInternalQualifiedName())) {
-            //Generate method call
-            ArgumentList argumentList = new ArgumentList(binaryExpression.getMeta());
-            argumentList.addArgument(second);
-            MethodCall methodCall = new MethodCall(binaryExpression.getMeta());
-            methodCall.setMethodName("valueOf");
-            methodCall.setArgumentList(argumentList);
-
-            //Generate member access
-            MemberAccess memberAccess = new MemberAccess(binaryExpression.getMeta());
-            memberAccess.setMember(QualifiedName.fromClassName(ClassName.STRING));
-            memberAccess.setAccessor(methodCall);
-            binaryExpression.setSecond(memberAccess);
-            second = memberAccess;
-        }
-
-        return transformOperationOverload(binaryExpression, first, second, "concat");
-    }
-
     /**
      * Transforms the given binary expression node to a string repeating method call node.
      * @param binaryExpression the binary expression node
@@ -183,4 +251,26 @@ public final class Transformer {
 
         return transformOperationOverload(arrayAccess, array, access, "charAt");
     }
+
+    /**
+     * Returns the binary expression kind corresponding to the given augmented assignment kind.
+     * @param assignmentKind the assignment kind
+     * @return the binary expression kind
+     */
+    private BinaryExpression.Kind getBinaryExpressionKind(AssignmentExpression.Kind assignmentKind) {
+        return switch(assignmentKind) {
+            case ASSIGNMENT_ADDITION -> BinaryExpression.Kind.OPERATION_ADDITION;
+            case ASSIGNMENT_SUBTRACTION -> BinaryExpression.Kind.OPERATION_SUBTRACTION;
+            case ASSIGNMENT_MULTIPLICATION -> BinaryExpression.Kind.OPERATION_MULTIPLICATION;
+            case ASSIGNMENT_DIVISION -> BinaryExpression.Kind.OPERATION_DIVISION;
+            case ASSIGNMENT_MODULO -> BinaryExpression.Kind.OPERATION_MODULO;
+            case ASSIGNMENT_BITWISE_AND -> BinaryExpression.Kind.BITWISE_AND;
+            case ASSIGNMENT_BITWISE_XOR -> BinaryExpression.Kind.BITWISE_XOR;
+            case ASSIGNMENT_BITWISE_OR -> BinaryExpression.Kind.BITWISE_OR;
+            case ASSIGNMENT_SHIFT_LEFT -> BinaryExpression.Kind.BITWISE_SHIFT_LEFT;
+            case ASSIGNMENT_SHIFT_RIGHT -> BinaryExpression.Kind.BITWISE_SHIFT_RIGHT;
+            case ASSIGNMENT_SHIFT_RIGHT_ARITHMETIC -> BinaryExpression.Kind.BITWISE_SHIFT_RIGHT_ARITHMETIC;
+            default -> null;
+        };
+    }
 }
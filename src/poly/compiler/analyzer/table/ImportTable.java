@@ -8,8 +8,8 @@ import poly.compiler.resolver.Classes;
 import poly.compiler.resolver.symbol.ClassSymbol;
 import poly.compiler.util.ClassName;
 
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -25,8 +25,8 @@ public class ImportTable {
      * @param contentNode the content node
      */
     public ImportTable(ContentNode contentNode) {
-        //Initialize imports list
-        importations = new HashMap<>();
+        //Initialize imports list in declaration order
+        importations = new LinkedHashMap<>();
 
         //Add every import statement to the list
         for(Node node : contentNode.getImports())
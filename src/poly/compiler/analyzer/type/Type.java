@@ -95,7 +95,7 @@ public abstract class Type {
             //Find class in outer classes
             Symbol ownerSymbol = classSymbol.getOwnerSymbol();
             while(ownerSymbol instanceof ClassSymbol ownerClassSymbol) {
-                if((classTypeSymbol = classSymbol.findClass(className)) != null)
+                if((classTypeSymbol = ownerClassSymbol.findClass(className)) != null)
                     return new Object(classTypeSymbol);
 
                 ownerSymbol = ownerClassSymbol.getOwnerSymbol();
@@ -302,6 +302,14 @@ public abstract class AnalyzingError extends Error {
         }
     }
 
+    public static class InvalidLightSuperCall extends AnalyzingError {
+        private static final String MESSAGE = "Light exception can only pass a message and a cause to java.lang.RuntimeException";
+
+        public InvalidLightSuperCall(Node node) {
+            super(node, MESSAGE);
+        }
+    }
+
     public static class InterfaceCreation extends AnalyzingError {
         private static final String MESSAGE = "Cannot instantiate interface";
 
@@ -375,7 +383,7 @@ public abstract class AnalyzingError extends Error {
     }
 
     public static class InvalidSwitchExpression extends AnalyzingError {
-        private static final String MESSAGE = "Switch statement expression must a primitive integer value";
+        private static final String MESSAGE = "Switch statement expression must be a primitive integer, a string or an enum value";
 
         public InvalidSwitchExpression(Node node) {
             super(node, MESSAGE);
@@ -390,6 +398,30 @@ public abstract class AnalyzingError extends Error {
         }
     }
 
+    public static class InvalidLambdaTarget extends AnalyzingError {
+        private static final String MESSAGE = "Cannot convert lambda expression to type '%s', which is not a functional interface";
+
+        public InvalidLambdaTarget(Node node, Type type) {
+            super(node, MESSAGE.formatted(type));
+        }
+    }
+
+    public static class InvalidLambdaParameters extends AnalyzingError {
+        private static final String MESSAGE = "Lambda expression parameters do not match the functional interface method '%s'";
+
+        public InvalidLambdaParameters(Node node, String name, Type[] types) {
+            super(node, MESSAGE.formatted(MethodStringifier.stringify(name, types)));
+        }
+    }
+
+    public static class CapturedVariableAssignment extends AnalyzingError {
+        private static final String MESSAGE = "Variable '%s' is captured by the lambda expression and cannot be assigned";
+
+        public CapturedVariableAssignment(Node node, String name) {
+            super(node, MESSAGE.formatted(name));
+        }
+    }
+
     public static class ExpectedNumericalExpression extends AnalyzingError {
         private static final String MESSAGE = "Numerical expression expected";
 
@@ -430,6 +462,70 @@ public abstract class AnalyzingError extends Error {
         }
     }
 
+    public static class ExpectedIterableType extends AnalyzingError {
+        private static final String MESSAGE = "Array or iterable type expected";
+
+        public ExpectedIterableType(Node node) {
+            super(node, MESSAGE);
+        }
+    }
+
+    public static class InvalidParallelRange extends AnalyzingError {
+        private static final String MESSAGE = "Parallel range must increment an integer variable by one up to a bound";
+
+        public InvalidParallelRange(Node node) {
+            super(node, MESSAGE);
+        }
+    }
+
+    public static class InvalidParallelIterable extends AnalyzingError {
+        private static final String MESSAGE = "Parallel foreach-statement can only iterate through an array or an array list";
+
+        public InvalidParallelIterable(Node node) {
+            super(node, MESSAGE);
+        }
+    }
+
+    public static class ParallelFieldAssignment extends AnalyzingError {
+        private static final String MESSAGE = "Field '%s' cannot be assigned in a parallel foreach-statement";
+
+        public ParallelFieldAssignment(Node node, String name) {
+            super(node, MESSAGE.formatted(name));
+        }
+    }
+
+    public static class ParallelReturn extends AnalyzingError {
+        private static final String MESSAGE = "Cannot return from a parallel foreach-statement";
+
+        public ParallelReturn(Node node) {
+            super(node, MESSAGE);
+        }
+    }
+
+    public static class InvalidAsyncMethod extends AnalyzingError {
+        private static final String MESSAGE = "Constructor cannot be asynchronous";
+
+        public InvalidAsyncMethod(Node node) {
+            super(node, MESSAGE);
+        }
+    }
+
+    public static class ExpectedFutureType extends AnalyzingError {
+        private static final String MESSAGE = "Future type expected";
+
+        public ExpectedFutureType(Node node) {
+            super(node, MESSAGE);
+        }
+    }
+
+    public static class InvalidThreadStatement extends AnalyzingError {
+        private static final String MESSAGE = "Thread-statement can only contain variable declarations and expression statements";
+
+        public InvalidThreadStatement(Node node) {
+            super(node, MESSAGE);
+        }
+    }
+
     public static class InvalidAssignment extends AnalyzingError {
         private static final String MESSAGE = "Cannot assign variable with type '%s'";
 
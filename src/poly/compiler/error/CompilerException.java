@@ -2,14 +2,40 @@ package poly.compiler.error;
 
 /**
  * The CompilerException exception. This exception is thrown when an issue that
- * should never happen has been detected.
+ * should never happen has been detected, or when an error has been reported
+ * and the compilation of the current unit must be stopped.
  * @author Vincent Philippe (@vincent64)
  */
 public class CompilerException extends RuntimeException {
     private static final String MESSAGE = "An unexpected exception was thrown while compiling the code." +
             "Please report this issue on GitHub immediatly.";
+    private final int code;
 
     public CompilerException() {
         super(MESSAGE);
+        code = 0;
+    }
+
+    public CompilerException(String message) {
+        super(message);
+        code = 0;
+    }
+
+    public CompilerException(String message, int code) {
+        super(message);
+        this.code = code;
+    }
+
+    /**
+     * Returns whether the exception was thrown after an error has been reported,
+     * rather than after an unexpected issue.
+     * @return true if an error has been reported
+     */
+    public boolean isReported() {
+        return code != 0;
+    }
+
+    public int getCode() {
+        return code;
     }
 }
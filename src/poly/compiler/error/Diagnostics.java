@@ -0,0 +1,74 @@
+package poly.compiler.error;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The Diagnostics class. This class is the sink in which every error detected
+ * during the compilation is collected. It allows the compiler to keep reporting
+ * the errors of every compilation unit instead of stopping at the first one,
+ * and to be reused for several compilations within the same process.
+ * @author Vincent Philippe (@vincent64)
+ */
+public class Diagnostics {
+    private static final List<String> errors = new ArrayList<>();
+    private static int exitCode;
+
+    private Diagnostics() {}
+
+    /**
+     * Reports the error with the given message and error code, and prints its message.
+     * @param message the error message
+     * @param code the error code
+     */
+    public static synchronized void report(String message, int code) {
+        //Keep the code of the first error as exit code
+        if(errors.isEmpty())
+            exitCode = code;
+
+        errors.add(message);
+
+        //Print error message
+        System.err.println("[ERROR] " + message);
+    }
+
+    /**
+     * Clears the reported errors. This method must be called before every compilation.
+     */
+    public static synchronized void clear() {
+        errors.clear();
+        exitCode = 0;
+    }
+
+    /**
+     * Returns whether at least one error has been reported.
+     * @return true if an error has been reported
+     */
+    public static synchronized boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    /**
+     * Returns the number of reported errors.
+     * @return the errors count
+     */
+    public static synchronized int getErrorCount() {
+        return errors.size();
+    }
+
+    /**
+     * Returns the list of reported error messages.
+     * @return the error messages list
+     */
+    public static synchronized List<String> getErrors() {
+        return new ArrayList<>(errors);
+    }
+
+    /**
+     * Returns the code of the first reported error, or 0 if no error has been reported.
+     * @return the exit code
+     */
+    public static synchronized int getExitCode() {
+        return exitCode;
+    }
+}
@@ -44,4 +44,20 @@ public abstract class GeneralError extends Error {
             super(MESSAGE);
         }
     }
+
+    public static class MissingMainMethod extends GeneralError {
+        private static final String MESSAGE = "Cannot find a public static main method in '%s'";
+
+        public MissingMainMethod(String className) {
+            super(MESSAGE.formatted(className));
+        }
+    }
+
+    public static class AmbiguousMainMethod extends GeneralError {
+        private static final String MESSAGE = "Found main methods in both '%s' and '%s', use --main to select one";
+
+        public AmbiguousMainMethod(String firstClassName, String secondClassName) {
+            super(MESSAGE.formatted(firstClassName, secondClassName));
+        }
+    }
 }
@@ -95,6 +95,14 @@ public abstract class ResolvingError extends Error {
         }
     }
 
+    public static class InvalidLightClass extends ResolvingError {
+        private static final String MESSAGE = "Only exceptions can be light";
+
+        public InvalidLightClass(Node node) {
+            super(node, MESSAGE);
+        }
+    }
+
     public static class ExpectedClass extends ResolvingError {
         private static final String MESSAGE = "Class expected";
 
@@ -297,4 +305,28 @@ public abstract class ResolvingError extends Error {
             super(node, MESSAGE);
         }
     }
+
+    public static class InvalidLightSuperclass extends ResolvingError {
+        private static final String MESSAGE = "Light exception superclass must be java.lang.RuntimeException or a light exception";
+
+        public InvalidLightSuperclass(Node node) {
+            super(node, MESSAGE);
+        }
+    }
+
+    public static class InvalidMemoMethod extends ResolvingError {
+        private static final String MESSAGE = "Memoized method cannot be a constructor, asynchronous, empty or in an interface";
+
+        public InvalidMemoMethod(Node node) {
+            super(node, MESSAGE);
+        }
+    }
+
+    public static class InvalidMemoSignature extends ResolvingError {
+        private static final String MESSAGE = "Memoized method must have a return type and at least one parameter";
+
+        public InvalidMemoSignature(Node node) {
+            super(node, MESSAGE);
+        }
+    }
 }
@@ -1,7 +1,10 @@
 package poly.compiler.file;
 
 import poly.compiler.output.ClassFile;
+import poly.compiler.output.attribute.Attribute;
+import poly.compiler.output.attribute.InnerClass;
 import poly.compiler.output.attribute.InnerClassesAttribute;
+import poly.compiler.output.attribute.LightExceptionAttribute;
 import poly.compiler.output.content.*;
 import poly.compiler.output.jvm.Instructions;
 import poly.compiler.resolver.LibraryClasses;
@@ -52,12 +55,18 @@ public class ClassReader {
         //Get superclass index in constant pool
         short superclassIndex = readShort();
 
+        Interfaces interfaces = readInterfaces(readShort());
+        Fields fields = readFields(readShort());
+        Methods methods = readMethods(readShort());
+        Attributes attributes = readAttributes(constantPool, readShort());
+
+        //Add static access flag of nested class
+        if(isStaticNestedClass(attributes, classIndex))
+            accessFlag |= Instructions.ClassAccessFlag.STATIC;
+
         //Initialize class file
         ClassFile classFile = new ClassFile(accessFlag, classIndex, superclassIndex, constantPool,
-                readInterfaces(readShort()),
-                readFields(readShort()),
-                readMethods(readShort()),
-                readAttributes(constantPool, readShort()));
+                interfaces, fields, methods, attributes);
 
         ClassName className = ClassName.fromStringQualifiedName(classFile.getClassQualifiedName());
 
@@ -215,6 +224,12 @@ public class ClassReader {
                 attributes.addAttribute(readInnerClasses(constantPool, readShort()));
             }
 
+            //Add light exception attribute
+            else if(name.equals(LightExceptionAttribute.NAME)) {
+                skipBytes(readInt());
+                attributes.addAttribute(new LightExceptionAttribute(constantPool));
+            }
+
             //Skip attributes
             else skipBytes(readInt());
         }
@@ -222,6 +237,27 @@ public class ClassReader {
         return attributes;
     }
 
+    /**
+     * Returns whether the class with the given class index is declared as a static nested class
+     * in the given attributes. The static access flag of a nested class is only present
+     * in the inner classes attribute, and not in the class access flag.
+     * @param attributes the attributes
+     * @param classIndex the class index
+     * @return true if the class is a static nested class
+     */
+    private boolean isStaticNestedClass(Attributes attributes, short classIndex) {
+        for(Attribute attribute : attributes.getAttributes()) {
+            if(attribute instanceof InnerClassesAttribute innerClassesAttribute) {
+                for(InnerClass innerClass : innerClassesAttribute.getInnerClasses()) {
+                    if(innerClass.getClassIndex() == classIndex)
+                        return (innerClass.getAccessFlag() & Instructions.ClassAccessFlag.STATIC) != 0;
+                }
+            }
+        }
+
+        return false;
+    }
+
     /**
      * Reads and returns the given amount of inner class for the inner classes attribute.
      * @param constantPool the constant pool
@@ -1,15 +1,14 @@
 package poly.compiler.file;
 
-import poly.compiler.output.ClassFile;
-
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 
 /**
  * The ClassWriter class. This class is used to write class files into files.
+ * A class file is only written if its content is different from the existing file,
+ * so that the unchanged files keep their modification time.
  * @author Vincent Philippe (@vincent64)
  */
 public class ClassWriter {
@@ -17,23 +16,34 @@ public class ClassWriter {
     public static final String CLASS_EXTENSION = ".class";
 
     /**
-     * Writes the given class file in the given directory path.
-     * @param classFile the class file
-     * @param directoryPath the directory path
+     * Writes the given class file bytes in the given file path, if the file does not
+     * already contain the same bytes.
+     * @param bytes the class file bytes
+     * @param filePath the file path
+     * @return true if the file has been written
      * @throws IOException if an IO error occurred
      */
-    public static void write(ClassFile classFile, Path directoryPath) throws IOException {
-        Path filePath = directoryPath.resolve(classFile.getClassQualifiedName() + CLASS_EXTENSION);
+    public static boolean write(byte[] bytes, Path filePath) throws IOException {
+        //Make sure the file content changed
+        if(Files.isRegularFile(filePath)
+                && Files.size(filePath) == bytes.length
+                && Arrays.equals(Files.readAllBytes(filePath), bytes)) {
+            return false;
+        }
 
-        File file = new File(filePath.toString());
-        file.getParentFile().mkdirs();
+        Files.createDirectories(filePath.getParent());
+        Files.write(filePath, bytes);
 
-        //Create new file
-        if(!file.exists())
-            file.createNewFile();
+        return true;
+    }
 
-        try(OutputStream stream = new FileOutputStream(filePath.toString())) {
-            stream.write(classFile.getBytes());
-        }
+    /**
+     * Returns the path of the class file with the given qualified name in the given directory path.
+     * @param classQualifiedName the class qualified name
+     * @param directoryPath the directory path
+     * @return the file path
+     */
+    public static Path getFilePath(String classQualifiedName, Path directoryPath) {
+        return directoryPath.resolve(classQualifiedName + CLASS_EXTENSION);
     }
 }
@@ -2,10 +2,15 @@ package poly.compiler.file;
 
 import poly.compiler.tokenizer.Alphabet;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 
 /**
  * The CodeReader class. This class is used to read the content of a code file.
@@ -18,21 +23,75 @@ public class CodeReader {
 
     /**
      * Reads and returns the content of a code file as an array of characters.
-     * @param file the code file
+     * The file bytes are decoded from UTF-8 directly into the returned array,
+     * which is sized to the byte count since UTF-8 never yields more characters
+     * than bytes. Every line terminator is then converted in place to a line feed
+     * character. The array is only copied once when its final length differs,
+     * which happens with multibyte characters, carriage returns or a missing final line feed.
+     * @param file the code file path
      * @return the array of characters
      * @throws IOException if the code file could not be read
      */
-    public static char[] read(File file) throws IOException {
-        try(BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            StringBuilder stringBuilder = new StringBuilder();
+    public static char[] read(Path file) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        char[] content = new char[bytes.length];
 
-            String line;
-            while((line = reader.readLine()) != null) {
-                stringBuilder.append(line).append('\n');
+        //Decode file content into the array
+        CharBuffer buffer = CharBuffer.wrap(content);
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        ByteBuffer input = ByteBuffer.wrap(bytes);
+        decoder.decode(input, buffer, true);
+        decoder.flush(buffer);
+
+        return normalize(content, buffer.position());
+    }
+
+    /**
+     * Converts every line terminator of the given content to a line feed character,
+     * and makes sure the content ends with a line feed, as done when reading a code file.
+     * @param content the code content
+     * @return the normalized array of characters
+     */
+    public static char[] normalize(char[] content) {
+        return normalize(content, content.length);
+    }
+
+    /**
+     * Converts in place every line terminator of the first given amount of characters
+     * to a line feed character, and makes sure the content ends with a line feed.
+     * @param content the code content
+     * @param contentLength the amount of characters of the content
+     * @return the normalized array of characters
+     */
+    private static char[] normalize(char[] content, int contentLength) {
+        int length = 0;
+
+        //Normalize line terminators
+        for(int i = 0; i < contentLength; i++) {
+            char character = content[i];
+
+            if(character == '\r') {
+                //Skip line feed following a carriage return
+                if(i + 1 < contentLength && content[i + 1] == '\n')
+                    i++;
+
+                character = '\n';
             }
 
-            return stringBuilder.toString().toCharArray();
+            content[length++] = character;
         }
+
+        //Make sure the content ends with a line feed
+        if(length > 0 && content[length - 1] != '\n') {
+            if(length == content.length)
+                content = Arrays.copyOf(content, length + 1);
+
+            content[length++] = '\n';
+        }
+
+        return length == content.length ? content : Arrays.copyOf(content, length);
     }
 
     /**
@@ -1,21 +1,31 @@
 package poly.compiler.file;
 
+import poly.compiler.Compiler;
 import poly.compiler.Parameters;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.jar.JarEntry;
-import java.util.jar.JarOutputStream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 
 /**
- * The JarBuilder class. This class is used to build a JAR file using
- * the output class files after compilation.
+ * The JarBuilder class. This class is used to build a JAR file directly from
+ * the compiled class files bytes. The entries are compressed in parallel,
+ * and are then assembled into the archive with its central directory.
+ * The class entries are sorted by name, and have a fixed timestamp if the output
+ * is reproducible, so that the same class files always give the same JAR file.
  * @author Vincent Philippe (@vincent64)
  */
 public class JarBuilder {
@@ -23,71 +33,272 @@ public class JarBuilder {
     public static final String JAR_EXTENSION = ".jar";
     /** The generated JAR file name. */
     private static final String FILE_NAME = "project";
+    /** The manifest file name. */
+    private static final String MANIFEST_NAME = "META-INF/MANIFEST.MF";
 
-    private static ZipOutputStream outputStream;
+    /** The ZIP format signatures. */
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034B50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014B50;
+    private static final int END_SIGNATURE = 0x06054B50;
+    /** The ZIP format compression methods. */
+    private static final short METHOD_STORED = 0;
+    private static final short METHOD_DEFLATED = 8;
+    /** The ZIP format general purpose flag for UTF-8 entry names. */
+    private static final short FLAG_UTF8 = 0x0800;
+    /** The ZIP format limits without the ZIP64 extension. */
+    private static final int MAX_ENTRIES = 0xFFFF;
+    private static final long MAX_OFFSET = 0xFFFFFFFFL;
+    /** The environment variable defining the timestamp of reproducible builds. */
+    private static final String SOURCE_DATE_EPOCH = "SOURCE_DATE_EPOCH";
+    /** The earliest date and time of the MS-DOS format. */
+    private static final LocalDateTime DOS_EPOCH = LocalDateTime.of(1980, 1, 1, 0, 0);
 
     /**
-     * Builds a JAR file if the JAR output parameter is enabled.
+     * Builds a JAR file with the given class files bytes if the JAR output parameter is enabled.
+     * @param classes the class files bytes, mapped by class qualified name
      */
-    public static void build() {
+    public static void build(Map<String, byte[]> classes) {
         if(!Parameters.jarOutput()) return;
 
-        //Get output folder path
-        Path path = Paths.get(Parameters.getOutputPath());
-        File file = new File(path.resolve(FILE_NAME + JAR_EXTENSION).toString());
+        //Get output file path
+        Path path = Paths.get(Parameters.getOutputPath()).resolve(FILE_NAME + JAR_EXTENSION);
 
-        try {
-            //Create archive
-            outputStream = new JarOutputStream(new FileOutputStream(file));
+        List<String> names = new ArrayList<>();
+        List<byte[]> contents = new ArrayList<>();
+
+        //Add manifest file first
+        names.add(MANIFEST_NAME);
+        contents.add(getManifest());
+
+        //Add class files in name order
+        for(String className : new TreeSet<>(classes.keySet())) {
+            names.add(className + ClassWriter.CLASS_EXTENSION);
+            contents.add(classes.get(className));
+        }
 
-            //Read output class files
-            readDirectory(new File(path.toString()));
-            outputStream.close();
+        //Compress every entry in parallel
+        List<Entry> entries = contents.parallelStream()
+                .map(content -> Entry.of(content, !Parameters.jarStored()))
+                .toList();
 
+        try {
+            Files.createDirectories(path.getParent());
+
+            try(OutputStream stream = new BufferedOutputStream(Files.newOutputStream(path))) {
+                write(stream, names, entries);
+            }
         } catch(IOException e) {
-            throw new RuntimeException("Could not build JAR file.");
+            throw new RuntimeException("Could not build JAR file.", e);
         }
     }
 
     /**
-     * Reads the content of the given directory and its subdirectories.
-     * @param directory the directory
+     * Returns the content of the JAR manifest file. The main class is only defined
+     * if it has been given in the parameters.
+     * @return the manifest bytes
+     */
+    private static byte[] getManifest() {
+        StringBuilder manifest = new StringBuilder();
+        manifest.append("Manifest-Version: 1.0\r\n");
+        manifest.append("Created-By: Poly ").append(Compiler.VERSION).append("\r\n");
+
+        //Add main class
+        if(Parameters.getMainClass() != null)
+            manifest.append("Main-Class: ").append(Parameters.getMainClass().replace('/', '.')).append("\r\n");
+
+        manifest.append("\r\n");
+
+        return manifest.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the archive with the given entry names and compressed entries in the given stream.
+     * @param stream the output stream
+     * @param names the entry names
+     * @param entries the compressed entries
      * @throws IOException if an IO error occurred
      */
-    private static void readDirectory(File directory) throws IOException {
-        if(directory.listFiles() == null) return;
-
-        //Iterate through every file and subdirectory recursively
-        for(File file : directory.listFiles()) {
-            if(file.isFile()) {
-                //Read class files
-                if(file.getName().endsWith(ClassWriter.CLASS_EXTENSION))
-                    readFile(file);
-
-            } else if(file.isDirectory()) {
-                readDirectory(file);
-            }
+    private static void write(OutputStream stream, List<String> names, List<Entry> entries) throws IOException {
+        checkLimits(names, entries);
+
+        ByteArrayOutputStream centralDirectory = new ByteArrayOutputStream();
+        int[] dateTime = getDosDateTime();
+        long offset = 0;
+
+        for(int i = 0; i < entries.size(); i++) {
+            byte[] name = names.get(i).getBytes(StandardCharsets.UTF_8);
+            Entry entry = entries.get(i);
+
+            //Write local file header and content
+            writeInt(stream, LOCAL_HEADER_SIGNATURE);
+            writeShort(stream, entry.getVersion());
+            writeShort(stream, FLAG_UTF8);
+            writeShort(stream, entry.method);
+            writeShort(stream, dateTime[1]);
+            writeShort(stream, dateTime[0]);
+            writeInt(stream, entry.crc);
+            writeInt(stream, entry.content.length);
+            writeInt(stream, entry.size);
+            writeShort(stream, name.length);
+            writeShort(stream, 0);
+            stream.write(name);
+            stream.write(entry.content);
+
+            //Write central directory header
+            writeInt(centralDirectory, CENTRAL_HEADER_SIGNATURE);
+            writeShort(centralDirectory, entry.getVersion());
+            writeShort(centralDirectory, entry.getVersion());
+            writeShort(centralDirectory, FLAG_UTF8);
+            writeShort(centralDirectory, entry.method);
+            writeShort(centralDirectory, dateTime[1]);
+            writeShort(centralDirectory, dateTime[0]);
+            writeInt(centralDirectory, entry.crc);
+            writeInt(centralDirectory, entry.content.length);
+            writeInt(centralDirectory, entry.size);
+            writeShort(centralDirectory, name.length);
+            writeShort(centralDirectory, 0);
+            writeShort(centralDirectory, 0);
+            writeShort(centralDirectory, 0);
+            writeShort(centralDirectory, 0);
+            writeInt(centralDirectory, 0);
+            writeInt(centralDirectory, (int) offset);
+            centralDirectory.write(name);
+
+            offset += 30 + name.length + entry.content.length;
         }
+
+        //Write central directory
+        centralDirectory.writeTo(stream);
+
+        //Write end of central directory record
+        writeInt(stream, END_SIGNATURE);
+        writeShort(stream, 0);
+        writeShort(stream, 0);
+        writeShort(stream, entries.size());
+        writeShort(stream, entries.size());
+        writeInt(stream, centralDirectory.size());
+        writeInt(stream, (int) offset);
+        writeShort(stream, 0);
     }
 
     /**
-     * Reads the content of the given file and adds it to the JAR file.
-     * @param file the file
-     * @throws IOException if an IO error occurred
+     * Checks that the archive fits in the ZIP format without the ZIP64 extension,
+     * which is not supported. The entry count must fit in 16 bits, and the offsets
+     * and size of the central directory must fit in 32 bits.
+     * @param names the entry names
+     * @param entries the compressed entries
+     * @throws IOException if the archive is too large
+     */
+    private static void checkLimits(List<String> names, List<Entry> entries) throws IOException {
+        if(entries.size() > MAX_ENTRIES)
+            throw new IOException("Too many JAR entries (" + entries.size() + "), the maximum is " + MAX_ENTRIES + ".");
+
+        long offset = 0;
+        long centralDirectorySize = 0;
+
+        for(int i = 0; i < entries.size(); i++) {
+            int nameLength = names.get(i).getBytes(StandardCharsets.UTF_8).length;
+
+            offset += 30 + nameLength + entries.get(i).content.length;
+            centralDirectorySize += 46 + nameLength;
+        }
+
+        if(offset > MAX_OFFSET || centralDirectorySize > MAX_OFFSET)
+            throw new IOException("JAR file is too large, the maximum size is " + MAX_OFFSET + " bytes.");
+    }
+
+    /**
+     * Returns the date and time of the entries in the MS-DOS format used by the ZIP format.
+     * If the output is reproducible, the time is given by the SOURCE_DATE_EPOCH environment
+     * variable, or is the earliest MS-DOS time if the variable is not defined.
+     * Otherwise, the time is the current time.
+     * @return the date (index 0) and time (index 1)
      */
-    private static void readFile(File file) throws IOException {
-        //Read class file content
-        byte[] content = Files.readAllBytes(file.toPath());
+    private static int[] getDosDateTime() {
+        LocalDateTime time = LocalDateTime.now();
+
+        if(Parameters.reproducible()) {
+            String epoch = System.getenv(SOURCE_DATE_EPOCH);
+            time = epoch != null
+                    ? LocalDateTime.ofEpochSecond(Long.parseLong(epoch.trim()), 0, ZoneOffset.UTC)
+                    : DOS_EPOCH;
+
+            //Clamp the time to the MS-DOS format range
+            if(time.isBefore(DOS_EPOCH))
+                time = DOS_EPOCH;
+        }
+
+        int date = ((time.getYear() - 1980) << 9) | (time.getMonthValue() << 5) | time.getDayOfMonth();
+        int dosTime = (time.getHour() << 11) | (time.getMinute() << 5) | (time.getSecond() / 2);
 
-        //Get relative path from output folder
-        Path relativePath = Paths.get(Parameters.getOutputPath()).relativize(file.toPath());
+        return new int[] {date, dosTime};
+    }
 
-        //Create entry inside the archive
-        ZipEntry zipEntry = new JarEntry(relativePath.toString().replace("\\", "/"));
+    private static void writeShort(OutputStream stream, int value) throws IOException {
+        stream.write(value & 0xFF);
+        stream.write((value >>> 8) & 0xFF);
+    }
 
-        //Write bytes content in entry
-        outputStream.putNextEntry(zipEntry);
-        outputStream.write(content);
-        outputStream.closeEntry();
+    private static void writeInt(OutputStream stream, int value) throws IOException {
+        writeShort(stream, value);
+        writeShort(stream, value >>> 16);
+    }
+
+    /**
+     * The Entry class. This class represents an archive entry, and contains
+     * its stored or compressed content, its uncompressed size and checksum.
+     */
+    private static class Entry {
+        private final byte[] content;
+        private final int size;
+        private final int crc;
+        private final short method;
+
+        private Entry(byte[] content, int size, int crc, short method) {
+            this.content = content;
+            this.size = size;
+            this.crc = crc;
+            this.method = method;
+        }
+
+        /**
+         * Returns an entry with the given content, compressed if the compression is enabled
+         * and if it reduces the entry size.
+         * @param content the uncompressed content
+         * @param isCompressed whether the entry should be compressed
+         * @return the entry
+         */
+        private static Entry of(byte[] content, boolean isCompressed) {
+            CRC32 crc = new CRC32();
+            crc.update(content);
+
+            if(isCompressed) {
+                //Compress content without ZLIB header
+                Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+                deflater.setInput(content);
+                deflater.finish();
+
+                ByteArrayOutputStream stream = new ByteArrayOutputStream(content.length / 2 + 64);
+                byte[] buffer = new byte[8192];
+                while(!deflater.finished())
+                    stream.write(buffer, 0, deflater.deflate(buffer));
+
+                deflater.end();
+
+                //Keep compressed content only if smaller
+                if(stream.size() < content.length)
+                    return new Entry(stream.toByteArray(), content.length, (int) crc.getValue(), METHOD_DEFLATED);
+            }
+
+            return new Entry(content, content.length, (int) crc.getValue(), METHOD_STORED);
+        }
+
+        /**
+         * Returns the ZIP format version needed to extract the entry.
+         * @return the version
+         */
+        private short getVersion() {
+            return (short) (method == METHOD_DEFLATED ? 20 : 10);
+        }
     }
 }
@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.stream.Stream;
@@ -68,6 +69,9 @@ public class LibraryReader {
             if(files == null)
                 return libraryReader;
 
+            //Read libraries in name order
+            Arrays.sort(files);
+
             for(File file : files) {
                 if(file.isFile() && file.getName().endsWith(JarBuilder.JAR_EXTENSION))
                     libraryReader.readLibrary(file);
@@ -0,0 +1,33 @@
+package poly.compiler.file;
+
+import java.util.Map;
+
+/**
+ * The MemoryClassLoader class. This class is used to define the classes compiled in memory,
+ * so that they can be executed in the same JVM as the compiler without being written in files.
+ * @author Vincent Philippe (@vincent64)
+ */
+public class MemoryClassLoader extends java.lang.ClassLoader {
+    private final Map<String, byte[]> classes;
+
+    /**
+     * Constructs a memory class loader with the given class files bytes and parent class loader.
+     * @param classes the class files bytes, mapped by class qualified name
+     * @param parent the parent class loader
+     */
+    public MemoryClassLoader(Map<String, byte[]> classes, java.lang.ClassLoader parent) {
+        super(parent);
+        this.classes = classes;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        byte[] bytes = classes.get(name.replace('.', '/'));
+
+        //Make sure the class has been compiled
+        if(bytes == null)
+            throw new ClassNotFoundException(name);
+
+        return defineClass(name, bytes, 0, bytes.length);
+    }
+}
@@ -2,43 +2,51 @@ package poly.compiler.file;
 
 import poly.compiler.log.Debug;
 import poly.compiler.util.PackageName;
+import poly.compiler.warning.GeneralWarning;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 /**
  * The ProjectReader class. This class is used to read the content of
  * every Poly code file in the source folder of the project directory.
+ * The code files are first discovered by walking the source folder,
+ * and are then read in parallel. The files are sorted by path, so that the
+ * compilation order does not depend on the file system.
  * @author Vincent Philippe (@vincent64)
  */
 public class ProjectReader {
-    private static List<SourceCode> sourceCodes;
-
     /**
      * Reads and returns the source code files at the given source folder path.
      * @param sourcePath the source folder path
      * @return the source codes
      */
     public static List<SourceCode> read(String sourcePath) {
-        //Initialize source codes list
-        sourceCodes = new ArrayList<>();
-
         //Get source folder path
         Path path = Paths.get(sourcePath);
-        File sourceDirectory = new File(path.toString());
 
-        //Read project files
-        if(sourceDirectory.exists() && sourceDirectory.isDirectory())
-            readDirectory(sourceDirectory, new PackageName());
+        //Find project files
+        List<Path> files = new ArrayList<>();
+        if(Files.isDirectory(path)) {
+            findFiles(path, files);
+            files.sort(null);
+        }
+
+        //Find single file
+        if(Files.isRegularFile(path) && CodeReader.isPolyFile(path.getFileName().toString()))
+            files.add(path);
+
+        Path sourceDirectory = Files.isDirectory(path) ? path : path.getParent();
 
-        //Read single file
-        if(sourceDirectory.exists() && sourceDirectory.isFile()
-                && CodeReader.isPolyFile(sourceDirectory.getName()))
-            readFile(sourceDirectory, new PackageName());
+        //Read every file in parallel
+        List<SourceCode> sourceCodes = files.parallelStream()
+                .map(file -> readFile(file, getPackageName(sourceDirectory, file)))
+                .toList();
 
         //Print the source code files for debugging
         Debug.printSourceFiles(sourceCodes);
@@ -47,43 +55,69 @@ public class ProjectReader {
     }
 
     /**
-     * Reads the given directory in the source folder with the given package path.
-     * This method is called recursively if there are subdirectories.
+     * Finds every Poly code file in the given directory and its subdirectories.
+     * Symbolic links are followed, and the files that cannot be visited are skipped with a warning.
      * @param directory the directory
-     * @param packageName the package path
+     * @param files the list of files
      */
-    private static void readDirectory(File directory, PackageName packageName) {
-        if(directory.listFiles() == null) return;
-
-        //Iterate through every file and subdirectory recursively
-        for(File file : directory.listFiles()) {
-            if(file.isFile()) {
-                //Read Poly code file and add to source codes
-                if(CodeReader.isPolyFile(file.getName()))
-                    readFile(file, packageName);
-
-            } else if(file.isDirectory()) {
-                readDirectory(file, packageName.addName(file.getName()));
-            }
+    private static void findFiles(Path directory, List<Path> files) {
+        try {
+            Files.walkFileTree(directory, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    //Add Poly code file
+                    if(attributes.isRegularFile() && CodeReader.isPolyFile(file.getFileName().toString()))
+                        files.add(file);
+
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exception) {
+                    //Skip unreadable file or link cycle
+                    new GeneralWarning.UnreadableFile(file.toString());
+
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * Returns the package name of the given file, relative to the given source directory.
+     * @param sourceDirectory the source directory
+     * @param file the file
+     * @return the package name
+     */
+    private static PackageName getPackageName(Path sourceDirectory, Path file) {
+        PackageName packageName = new PackageName();
+
+        //Add every parent directory name
+        Path relativePath = sourceDirectory.relativize(file).getParent();
+        if(relativePath != null) {
+            for(Path name : relativePath)
+                packageName = packageName.addName(name.toString());
+        }
+
+        return packageName;
+    }
+
     /**
      * Reads the given file in the source folder with the given package path.
      * @param file the file
      * @param packageName the package name
+     * @return the source code
      */
-    private static void readFile(File file, PackageName packageName) {
+    private static SourceCode readFile(Path file, PackageName packageName) {
         //Get file name without the extension
-        String fileName = file.getName().substring(0, file.getName().length() - 5);
+        String name = file.getFileName().toString();
+        String fileName = name.substring(0, name.length() - CodeReader.EXTENSION.length());
 
         try {
             //Read code from file
-            char[] content = CodeReader.read(file);
-
-            //Create source code from file
-            SourceCode sourceCode = new SourceCode(fileName, packageName, content);
-            sourceCodes.add(sourceCode);
+            return new SourceCode(fileName, packageName, CodeReader.read(file));
         } catch(IOException e) {
             throw new RuntimeException(e);
         }
@@ -1,57 +1,81 @@
 package poly.compiler.file;
 
-import poly.compiler.output.ClassFile;
+import poly.compiler.log.Verbose;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.List;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The ProjectWriter class. This class is used to write the compiled class files
- * in the project output folder.
+ * in the project output folder. Only the class files whose content changed are written,
+ * and only the stale class files are deleted, so that the tools watching the output
+ * folder do not see every file as changed.
  * @author Vincent Philippe (@vincent64)
  */
 public class ProjectWriter {
 
     /**
-     * Writes the given class files in the given output path.
-     * @param classFiles the class files
+     * Writes the given class files bytes in the given output path.
+     * @param classes the class files bytes, mapped by class qualified name
      * @param outputPath the output path
      */
-    public static void write(List<ClassFile> classFiles, String outputPath) {
+    public static void write(Map<String, byte[]> classes, String outputPath) {
         //Get output folder path
         Path path = Paths.get(outputPath);
 
-        File outputDirectoy = new File(path.toString());
-        outputDirectoy.mkdirs();
+        //Find the files of the compiled classes
+        Set<Path> classPaths = new HashSet<>();
+        for(String className : classes.keySet())
+            classPaths.add(ClassWriter.getFilePath(className, path).normalize());
 
-        //Clean the output directory
-        cleanDirectory(outputDirectoy);
+        //Remove stale class files
+        if(Files.isDirectory(path))
+            cleanDirectory(path, classPaths);
 
-        for(ClassFile classFile : classFiles) {
+        AtomicInteger writtenCount = new AtomicInteger();
+
+        //Write the class files in parallel
+        classes.entrySet().parallelStream().forEach(entry -> {
             try {
-                //Write the class file
-                ClassWriter.write(classFile, path);
+                if(ClassWriter.write(entry.getValue(), ClassWriter.getFilePath(entry.getKey(), path)))
+                    writtenCount.incrementAndGet();
             } catch(IOException e) {
-                throw new RuntimeException("Could not write class file " + classFile + ".");
+                throw new RuntimeException("Could not write class file " + entry.getKey() + ".", e);
             }
-        }
+        });
+
+        Verbose.println(writtenCount.get() + " class files written, "
+                + (classes.size() - writtenCount.get()) + " unchanged.");
     }
 
     /**
-     * Removes every class files from the given directory and subdirectories.
-     * For safety reasons, this method only deletes class files and not the folders.
+     * Removes the class files from the given directory and subdirectories that are not
+     * part of the given class file paths. For safety reasons, this method only deletes
+     * class files and not the folders.
      * @param directory the directory
+     * @param classPaths the class file paths
      */
-    private static void cleanDirectory(File directory) {
-        for(File file : directory.listFiles()) {
-            if(file.isDirectory()) {
-                cleanDirectory(file);
-            } else if(file.getName().endsWith(ClassWriter.CLASS_EXTENSION)) {
-                file.delete();
-            }
+    private static void cleanDirectory(Path directory, Set<Path> classPaths) {
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                    //Delete stale class file
+                    if(file.getFileName().toString().endsWith(ClassWriter.CLASS_EXTENSION)
+                            && !classPaths.contains(file.normalize()))
+                        Files.delete(file);
+
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 }
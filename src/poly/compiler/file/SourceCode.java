@@ -2,6 +2,8 @@ package poly.compiler.file;
 
 import poly.compiler.util.PackageName;
 
+import java.util.List;
+
 /**
  * The SourceCode class. This class represents a single source code file written in Poly,
  * and contains its content, its name and package name.
@@ -24,6 +26,21 @@ public class SourceCode {
         this.content = content;
     }
 
+    /**
+     * Constructs a source code with the given file name, package name and content.
+     * The package name is given with dots separating the names (for example, "poly.util").
+     * This constructor is used to compile source codes that are not read from a file,
+     * and normalizes the line terminators of the content like the code reader.
+     * @param fileName the file name
+     * @param packageName the package name
+     * @param content the code content
+     */
+    public SourceCode(String fileName, String packageName, String content) {
+        this(fileName, packageName.isEmpty()
+                ? new PackageName()
+                : new PackageName(List.of(packageName.split("\\."))), CodeReader.normalize(content.toCharArray()));
+    }
+
     /**
      * Returns the source file name.
      * @return the file name
@@ -1,5 +1,6 @@
 package poly.compiler.generator;
 
+import poly.compiler.Parameters;
 import poly.compiler.analyzer.table.ImportTable;
 import poly.compiler.analyzer.table.Variable;
 import poly.compiler.analyzer.table.VariableTable;
@@ -7,10 +8,13 @@ import poly.compiler.analyzer.type.Object;
 import poly.compiler.analyzer.type.Void;
 import poly.compiler.analyzer.type.*;
 import poly.compiler.error.LimitError;
+import poly.compiler.output.ClassFile;
 import poly.compiler.output.attribute.CodeAttribute;
 import poly.compiler.output.attribute.LineNumberTableAttribute;
 import poly.compiler.output.attribute.StackMapTableAttribute;
+import poly.compiler.output.content.AccessModifier;
 import poly.compiler.output.content.Attributes;
+import poly.compiler.output.content.BootstrapMethod;
 import poly.compiler.output.content.ConstantPool;
 import poly.compiler.output.content.Descriptor;
 import poly.compiler.output.jvm.Instruction;
@@ -21,6 +25,8 @@ import poly.compiler.parser.tree.statement.*;
 import poly.compiler.parser.tree.variable.*;
 import poly.compiler.resolver.ClassDefinition;
 import poly.compiler.resolver.LibraryClasses;
+import poly.compiler.resolver.MethodDefinition;
+import poly.compiler.resolver.ProjectClasses;
 import poly.compiler.resolver.symbol.ClassSymbol;
 import poly.compiler.resolver.symbol.FieldSymbol;
 import poly.compiler.resolver.symbol.MethodSymbol;
@@ -40,6 +46,7 @@ import static poly.compiler.output.jvm.Instructions.*;
  */
 public final class CodeGenerator implements NodeVisitor {
     private final ImportTable importTable;
+    private final ClassFile classFile;
     private final ConstantPool constantPool;
     private final List<Instruction> instructions;
     private final LineNumberTable lineNumberTable;
@@ -52,13 +59,18 @@ public final class CodeGenerator implements NodeVisitor {
     private final LocalTable localTable;
     private final OperandStack operandStack;
     private final List<Branching> loopStack;
+    private final List<Variable> parameterVariables;
+    private final Set<ReturnStatement> tailCalls;
+    private MethodSymbol methodSymbol;
     private int programCounter;
 
-    private CodeGenerator(ClassDefinition classDefinition, ConstantPool constantPool, ImportTable importTable) {
-        this.constantPool = constantPool;
+    private CodeGenerator(ClassDefinition classDefinition, ClassFile classFile, ImportTable importTable) {
+        this.classFile = classFile;
         this.importTable = importTable;
         this.classDefinition = classDefinition;
 
+        constantPool = classFile.getConstantPool();
+
         classDeclaration = classDefinition.getClassDeclaration();
         classSymbol = classDefinition.getClassSymbol();
 
@@ -80,10 +92,14 @@ public final class CodeGenerator implements NodeVisitor {
 
         //Initialize loops stack
         loopStack = new ArrayList<>();
+
+        //Initialize parameter variables list and tail calls set
+        parameterVariables = new ArrayList<>();
+        tailCalls = new HashSet<>();
     }
 
-    public static CodeGenerator getInstance(ClassDefinition classDefinition, ConstantPool constantPool, ImportTable importTable) {
-        return new CodeGenerator(classDefinition, constantPool, importTable);
+    public static CodeGenerator getInstance(ClassDefinition classDefinition, ClassFile classFile, ImportTable importTable) {
+        return new CodeGenerator(classDefinition, classFile, importTable);
     }
 
     /**
@@ -141,13 +157,15 @@ public final class CodeGenerator implements NodeVisitor {
     }
 
     /**
-     * Generates and returns the bytecode for the given method declaration.
-     * @param methodDeclaration the method declaration
+     * Generates and returns the bytecode for the given method definition.
+     * @param methodDefinition the method definition
      * @return the bytecode
      */
-    public CodeAttribute generate(MethodDeclaration methodDeclaration) {
+    public CodeAttribute generate(MethodDefinition methodDefinition) {
+        methodSymbol = methodDefinition.getMethodSymbol();
+
         //Visit method declaration
-        methodDeclaration.accept(this);
+        methodDefinition.getMethodDeclaration().accept(this);
 
         //Make sure the operand stack does not overflow
         if(operandStack.getMaxStack() > Limitations.MAX_OPERAND_STACK_SIZE)
@@ -201,6 +219,10 @@ public final class CodeGenerator implements NodeVisitor {
 
         //Generate static constructor content
         if(methodDeclaration.isStaticConstructor()) {
+            //Initialize assertions status
+            if(classSymbol.findAssertionsField() != null)
+                generateAssertionsStatus();
+
             //Visit enum constants
             if(classDeclaration.isEnum())
                 classDeclaration.getConstantList().accept(this);
@@ -215,6 +237,20 @@ public final class CodeGenerator implements NodeVisitor {
         //Visit parameters list
         methodDeclaration.getParameterList().accept(this);
 
+        //Set the initial frame locals from parameters
+        stackMapTable.setInitialFrame(localTable);
+
+        //Generate the frame of the tail calls jump target
+        if(isTailCallable(methodDeclaration)) {
+            findTailCalls(statementBlock);
+            if(!tailCalls.isEmpty())
+                generateStackMapFrame();
+
+            //Retrieve the parameter variables to store the tail calls arguments
+            for(Node node : ((ParameterList) methodDeclaration.getParameterList()).getParameters())
+                parameterVariables.add(variableTable.findVariableWithName(((Parameter) node).getName()));
+        }
+
         //Set outer reference field
         if(classSymbol.isInner() && methodDeclaration.isConstructor()) {
             addInstruction(ALOAD_0);
@@ -430,6 +466,14 @@ public final class CodeGenerator implements NodeVisitor {
     public void visitForeachStatement(ForeachStatement foreachStatement) {
         addLineNumber(foreachStatement);
 
+        Type iterableType = foreachStatement.getExpression().getExpressionType();
+
+        //Visit iterator foreach statement
+        if(iterableType instanceof Object object && !object.getClassSymbol().getClassName().equals(ClassName.ARRAY_LIST)) {
+            visitIteratorForeachStatement(foreachStatement, object.getClassSymbol());
+            return;
+        }
+
         //Retrieve the current variables state
         VariableState variableState = retrieveVariableState();
 
@@ -437,7 +481,7 @@ public final class CodeGenerator implements NodeVisitor {
         foreachStatement.getExpression().accept(this);
 
         //Generate iterable variable
-        Variable iterable = variableTable.addVariable(foreachStatement.getExpression().getExpressionType(), "", true);
+        Variable iterable = variableTable.addVariable(iterableType, "", true);
         localTable.addLocal(iterable.getType());
         addInstruction(Instruction.forStoring(iterable));
 
@@ -455,7 +499,10 @@ public final class CodeGenerator implements NodeVisitor {
         //Generate loop condition operands
         addInstruction(Instruction.forLoading(iterator));
         addInstruction(Instruction.forLoading(iterable));
-        addInstruction(ARRAYLENGTH);
+        if(iterableType instanceof Object object)
+            generateCallVirtualMethod(object.getClassSymbol().findMethod("size", new Type[0], classSymbol, foreachStatement));
+        else
+            addInstruction(ARRAYLENGTH);
 
         branching.addJumpIndex(instructions.size(), programCounter, false, false);
         addInstruction(new Instruction.Builder(IF_ICMPGE, 3).build());
@@ -470,9 +517,15 @@ public final class CodeGenerator implements NodeVisitor {
         //Generate element access
         addInstruction(Instruction.forLoading(iterable));
         addInstruction(Instruction.forLoading(iterator));
-        addInstruction(Instruction.forLoadingFromArray(type));
-        if(type.getKind() == Type.Kind.OBJECT || type.getKind() == Type.Kind.ARRAY)
-            operandStack.push(type);
+        if(iterableType instanceof Object object) {
+            Type[] argumentTypes = { new Primitive(Primitive.Kind.INTEGER) };
+            generateCallVirtualMethod(object.getClassSymbol().findMethod("get", argumentTypes, classSymbol, foreachStatement));
+            generateElementCast(type);
+        } else {
+            addInstruction(Instruction.forLoadingFromArray(type));
+            if(type.getKind() == Type.Kind.OBJECT || type.getKind() == Type.Kind.ARRAY)
+                operandStack.push(type);
+        }
 
         //Generate element variable
         Variable variable = variableTable.addVariable(getTypeFromNode(variableDeclaration.getType()), variableDeclaration.getName(), true);
@@ -504,65 +557,148 @@ public final class CodeGenerator implements NodeVisitor {
         branching.resolveFalseJump(instructions, programCounter);
     }
 
+    /**
+     * Visits the given foreach-statement iterating over an iterable object using its iterator.
+     * @param foreachStatement the foreach-statement
+     * @param iterableSymbol the iterable class symbol
+     */
+    private void visitIteratorForeachStatement(ForeachStatement foreachStatement, ClassSymbol iterableSymbol) {
+        //Retrieve the current variables state
+        VariableState variableState = retrieveVariableState();
+
+        //Visit iterable expression
+        foreachStatement.getExpression().accept(this);
+
+        //Generate iterator call
+        MethodSymbol iteratorSymbol = iterableSymbol.findMethod("iterator", new Type[0], classSymbol, foreachStatement);
+        generateCallInstanceMethod(iteratorSymbol);
+
+        //Generate iterator variable
+        Variable iterator = variableTable.addVariable(iteratorSymbol.getReturnType(), "", true);
+        localTable.addLocal(iterator.getType());
+        addInstruction(Instruction.forStoring(iterator));
+
+        ClassSymbol iteratorClassSymbol = ((Object) iterator.getType()).getClassSymbol();
+        MethodSymbol hasNextSymbol = iteratorClassSymbol.findMethod("hasNext", new Type[0], classSymbol, foreachStatement);
+        MethodSymbol nextSymbol = iteratorClassSymbol.findMethod("next", new Type[0], classSymbol, foreachStatement);
+
+        Branching branching = new Branching();
+
+        int jumpOffset = programCounter;
+        generateStackMapFrame();
+
+        //Generate loop condition
+        addInstruction(Instruction.forLoading(iterator));
+        generateCallInstanceMethod(hasNextSymbol);
+
+        branching.addJumpIndex(instructions.size(), programCounter, false, false);
+        addInstruction(new Instruction.Builder(IFEQ, 3).build());
+
+        //Resolve jumps to true-clause
+        generateStackMapFrame();
+        branching.resolveTrueJump(instructions, programCounter);
+
+        VariableDeclaration variableDeclaration = (VariableDeclaration) foreachStatement.getVariableDeclaration();
+        Type type = getTypeFromNode(variableDeclaration.getType());
+
+        //Generate next element access
+        addInstruction(Instruction.forLoading(iterator));
+        generateCallInstanceMethod(nextSymbol);
+        generateElementCast(type);
+
+        //Generate element variable
+        Variable variable = variableTable.addVariable(type, variableDeclaration.getName(), true);
+        localTable.addLocal(variable.getType());
+        addInstruction(Instruction.forStoring(variable));
+
+        //Visit statement body
+        loopStack.add(branching);
+        foreachStatement.getBody().accept(this);
+        loopStack.removeLast();
+
+        //Resolve jumps to neutral-clause
+        generateStackMapFrame();
+        branching.resolveJumps(instructions, programCounter);
+
+        addInstruction(Instruction.forUnconditionalJump(jumpOffset - programCounter));
+
+        //Restore the variables state
+        restoreVariableState(variableState);
+
+        //Resolve jumps to false-clause
+        generateStackMapFrame();
+        branching.resolveFalseJump(instructions, programCounter);
+    }
+
     @Override
     public void visitSwitchStatement(SwitchStatement switchStatement) {
         addLineNumber(switchStatement);
 
+        Type type = switchStatement.getExpression().getExpressionType();
+
+        //Visit string switch statement
+        if(type instanceof Object object && !object.getClassSymbol().isEnum()) {
+            visitStringSwitchStatement(switchStatement);
+            return;
+        }
+
+        //Visit library enum switch statement, since the ordinals of its constants may change
+        if(type instanceof Object object && ProjectClasses.findClassDefinition(object.getClassSymbol()) == null) {
+            visitLibraryEnumSwitchStatement(switchStatement);
+            return;
+        }
+
         //Visit switch expression
         switchStatement.getExpression().accept(this);
 
-        Branching branching = new Branching();
-        Map<Integer, Node> caseValues = new TreeMap<>();
-        SequencedMap<Integer, Integer> caseBranches = new LinkedHashMap<>();
+        SortedMap<Integer, Statement> caseValues = new TreeMap<>();
 
-        for(Node node : switchStatement.getCases()) {
-            CaseStatement caseStatement = (CaseStatement) node;
-            Literal.Integer value = (Literal.Integer) caseStatement.getExpression();
+        //Visit enum switch statement
+        if(type instanceof Object object) {
+            ClassSymbol enumSymbol = object.getClassSymbol();
 
-            //Add literal value to values
-            caseValues.put(value.getValue(), caseStatement.getBody());
-        }
+            //Call ordinal method
+            generateCallVirtualMethod(enumSymbol.findMethod("ordinal", new Type[0], classSymbol, switchStatement));
 
-        //Generate instruction
-        generateStackMapFrame();
-        int switchOffset = programCounter;
-        addInstruction(LOOKUPSWITCH);
+            for(Statement statement : switchStatement.getCases()) {
+                CaseStatement caseStatement = (CaseStatement) statement;
 
-        //Add instruction padding
-        int padding = (4 - (programCounter % 4)) % 4;
-        for(int i = 0; i < padding; i++)
-            addInstruction((byte) 0);
+                //Add enum constant ordinal to values
+                caseValues.put(enumSymbol.findEnumOrdinal(getEnumConstantName(caseStatement)), caseStatement.getBody());
+            }
+        }
 
-        //Add default jump
-        int instructionOffset = instructions.size();
-        addInstruction(new Instruction.Builder(4).build());
+        //Visit integer switch statement
+        else {
+            for(Statement statement : switchStatement.getCases()) {
+                CaseStatement caseStatement = (CaseStatement) statement;
+                Expression expression = caseStatement.getExpression();
+                int value = expression instanceof Literal.Char literal
+                        ? literal.getValue()
+                        : ((Literal.Integer) expression).getValue();
+
+                //Add literal value to values
+                caseValues.put(value, caseStatement.getBody());
+            }
+        }
 
-        //Add cases count
-        addInstruction(new Instruction.Builder(4)
-                .add(caseValues.size())
-                .build());
+        Branching branching = new Branching();
 
-        //Add cases branches
-        for(Map.Entry<Integer, Node> value : caseValues.entrySet()) {
-            addInstruction(new Instruction.Builder(4)
-                    .add(value.getKey())
-                    .build());
-            caseBranches.put(instructions.size(), switchOffset);
-            addInstruction(new Instruction.Builder(4).build());
-        }
+        //Generate instruction
+        SwitchTable switchTable = new SwitchTable(caseValues.keySet(), programCounter);
+        int switchIndex = instructions.size();
+        addInstruction(switchTable.getInstruction());
 
         //Resolve cases branches and generate cases
-        for(Map.Entry<Integer, Node> value : caseValues.entrySet()) {
+        for(Map.Entry<Integer, Statement> value : caseValues.entrySet()) {
             //Resolve jump index
             generateStackMapFrame();
-            Map.Entry<Integer, Integer> entry = caseBranches.pollFirstEntry();
-            instructions.set(entry.getKey(), new Instruction.Builder(4)
-                    .add(programCounter - entry.getValue())
-                    .build());
+            switchTable.resolveCase(value.getKey(), programCounter);
 
             //Visit case statement body
             value.getValue().accept(this);
 
+            generateStackMapFrame();
             branching.addJumpIndex(instructions.size(), programCounter);
             addInstruction(Instruction.forUnconditionalJump(programCounter));
         }
@@ -571,13 +707,12 @@ public final class CodeGenerator implements NodeVisitor {
         if(switchStatement.getElseCase() != null) {
             //Resolve default jump index
             generateStackMapFrame();
-            instructions.set(instructionOffset, new Instruction.Builder(4)
-                    .add(programCounter - switchOffset)
-                    .build());
+            switchTable.resolveDefault(programCounter);
 
             //Visit else case statement body
             switchStatement.getElseCase().accept(this);
 
+            generateStackMapFrame();
             branching.addJumpIndex(instructions.size(), programCounter);
             addInstruction(Instruction.forUnconditionalJump(programCounter));
         }
@@ -585,11 +720,11 @@ public final class CodeGenerator implements NodeVisitor {
         //Resolve default jumps
         generateStackMapFrame();
         branching.resolveJumps(instructions, programCounter);
-        if(switchStatement.getElseCase() == null) {
-            instructions.set(instructionOffset, new Instruction.Builder(4)
-                    .add(programCounter - switchOffset)
-                    .build());
-        }
+        if(switchStatement.getElseCase() == null)
+            switchTable.resolveDefault(programCounter);
+
+        //Overwrite instruction with resolved jumps
+        instructions.set(switchIndex, switchTable.getInstruction());
     }
 
     @Override
@@ -635,10 +770,19 @@ public final class CodeGenerator implements NodeVisitor {
 
     @Override
     public void visitAssertStatement(AssertStatement assertStatement) {
+        //Remove assert-statement from release code
+        if(Parameters.release())
+            return;
+
         addLineNumber(assertStatement);
 
         Branching branching = new Branching();
 
+        //Skip assert-statement if assertions are disabled
+        generateGetStaticField(classSymbol.findAssertionsField());
+        branching.addJumpIndex(instructions.size(), programCounter);
+        addInstruction(new Instruction.Builder(IFNE, 3).build());
+
         //Visit condition expression
         visitCondition(assertStatement.getCondition(), branching, true, true);
 
@@ -756,6 +900,12 @@ public final class CodeGenerator implements NodeVisitor {
 
         Expression expression = returnStatement.getExpression();
 
+        //Generate self-recursive tail call
+        if(tailCalls.contains(returnStatement)) {
+            visitTailCall((MethodCall) expression);
+            return;
+        }
+
         //Visit return expression
         visitExpression(expression);
 
@@ -842,6 +992,10 @@ public final class CodeGenerator implements NodeVisitor {
         //Find constructor in superclass
         MethodSymbol constructorSymbol = superclassSymbol.findConstructor(argumentTypes, this.classSymbol, superStatement);
 
+        //Replace with the stackless constructor if the class is a light exception
+        if(classSymbol.isLight() && !superclassSymbol.isLight())
+            constructorSymbol = generateStacklessArguments(constructorSymbol, superclassSymbol, superStatement);
+
         //Call super constructor
         generateCallSpecialMethod(constructorSymbol);
 
@@ -1042,6 +1196,12 @@ public final class CodeGenerator implements NodeVisitor {
             return;
         }
 
+        //Visit string concatenation elsewhere
+        if(binaryExpression.getExpressionType() instanceof Object) {
+            visitStringConcatenation(binaryExpression);
+            return;
+        }
+
         Expression first = binaryExpression.getFirst();
         Expression second = binaryExpression.getSecond();
 
@@ -1584,6 +1744,46 @@ public final class CodeGenerator implements NodeVisitor {
         branching.resolveFalseJump(instructions, programCounter);
     }
 
+    @Override
+    public void visitLambdaExpression(LambdaExpression lambdaExpression) {
+        addLineNumber(lambdaExpression);
+
+        MethodSymbol methodSymbol = lambdaExpression.getMethodSymbol();
+        MethodSymbol interfaceMethodSymbol = lambdaExpression.getInterfaceMethodSymbol();
+        List<Type> capturedTypes = new ArrayList<>();
+
+        //Load this reference
+        if(lambdaExpression.isCapturingThis()) {
+            addInstruction(ALOAD_0);
+            capturedTypes.add(new Object(classSymbol));
+        }
+
+        //Load captured variables
+        for(Variable capturedVariable : lambdaExpression.getCapturedVariables()) {
+            Variable variable = variableTable.findVariableWithName(capturedVariable.getName());
+            addInstruction(Instruction.forLoading(variable));
+            capturedTypes.add(variable.getType());
+        }
+
+        //Add bootstrap method to the class file
+        short bootstrapMethodHandleIndex = (short) constantPool.addMethodHandleConstant(MethodHandleKind.INVOKE_STATIC,
+                constantPool.addMethodRefConstant(
+                        BootstrapMethod.LambdaMetafactory.CLASS_NAME,
+                        BootstrapMethod.LambdaMetafactory.NAME,
+                        BootstrapMethod.LambdaMetafactory.DESCRIPTOR));
+        short methodTypeIndex = (short) constantPool.addMethodTypeConstant(
+                String.valueOf(Descriptor.generateMethodDescriptor(interfaceMethodSymbol)));
+        short methodHandleIndex = (short) constantPool.addMethodHandleConstant(
+                methodSymbol.isStatic() ? MethodHandleKind.INVOKE_STATIC : MethodHandleKind.INVOKE_SPECIAL,
+                classSymbol.isInterface() ? getInterfaceMethodReference(methodSymbol) : getMethodReference(methodSymbol));
+        int bootstrapMethodIndex = classFile.addBootstrapMethod(bootstrapMethodHandleIndex,
+                methodTypeIndex, methodHandleIndex, methodTypeIndex);
+
+        //Generate instructions
+        generateInvokeDynamic(bootstrapMethodIndex, interfaceMethodSymbol.getName(),
+                capturedTypes.toArray(new Type[0]), lambdaExpression.getExpressionType());
+    }
+
     @Override
     public void visitThisExpression(ThisExpression thisExpression) {
         //Generate instructions
@@ -1688,6 +1888,370 @@ public final class CodeGenerator implements NodeVisitor {
 
     //Alternative visit methods
 
+    /**
+     * Visits the given binary expression node as a string concatenation.
+     * The whole concatenation chain is generated as a single dynamic call site linked
+     * by the string concatenation factory, whose recipe contains the constant operands.
+     * @param binaryExpression the binary expression
+     */
+    private void visitStringConcatenation(BinaryExpression binaryExpression) {
+        Type stringType = binaryExpression.getExpressionType();
+        List<Expression> operands = new ArrayList<>();
+
+        //Flatten the concatenation chain
+        addStringConcatenationOperands(binaryExpression, operands);
+
+        StringBuilder recipe = new StringBuilder();
+        List<Type> argumentTypes = new ArrayList<>();
+        int slotCount = 0;
+
+        for(Expression operand : operands) {
+            String constant = getConstantString(operand);
+
+            //Add constant operand to the recipe
+            if(constant != null
+                    && constant.indexOf(BootstrapMethod.StringConcatenation.ARGUMENT_TAG) < 0
+                    && constant.indexOf(BootstrapMethod.StringConcatenation.CONSTANT_TAG) < 0) {
+                recipe.append(constant);
+                continue;
+            }
+
+            Type type = operand.getExpressionType();
+            int slotSize = type instanceof Primitive primitive && primitive.isWideType() ? 2 : 1;
+
+            //Pass null reference as object
+            if(type instanceof Object object && object.getClassSymbol() == null)
+                type = new Object(LibraryClasses.findClass(ClassName.OBJECT));
+
+            //Generate partial concatenation if the call site cannot take more arguments
+            if(slotCount + slotSize > BootstrapMethod.StringConcatenation.MAX_SLOT_COUNT) {
+                generateStringConcatenation(recipe.toString(), argumentTypes, stringType);
+
+                recipe.setLength(0);
+                recipe.append(BootstrapMethod.StringConcatenation.ARGUMENT_TAG);
+                argumentTypes.clear();
+                argumentTypes.add(stringType);
+                slotCount = 1;
+            }
+
+            //Visit operand as argument
+            visitExpression(operand);
+            recipe.append(BootstrapMethod.StringConcatenation.ARGUMENT_TAG);
+            argumentTypes.add(type);
+            slotCount += slotSize;
+        }
+
+        generateStringConcatenation(recipe.toString(), argumentTypes, stringType);
+    }
+
+    /**
+     * Visits the given switch-statement node with a string expression.
+     * The string is first dispatched using its hash code, and the matching
+     * case is then confirmed by comparing the strings with the equals method.
+     * @param switchStatement the switch statement
+     */
+    private void visitStringSwitchStatement(SwitchStatement switchStatement) {
+        //Retrieve the current variables state
+        VariableState variableState = retrieveVariableState();
+
+        //Visit switch expression
+        switchStatement.getExpression().accept(this);
+
+        Type type = switchStatement.getExpression().getExpressionType();
+        ClassSymbol stringSymbol = ((Object) type).getClassSymbol();
+
+        //Generate string variable
+        Variable string = variableTable.addVariable(type, "", true);
+        localTable.addLocal(string.getType());
+        addInstruction(Instruction.forStoring(string));
+
+        List<Statement> cases = switchStatement.getCases();
+        SortedMap<Integer, List<CaseStatement>> caseHashes = new TreeMap<>();
+
+        //Group case statements by hash code
+        for(Statement statement : cases) {
+            CaseStatement caseStatement = (CaseStatement) statement;
+            String value = String.valueOf(((Literal.String) caseStatement.getExpression()).getValue());
+
+            caseHashes.computeIfAbsent(value.hashCode(), hash -> new ArrayList<>()).add(caseStatement);
+        }
+
+        MethodSymbol hashCodeSymbol = stringSymbol.findMethod("hashCode", new Type[0], classSymbol, switchStatement);
+        MethodSymbol equalsSymbol = stringSymbol.findMethod("equals", new Type[] {type}, classSymbol, switchStatement);
+
+        //Call hash code method
+        addInstruction(Instruction.forLoading(string));
+        generateCallVirtualMethod(hashCodeSymbol);
+
+        Branching branching = new Branching();
+        Map<CaseStatement, Branching> caseBranchings = new HashMap<>();
+
+        //Generate instruction
+        SwitchTable switchTable = new SwitchTable(caseHashes.keySet(), programCounter);
+        int switchIndex = instructions.size();
+        addInstruction(switchTable.getInstruction());
+
+        //Generate equality comparisons of every hash code
+        for(Map.Entry<Integer, List<CaseStatement>> caseHash : caseHashes.entrySet()) {
+            //Resolve jump index
+            generateStackMapFrame();
+            switchTable.resolveCase(caseHash.getKey(), programCounter);
+
+            for(CaseStatement caseStatement : caseHash.getValue()) {
+                Branching caseBranching = new Branching();
+                caseBranchings.put(caseStatement, caseBranching);
+
+                //Call equals method
+                addInstruction(Instruction.forLoading(string));
+                caseStatement.getExpression().accept(this);
+                generateCallVirtualMethod(equalsSymbol);
+
+                caseBranching.addTrueJumpIndex(instructions.size(), programCounter);
+                addInstruction(new Instruction.Builder(IFNE, 3).build());
+            }
+
+            //Jump to default case if no string is equal
+            branching.addFalseJumpIndex(instructions.size(), programCounter);
+            addInstruction(Instruction.forUnconditionalJump(programCounter));
+        }
+
+        //Generate cases
+        for(Statement statement : cases) {
+            CaseStatement caseStatement = (CaseStatement) statement;
+
+            //Resolve jumps to case
+            generateStackMapFrame();
+            caseBranchings.get(caseStatement).resolveTrueJump(instructions, programCounter);
+
+            //Visit case statement body
+            caseStatement.getBody().accept(this);
+
+            generateStackMapFrame();
+            branching.addJumpIndex(instructions.size(), programCounter);
+            addInstruction(Instruction.forUnconditionalJump(programCounter));
+        }
+
+        //Resolve else case branch
+        if(switchStatement.getElseCase() != null) {
+            //Resolve default jumps
+            generateStackMapFrame();
+            switchTable.resolveDefault(programCounter);
+            branching.resolveFalseJump(instructions, programCounter);
+
+            //Visit else case statement body
+            switchStatement.getElseCase().accept(this);
+
+            generateStackMapFrame();
+            branching.addJumpIndex(instructions.size(), programCounter);
+            addInstruction(Instruction.forUnconditionalJump(programCounter));
+        }
+
+        //Restore the variables state
+        restoreVariableState(variableState);
+
+        //Resolve default jumps
+        generateStackMapFrame();
+        branching.resolveJumps(instructions, programCounter);
+        if(switchStatement.getElseCase() == null) {
+            switchTable.resolveDefault(programCounter);
+            branching.resolveFalseJump(instructions, programCounter);
+        }
+
+        //Overwrite instruction with resolved jumps
+        instructions.set(switchIndex, switchTable.getInstruction());
+    }
+
+    /**
+     * Visits the given switch statement on a library enum. Since the library may be compiled
+     * separately, the enum constants are compared by reference at runtime instead of by their
+     * ordinals at compile-time, so that reordering the enum constants does not break the switch.
+     * @param switchStatement the switch statement
+     */
+    private void visitLibraryEnumSwitchStatement(SwitchStatement switchStatement) {
+        //Retrieve the current variables state
+        VariableState variableState = retrieveVariableState();
+
+        //Visit switch expression
+        switchStatement.getExpression().accept(this);
+
+        Type type = switchStatement.getExpression().getExpressionType();
+        ClassSymbol enumSymbol = ((Object) type).getClassSymbol();
+        ClassSymbol objectsSymbol = LibraryClasses.findClass(ClassName.OBJECTS);
+        MethodSymbol requireNonNullSymbol = objectsSymbol.findMethod("requireNonNull",
+                new Type[] {new Object(LibraryClasses.findClass(ClassName.OBJECT))}, classSymbol, switchStatement);
+
+        //Make sure the enum constant is not null
+        addInstruction(DUP);
+        generateCallStaticMethod(requireNonNullSymbol);
+        addInstruction(POP);
+
+        //Generate enum constant variable
+        Variable constant = variableTable.addVariable(type, "", true);
+        localTable.addLocal(constant.getType());
+        addInstruction(Instruction.forStoring(constant));
+
+        List<Statement> cases = switchStatement.getCases();
+        Branching branching = new Branching();
+        Map<CaseStatement, Branching> caseBranchings = new HashMap<>();
+
+        //Generate reference comparisons of every enum constant
+        for(Statement statement : cases) {
+            CaseStatement caseStatement = (CaseStatement) statement;
+            Branching caseBranching = new Branching();
+            caseBranchings.put(caseStatement, caseBranching);
+
+            addInstruction(Instruction.forLoading(constant));
+            generateGetStaticField(enumSymbol.findField(getEnumConstantName(caseStatement), classSymbol));
+
+            caseBranching.addTrueJumpIndex(instructions.size(), programCounter);
+            addInstruction(new Instruction.Builder(IF_ACMPEQ, 3).build());
+        }
+
+        //Jump to default case if no enum constant is equal
+        branching.addFalseJumpIndex(instructions.size(), programCounter);
+        addInstruction(Instruction.forUnconditionalJump(programCounter));
+
+        //Generate cases
+        for(Statement statement : cases) {
+            CaseStatement caseStatement = (CaseStatement) statement;
+
+            //Resolve jumps to case
+            generateStackMapFrame();
+            caseBranchings.get(caseStatement).resolveTrueJump(instructions, programCounter);
+
+            //Visit case statement body
+            caseStatement.getBody().accept(this);
+
+            generateStackMapFrame();
+            branching.addJumpIndex(instructions.size(), programCounter);
+            addInstruction(Instruction.forUnconditionalJump(programCounter));
+        }
+
+        //Resolve else case branch
+        if(switchStatement.getElseCase() != null) {
+            //Resolve default jumps
+            generateStackMapFrame();
+            branching.resolveFalseJump(instructions, programCounter);
+
+            //Visit else case statement body
+            switchStatement.getElseCase().accept(this);
+
+            generateStackMapFrame();
+            branching.addJumpIndex(instructions.size(), programCounter);
+            addInstruction(Instruction.forUnconditionalJump(programCounter));
+        }
+
+        //Restore the variables state
+        restoreVariableState(variableState);
+
+        //Resolve default jumps
+        generateStackMapFrame();
+        branching.resolveJumps(instructions, programCounter);
+        if(switchStatement.getElseCase() == null)
+            branching.resolveFalseJump(instructions, programCounter);
+    }
+
+    /**
+     * Returns the name of the enum constant of the given case statement,
+     * which is either written alone or qualified with the enum name.
+     * @param caseStatement the case statement
+     * @return the enum constant name
+     */
+    private String getEnumConstantName(CaseStatement caseStatement) {
+        Expression expression = caseStatement.getExpression();
+
+        return expression instanceof QualifiedName qualifiedName
+                ? qualifiedName.getName()
+                : ((SimpleName) expression).getName();
+    }
+
+    /**
+     * Visits the given self-recursive tail call. The arguments are stored in the parameters
+     * and the method is restarted with an unconditional jump, instead of calling the method again.
+     * @param methodCall the method call
+     */
+    private void visitTailCall(MethodCall methodCall) {
+        //Visit arguments list
+        methodCall.getArgumentList().accept(this);
+
+        //Store arguments in parameters
+        for(int i = parameterVariables.size() - 1; i >= 0; i--)
+            addInstruction(Instruction.forStoring(parameterVariables.get(i)));
+
+        //Jump to method start
+        addInstruction(Instruction.forUnconditionalJump(-programCounter));
+    }
+
+    /**
+     * Returns whether the self-recursive tail calls of the given method declaration can be eliminated.
+     * Only static and private methods cannot be overridden, so that a call always calls the method itself.
+     * @param methodDeclaration the method declaration
+     * @return true if the tail calls can be eliminated
+     */
+    private boolean isTailCallable(MethodDeclaration methodDeclaration) {
+        if(methodDeclaration.isConstructor() || methodDeclaration.isStaticConstructor())
+            return false;
+
+        return methodSymbol.isStatic() || methodSymbol.getAccessModifier() == AccessModifier.PRIVATE;
+    }
+
+    /**
+     * Finds and adds the self-recursive tail calls in the given statement to the tail calls set.
+     * The return statements inside a try-statement body are skipped, since the exceptions
+     * thrown by the call would no longer be caught.
+     * @param statement the statement
+     */
+    private void findTailCalls(Statement statement) {
+        if(statement instanceof ReturnStatement returnStatement) {
+            if(isSelfCall(returnStatement.getExpression()))
+                tailCalls.add(returnStatement);
+        } else if(statement instanceof StatementBlock statementBlock) {
+            for(Statement blockStatement : statementBlock.getStatements())
+                findTailCalls(blockStatement);
+        } else if(statement instanceof IfStatement ifStatement) {
+            findTailCalls(ifStatement.getBody());
+            if(ifStatement.getElseBody() != null)
+                findTailCalls(ifStatement.getElseBody());
+        } else if(statement instanceof SwitchStatement switchStatement) {
+            for(Statement caseStatement : switchStatement.getCases())
+                findTailCalls(caseStatement);
+            if(switchStatement.getElseCase() != null)
+                findTailCalls(switchStatement.getElseCase());
+        } else if(statement instanceof MatchStatement matchStatement) {
+            for(Statement caseStatement : matchStatement.getCases())
+                findTailCalls(caseStatement);
+            if(matchStatement.getElseCase() != null)
+                findTailCalls(matchStatement.getElseCase());
+        } else if(statement instanceof CaseStatement caseStatement) {
+            findTailCalls(caseStatement.getBody());
+        } else if(statement instanceof ForStatement forStatement) {
+            findTailCalls(forStatement.getBody());
+        } else if(statement instanceof ForeachStatement foreachStatement) {
+            findTailCalls(foreachStatement.getBody());
+        } else if(statement instanceof WhileStatement whileStatement) {
+            findTailCalls(whileStatement.getBody());
+        } else if(statement instanceof DoStatement doStatement) {
+            findTailCalls(doStatement.getBody());
+        } else if(statement instanceof TryStatement tryStatement) {
+            findTailCalls(tryStatement.getCatchBody());
+        }
+    }
+
+    /**
+     * Returns whether the given expression is a call to the current method.
+     * @param expression the expression
+     * @return true if the expression is a self-recursive call
+     */
+    private boolean isSelfCall(Expression expression) {
+        if(!(expression instanceof MethodCall methodCall) || methodCall.getMethod() != null)
+            return false;
+
+        Type[] argumentTypes = getTypesFromArguments((ArgumentList) methodCall.getArgumentList());
+        MethodSymbol calledSymbol = classSymbol.findMethod(methodCall.getMethodName(), argumentTypes, classSymbol, methodCall);
+
+        return calledSymbol.getClassSymbol() == classSymbol && calledSymbol.equals(methodSymbol);
+    }
+
     /**
      * Visits the given expression.
      * @param expression the expression
@@ -2371,6 +2935,25 @@ public final class CodeGenerator implements NodeVisitor {
         }
     }
 
+    /**
+     * Generates the cast of an object element to the given element type, unless the type is the object class.
+     * @param type the element type
+     */
+    private void generateElementCast(Type type) {
+        if(type instanceof Object object && object.getClassSymbol().getClassName().equals(ClassName.OBJECT))
+            return;
+
+        //Generate class or array descriptor
+        String typeName = type instanceof Object object
+                ? object.getClassSymbol().getClassInternalQualifiedName()
+                : String.valueOf(Descriptor.getDescriptorFromType(type));
+
+        //Generate instruction
+        addInstruction(new Instruction.Builder(CHECKCAST, 3)
+                .add((short) constantPool.addClassConstant(typeName))
+                .build());
+    }
+
     /**
      * Generates the instruction for the given assignment expression according to the given primitive.
      * @param assignmentExpression the assignment expression
@@ -2403,6 +2986,27 @@ public final class CodeGenerator implements NodeVisitor {
         }
     }
 
+    /**
+     * Generates the instructions initializing the assertions field with the
+     * desired assertion status of the class, as given by the JVM.
+     */
+    private void generateAssertionsStatus() {
+        ClassSymbol classClassSymbol = LibraryClasses.findClass(ClassName.CLASS);
+        MethodSymbol methodSymbol = classClassSymbol.findMethod("desiredAssertionStatus", new Type[0], classSymbol, null);
+
+        //Load current class
+        addInstruction(new Instruction.Builder(LDC_W, 3)
+                .add((short) constantPool.addClassConstant(classSymbol.getClassInternalQualifiedName()))
+                .build());
+
+        //Invert desired assertion status
+        generateCallVirtualMethod(methodSymbol);
+        addInstruction(ICONST_1);
+        addInstruction(IXOR);
+
+        generatePutStaticField(classSymbol.findAssertionsField());
+    }
+
     /**
      * Generates the instructions for getting the given field symbol.
      * @param fieldSymbol the field symbol
@@ -2481,6 +3085,18 @@ public final class CodeGenerator implements NodeVisitor {
             operandStack.push(methodSymbol.getReturnType());
     }
 
+    /**
+     * Generates the instructions for calling the given instance method symbol, using
+     * an interface call if the method is declared in an interface, or a virtual call otherwise.
+     * @param methodSymbol the method symbol
+     */
+    private void generateCallInstanceMethod(MethodSymbol methodSymbol) {
+        if(methodSymbol.getClassSymbol().isInterface())
+            generateCallInterfaceMethod(methodSymbol);
+        else
+            generateCallVirtualMethod(methodSymbol);
+    }
+
     /**
      * Generates the instructions for calling the given special method symbol.
      * @param methodSymbol the method symbol
@@ -2497,6 +3113,32 @@ public final class CodeGenerator implements NodeVisitor {
             operandStack.push(methodSymbol.getReturnType());
     }
 
+    /**
+     * Generates the missing message and cause arguments of the given runtime exception constructor,
+     * followed by the arguments disabling the suppression and the writable stack trace,
+     * and returns the protected runtime exception constructor taking these four arguments.
+     * @param constructorSymbol the constructor symbol
+     * @param superclassSymbol the superclass symbol
+     * @param node the node
+     * @return the stackless constructor symbol
+     */
+    private MethodSymbol generateStacklessArguments(MethodSymbol constructorSymbol, ClassSymbol superclassSymbol, Node node) {
+        //Generate null message and cause
+        for(int i = constructorSymbol.getParameterCount(); i < 2; i++)
+            addInstruction(ACONST_NULL);
+
+        //Disable suppression and writable stack trace
+        addInstruction(ICONST_0);
+        addInstruction(ICONST_0);
+
+        return superclassSymbol.findConstructor(new Type[] {
+                new Object(LibraryClasses.findClass(ClassName.STRING)),
+                new Object(LibraryClasses.findClass(ClassName.THROWABLE)),
+                new Primitive(Primitive.Kind.BOOLEAN),
+                new Primitive(Primitive.Kind.BOOLEAN)
+        }, classSymbol, node);
+    }
+
     /**
      * Generates the instructions for calling the given static method symbol.
      * @param methodSymbol the method symbol
@@ -2540,6 +3182,50 @@ public final class CodeGenerator implements NodeVisitor {
             operandStack.push(methodSymbol.getReturnType());
     }
 
+    /**
+     * Generates the instructions for invoking the dynamic call site with the given bootstrap method index,
+     * name, parameter types and return type.
+     * @param bootstrapMethodIndex the bootstrap method index
+     * @param name the call site name
+     * @param parameterTypes the parameter types
+     * @param returnType the return type
+     */
+    private void generateInvokeDynamic(int bootstrapMethodIndex, String name, Type[] parameterTypes, Type returnType) {
+        String descriptor = String.valueOf(Descriptor.generateMethodDescriptor(parameterTypes, returnType));
+
+        addInstruction(new Instruction.Builder(INVOKEDYNAMIC, 5)
+                .add((short) constantPool.addInvokeDynamicConstant(bootstrapMethodIndex, name, descriptor))
+                .add((short) 0)
+                .build());
+
+        //Remove arguments from stack
+        operandStack.pop(parameterTypes.length);
+        //Add return value to stack
+        if(!(returnType instanceof Void))
+            operandStack.push(returnType);
+    }
+
+    /**
+     * Generates the instructions for concatenating the arguments on the stack
+     * according to the given recipe and argument types.
+     * @param recipe the concatenation recipe
+     * @param argumentTypes the argument types
+     * @param stringType the string type
+     */
+    private void generateStringConcatenation(String recipe, List<Type> argumentTypes, Type stringType) {
+        //Add bootstrap method to the class file
+        short methodHandleIndex = (short) constantPool.addMethodHandleConstant(MethodHandleKind.INVOKE_STATIC,
+                constantPool.addMethodRefConstant(
+                        BootstrapMethod.StringConcatenation.CLASS_NAME,
+                        BootstrapMethod.StringConcatenation.NAME,
+                        BootstrapMethod.StringConcatenation.DESCRIPTOR));
+        int bootstrapMethodIndex = classFile.addBootstrapMethod(methodHandleIndex,
+                (short) constantPool.addStringConstant(recipe));
+
+        generateInvokeDynamic(bootstrapMethodIndex, BootstrapMethod.StringConcatenation.NAME,
+                argumentTypes.toArray(new Type[0]), stringType);
+    }
+
     /**
      * Returns the field reference index in the constant pool of the given field symbol.
      * @param fieldSymbol the field symbol
@@ -2576,6 +3262,48 @@ public final class CodeGenerator implements NodeVisitor {
                 String.valueOf(Descriptor.generateMethodDescriptor(methodSymbol)));
     }
 
+    /**
+     * Adds the operands of the given string concatenation chain to the given operands list.
+     * @param expression the expression
+     * @param operands the operands list
+     */
+    private void addStringConcatenationOperands(Expression expression, List<Expression> operands) {
+        if(expression instanceof BinaryExpression binaryExpression
+                && binaryExpression.getKind() == BinaryExpression.Kind.OPERATION_ADDITION
+                && binaryExpression.getExpressionType() instanceof Object) {
+            addStringConcatenationOperands(binaryExpression.getFirst(), operands);
+            addStringConcatenationOperands(binaryExpression.getSecond(), operands);
+        } else {
+            operands.add(expression);
+        }
+    }
+
+    /**
+     * Returns the string representation of the given constant expression.
+     * @param expression the expression
+     * @return the constant string (null if the expression is not constant)
+     */
+    private String getConstantString(Expression expression) {
+        if(expression instanceof Literal.String literal)
+            return String.valueOf(literal.getValue());
+        else if(expression instanceof Literal.Integer literal)
+            return String.valueOf(literal.getValue());
+        else if(expression instanceof Literal.Long literal)
+            return String.valueOf(literal.getValue());
+        else if(expression instanceof Literal.Float literal)
+            return String.valueOf(literal.getValue());
+        else if(expression instanceof Literal.Double literal)
+            return String.valueOf(literal.getValue());
+        else if(expression instanceof Literal.Char literal)
+            return String.valueOf(literal.getValue());
+        else if(expression instanceof Literal.Boolean literal)
+            return String.valueOf(literal.getValue());
+        else if(expression instanceof Literal.Null)
+            return String.valueOf((java.lang.Object) null);
+        else
+            return null;
+    }
+
     /**
      * Returns the type from the given type node.
      * @param node the type node
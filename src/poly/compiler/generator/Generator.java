@@ -4,6 +4,7 @@ import poly.compiler.analyzer.table.ImportTable;
 import poly.compiler.output.ClassFile;
 import poly.compiler.output.attribute.CodeAttribute;
 import poly.compiler.output.attribute.InnerClassesAttribute;
+import poly.compiler.output.attribute.LightExceptionAttribute;
 import poly.compiler.output.attribute.NestHostAttribute;
 import poly.compiler.output.attribute.NestMembersAttribute;
 import poly.compiler.output.content.ConstantPool;
@@ -69,6 +70,10 @@ public final class Generator {
         if(classSymbol.getOwnerSymbol() instanceof ClassSymbol outerClassSymbol)
             classFile.addAttribute(new NestHostAttribute(classFile.getConstantPool(), outerClassSymbol));
 
+        //Generate light exception attribute
+        if(classSymbol.isLight())
+            classFile.addAttribute(new LightExceptionAttribute(classFile.getConstantPool()));
+
         return classFile;
     }
 
@@ -90,8 +95,8 @@ public final class Generator {
 
         //Generate method code content
         if(!methodDefinition.getMethodSymbol().isEmpty()) {
-            codeAttribute = CodeGenerator.getInstance(classDefinition, classFile.getConstantPool(), importTable)
-                    .generate(methodDefinition.getMethodDeclaration());
+            codeAttribute = CodeGenerator.getInstance(classDefinition, classFile, importTable)
+                    .generate(methodDefinition);
         }
 
         //Add method to class file
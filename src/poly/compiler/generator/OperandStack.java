@@ -185,6 +185,8 @@ public class OperandStack {
                     case DOUBLE -> push(VerificationType.forDouble());
                     case STRING -> push(VerificationType.forObject(
                             (short) constantPool.addClassConstant(ClassName.STRING.toInternalQualifiedName())));
+                    case CLASS -> push(VerificationType.forObject(
+                            (short) constantPool.addClassConstant(ClassName.CLASS.toInternalQualifiedName())));
                 }
             }
 
@@ -11,12 +11,16 @@ import java.util.List;
 /**
  * The StackMapTable class. This class represents a stack map table and contains
  * the various stack map frames generated alongside the code.
+ * Every frame is generated relatively to the previous frame, so that the most compact
+ * kind of frame is used. The locals of the previous frames are kept as arrays, which are
+ * only copied from the local table when the locals changed.
  * @author Vincent Philippe (@vincent64)
  */
 public class StackMapTable implements Byteable {
+    private static final VerificationType[] EMPTY_LOCALS = new VerificationType[0];
     private final List<StackMapFrame> frames;
-    private List<VerificationType> lastLocalTypes;
-    private List<VerificationType> previousLastLocalTypes;
+    private VerificationType[] lastLocals;
+    private VerificationType[] previousLastLocals;
     private int lastOffset;
     private int previousLastOffset;
 
@@ -26,8 +30,22 @@ public class StackMapTable implements Byteable {
     public StackMapTable() {
         //Initialize frames list
         frames = new ArrayList<>();
-        lastLocalTypes = new ArrayList<>();
-        previousLastLocalTypes = new ArrayList<>();
+        lastLocals = EMPTY_LOCALS;
+        previousLastLocals = EMPTY_LOCALS;
+    }
+
+    /**
+     * Sets the locals of the implicit initial frame, which are the locals
+     * defined by the method parameters, from the given local table.
+     * This method has no effect if a frame has already been generated.
+     * @param localTable the local table
+     */
+    public void setInitialFrame(LocalTable localTable) {
+        if(!frames.isEmpty())
+            return;
+
+        List<VerificationType> localTypes = localTable.getLocalTypes();
+        lastLocals = copyLocals(localTypes, getLocalCount(localTypes));
     }
 
     /**
@@ -37,45 +55,130 @@ public class StackMapTable implements Byteable {
      * @param programCounter the program counter
      */
     public void addFrame(OperandStack operandStack, LocalTable localTable, int programCounter) {
+        List<VerificationType> localTypes = localTable.getLocalTypes();
+        int localCount = getLocalCount(localTypes);
+
         //Add new stack map frame
         if(programCounter >= lastOffset) {
-            int offset = programCounter - lastOffset;
-
-            //Generate frame according to previous frame
-            StackMapFrame frame = operandStack.isEmpty()
-                    && localTable.getLocalTypes().equals(lastLocalTypes) && offset < 64
-                    ? StackMapFrame.createSameFrame(offset)
-                    : StackMapFrame.createFullFrame(operandStack, localTable, offset);
-
-            //Add the frame to the table
-            frames.add(frame);
+            //Add the frame generated according to previous frame
+            frames.add(createFrame(operandStack, localTypes, localCount, lastLocals, programCounter - lastOffset));
 
             //Update previous frame values
-            previousLastLocalTypes = lastLocalTypes;
-            lastLocalTypes = List.copyOf(localTable.getLocalTypes());
+            previousLastLocals = lastLocals;
+            lastLocals = getLocals(localTypes, localCount, lastLocals);
             previousLastOffset = lastOffset;
             lastOffset = programCounter + 1;
         }
 
         //Replace last stack map frame
         else if(programCounter == lastOffset - 1 && lastOffset > 0) {
-            int offset = programCounter - previousLastOffset;
-
-            //Generate frame according to previous frame
-            StackMapFrame frame = operandStack.isEmpty()
-                    && localTable.getLocalTypes().equals(previousLastLocalTypes) && offset < 64
-                    ? StackMapFrame.createSameFrame(offset)
-                    : StackMapFrame.createFullFrame(operandStack, localTable, offset);
-
-            //Replace the last frame in the table
-            frames.set(frames.size() - 1, frame);
+            //Replace the last frame with the frame generated according to previous frame
+            frames.set(frames.size() - 1, createFrame(operandStack, localTypes, localCount,
+                    previousLastLocals, programCounter - previousLastOffset));
 
             //Update previous frame values
-            lastLocalTypes = List.copyOf(localTable.getLocalTypes());
+            lastLocals = getLocals(localTypes, localCount, previousLastLocals);
             lastOffset = programCounter + 1;
         }
     }
 
+    /**
+     * Creates the most compact stack map frame from the given operand stack and locals,
+     * according to the locals of the previous frame.
+     * @param operandStack the operand stack
+     * @param localTypes the local types
+     * @param localCount the local count
+     * @param previousLocals the previous frame locals
+     * @param offset the frame offset
+     * @return the stack map frame
+     */
+    private static StackMapFrame createFrame(OperandStack operandStack, List<VerificationType> localTypes,
+                                             int localCount, VerificationType[] previousLocals, int offset) {
+        int previousCount = previousLocals.length;
+        int commonCount = Math.min(localCount, previousCount);
+        boolean isCommonPrefix = isMatching(localTypes, previousLocals, commonCount);
+
+        if(isCommonPrefix) {
+            //Generate frames with empty operand stack
+            if(operandStack.isEmpty()) {
+                if(localCount == previousCount)
+                    return StackMapFrame.createSameFrame(offset);
+
+                if(previousCount - localCount > 0 && previousCount - localCount <= 3)
+                    return StackMapFrame.createChopFrame(previousCount - localCount, offset);
+
+                if(localCount - previousCount > 0 && localCount - previousCount <= 3)
+                    return StackMapFrame.createAppendFrame(localTypes.subList(previousCount, localCount), offset);
+            }
+
+            //Generate frame with single stack item
+            else if(operandStack.getSize() == 1 && localCount == previousCount) {
+                return StackMapFrame.createSameLocals1StackItemFrame(operandStack.getStackTypes().getFirst(), offset);
+            }
+        }
+
+        return StackMapFrame.createFullFrame(operandStack, localTypes.subList(0, localCount), offset);
+    }
+
+    /**
+     * Returns the locals of the frame, reusing the given previous frame locals if they are the same.
+     * @param localTypes the local types
+     * @param localCount the local count
+     * @param previousLocals the previous frame locals
+     * @return the frame locals
+     */
+    private static VerificationType[] getLocals(List<VerificationType> localTypes, int localCount,
+                                                VerificationType[] previousLocals) {
+        if(localCount == previousLocals.length && isMatching(localTypes, previousLocals, localCount))
+            return previousLocals;
+
+        return copyLocals(localTypes, localCount);
+    }
+
+    /**
+     * Returns a copy of the given amount of first local types.
+     * @param localTypes the local types
+     * @param localCount the local count
+     * @return the locals copy
+     */
+    private static VerificationType[] copyLocals(List<VerificationType> localTypes, int localCount) {
+        VerificationType[] locals = new VerificationType[localCount];
+        for(int i = 0; i < localCount; i++)
+            locals[i] = localTypes.get(i);
+
+        return locals;
+    }
+
+    /**
+     * Returns whether the given amount of first local types match with the given locals.
+     * @param localTypes the local types
+     * @param locals the locals
+     * @param count the count
+     * @return true if the locals match
+     */
+    private static boolean isMatching(List<VerificationType> localTypes, VerificationType[] locals, int count) {
+        for(int i = 0; i < count; i++) {
+            if(!localTypes.get(i).equals(locals[i]))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the amount of local types without the trailing top types,
+     * which are implicit in a stack map frame.
+     * @param localTypes the local types
+     * @return the local count
+     */
+    private static int getLocalCount(List<VerificationType> localTypes) {
+        int count = localTypes.size();
+        while(count > 0 && localTypes.get(count - 1).getKind() == VerificationType.Kind.TOP)
+            count--;
+
+        return count;
+    }
+
     @Override
     public byte[] getBytes() {
         ByteArray byteArray = new ByteArray();
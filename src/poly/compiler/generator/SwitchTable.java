@@ -0,0 +1,112 @@
+package poly.compiler.generator;
+
+import poly.compiler.output.jvm.Instruction;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static poly.compiler.output.jvm.Instructions.*;
+
+/**
+ * The SwitchTable class. This class is used to manage the branches of a switch instruction.
+ * According to the density of the case keys, the switch is either generated as a tableswitch
+ * instruction, which jumps by indexing the keys range, or as a lookupswitch instruction,
+ * which jumps by searching the sorted keys.
+ * @author Vincent Philippe (@vincent64)
+ */
+final class SwitchTable {
+    private final SortedMap<Integer, Integer> caseOffsets;
+    private final int switchOffset;
+    private final boolean isTableSwitch;
+    private int defaultOffset;
+
+    /**
+     * Constructs a switch table with the given case keys and switch offset.
+     * @param keys the case keys
+     * @param switchOffset the switch instruction offset
+     */
+    public SwitchTable(Set<Integer> keys, int switchOffset) {
+        this.switchOffset = switchOffset;
+
+        //Initialize case offsets
+        caseOffsets = new TreeMap<>();
+        for(int key : keys)
+            caseOffsets.put(key, 0);
+
+        //Compare the cost of both switch instructions
+        if(!keys.isEmpty()) {
+            long tableSpaceCost = 4 + ((long) caseOffsets.lastKey() - caseOffsets.firstKey() + 1);
+            long lookupSpaceCost = 3 + 2L * keys.size();
+
+            isTableSwitch = tableSpaceCost + 3 * 3 <= lookupSpaceCost + 3L * keys.size();
+        } else {
+            isTableSwitch = false;
+        }
+    }
+
+    /**
+     * Resolves the jump to the case with the given key to the given program counter.
+     * @param key the case key
+     * @param programCounter the program counter
+     */
+    public void resolveCase(int key, int programCounter) {
+        caseOffsets.put(key, programCounter - switchOffset);
+    }
+
+    /**
+     * Resolves the default jump to the given program counter.
+     * @param programCounter the program counter
+     */
+    public void resolveDefault(int programCounter) {
+        defaultOffset = programCounter - switchOffset;
+    }
+
+    /**
+     * Returns the switch instruction with the currently resolved jump offsets.
+     * @return the switch instruction
+     */
+    public Instruction getInstruction() {
+        //Compute instruction padding
+        int padding = (4 - ((switchOffset + 1) % 4)) % 4;
+
+        //Generate table switch
+        if(isTableSwitch) {
+            int low = caseOffsets.firstKey();
+            int high = caseOffsets.lastKey();
+
+            Instruction.Builder builder = new Instruction.Builder(TABLESWITCH, 1 + padding + 12 + 4 * (high - low + 1));
+            for(int i = 0; i < padding; i++)
+                builder.add((byte) 0);
+
+            builder.add(defaultOffset)
+                    .add(low)
+                    .add(high);
+
+            //Add jump offsets, missing keys jump to default
+            for(long key = low; key <= high; key++)
+                builder.add(caseOffsets.getOrDefault((int) key, defaultOffset));
+
+            return builder.build();
+        }
+
+        //Generate lookup switch
+        else {
+            Instruction.Builder builder = new Instruction.Builder(LOOKUPSWITCH, 1 + padding + 8 + 8 * caseOffsets.size());
+            for(int i = 0; i < padding; i++)
+                builder.add((byte) 0);
+
+            builder.add(defaultOffset)
+                    .add(caseOffsets.size());
+
+            //Add key and jump offset pairs
+            for(Map.Entry<Integer, Integer> caseOffset : caseOffsets.entrySet()) {
+                builder.add((int) caseOffset.getKey())
+                        .add((int) caseOffset.getValue());
+            }
+
+            return builder.build();
+        }
+    }
+}
@@ -2,8 +2,10 @@ package poly.compiler.output;
 
 import poly.compiler.file.CodeReader;
 import poly.compiler.output.attribute.Attribute;
+import poly.compiler.output.attribute.BootstrapMethodsAttribute;
 import poly.compiler.output.attribute.CodeAttribute;
 import poly.compiler.output.attribute.InnerClassesAttribute;
+import poly.compiler.output.attribute.LightExceptionAttribute;
 import poly.compiler.output.attribute.SourceFileAttribute;
 import poly.compiler.output.content.*;
 import poly.compiler.output.jvm.Instructions;
@@ -52,6 +54,7 @@ public final class ClassFile implements Byteable {
     private final short classIndex;
     private final short superclassIndex;
     private final short accessFlag;
+    private BootstrapMethodsAttribute bootstrapMethodsAttribute;
 
     /**
      * Constructs a class file from the given class symbol.
@@ -215,6 +218,10 @@ public final class ClassFile implements Byteable {
         if(methodSymbol.isEmpty())
             accessFlag |= Instructions.MethodAccessFlag.ABSTRACT;
 
+        //Set generated method synthetic flag
+        if(methodSymbol.isSynthetic())
+            accessFlag |= Instructions.MethodAccessFlag.SYNTHETIC;
+
         //Add method name to constant pool
         short nameIndex = (short) constantPool.addUTF8Constant(methodSymbol.getName());
 
@@ -244,6 +251,24 @@ public final class ClassFile implements Byteable {
         attributes.addAttribute(attribute);
     }
 
+    /**
+     * Adds a bootstrap method with the given method handle index and static argument indices,
+     * and returns its index in the bootstrap methods attribute. The attribute is added to
+     * the class attributes when the first bootstrap method is added.
+     * @param methodHandleIndex the method handle index
+     * @param argumentIndices the static argument indices
+     * @return the index of the bootstrap method
+     */
+    public int addBootstrapMethod(short methodHandleIndex, short... argumentIndices) {
+        //Add bootstrap methods attribute
+        if(bootstrapMethodsAttribute == null) {
+            bootstrapMethodsAttribute = new BootstrapMethodsAttribute(constantPool);
+            attributes.addAttribute(bootstrapMethodsAttribute);
+        }
+
+        return bootstrapMethodsAttribute.addBootstrapMethod(methodHandleIndex, argumentIndices);
+    }
+
     /**
      * Adds a source file attribute with the given file name.
      * @param fileName the file name
@@ -333,6 +358,19 @@ public final class ClassFile implements Byteable {
         return (accessFlag & Instructions.ClassAccessFlag.FINAL) != 0;
     }
 
+    /**
+     * Returns whether the class is a light exception.
+     * @return true if the class has a light exception attribute
+     */
+    public boolean isLight() {
+        for(Attribute attribute : attributes.getAttributes()) {
+            if(attribute instanceof LightExceptionAttribute)
+                return true;
+        }
+
+        return false;
+    }
+
     /**
      * Returns the class interface indices list.
      * @return the interfaces
@@ -0,0 +1,92 @@
+package poly.compiler.output.attribute;
+
+import poly.compiler.output.content.ConstantPool;
+import poly.compiler.util.ByteArray;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The BootstrapMethodsAttribute class. This class represents an attribute containing the
+ * bootstrap methods referenced by the invokedynamic instructions of a class, and extends from the Attribute class.
+ * According to the JVM specification, a bootstrap methods attribute has the following structure :
+ * <pre>
+ *      BootstrapMethods_attribute {
+ *          u2 attribute_name_index;
+ *          u4 attribute_length;
+ *          u2 num_bootstrap_methods;
+ *          {   u2 bootstrap_method_ref;
+ *              u2 num_bootstrap_arguments;
+ *              u2 bootstrap_arguments[num_bootstrap_arguments];
+ *          } bootstrap_methods[num_bootstrap_methods];
+ *      }
+ * </pre>
+ * @author Vincent Philippe (@vincent64)
+ */
+public final class BootstrapMethodsAttribute extends Attribute {
+    private static final String NAME = "BootstrapMethods";
+    private final List<short[]> bootstrapMethods;
+
+    /**
+     * Constructs a bootstrap methods attribute.
+     * @param constantPool the constant pool
+     */
+    public BootstrapMethodsAttribute(ConstantPool constantPool) {
+        super((short) constantPool.addUTF8Constant(NAME), 0);
+
+        //Initialize bootstrap methods list
+        bootstrapMethods = new ArrayList<>();
+    }
+
+    /**
+     * Adds a bootstrap method with the given method handle index and static argument indices,
+     * and returns its index in the attribute. If the bootstrap method is already present,
+     * it will only return its index.
+     * @param methodHandleIndex the method handle index
+     * @param argumentIndices the static argument indices
+     * @return the index of the bootstrap method
+     */
+    public int addBootstrapMethod(short methodHandleIndex, short... argumentIndices) {
+        //Create bootstrap method content
+        short[] bootstrapMethod = new short[argumentIndices.length + 1];
+        bootstrapMethod[0] = methodHandleIndex;
+        System.arraycopy(argumentIndices, 0, bootstrapMethod, 1, argumentIndices.length);
+
+        //Return the index of the preexisting bootstrap method
+        for(int i = 0; i < bootstrapMethods.size(); i++) {
+            if(Arrays.equals(bootstrapMethods.get(i), bootstrapMethod))
+                return i;
+        }
+
+        bootstrapMethods.add(bootstrapMethod);
+
+        return bootstrapMethods.size() - 1;
+    }
+
+    @Override
+    public byte[] getBytes() {
+        ByteArray byteArray = new ByteArray();
+
+        //Compute attribute length
+        int length = 2;
+        for(short[] bootstrapMethod : bootstrapMethods)
+            length += bootstrapMethod.length * 2 + 2;
+
+        //Add attribute content
+        byteArray.add(nameIndex);
+        byteArray.add(length);
+        byteArray.add((short) bootstrapMethods.size());
+
+        //Add every bootstrap method content
+        for(short[] bootstrapMethod : bootstrapMethods) {
+            byteArray.add(bootstrapMethod[0]);
+            byteArray.add((short) (bootstrapMethod.length - 1));
+
+            for(int i = 1; i < bootstrapMethod.length; i++)
+                byteArray.add(bootstrapMethod[i]);
+        }
+
+        return byteArray.getBytes();
+    }
+}
@@ -0,0 +1,41 @@
+package poly.compiler.output.attribute;
+
+import poly.compiler.output.content.ConstantPool;
+import poly.compiler.util.ByteArray;
+
+/**
+ * The LightExceptionAttribute class. This class represents a non-standard attribute marking
+ * a class as a light exception, and extends from the Attribute class.
+ * The attribute is ignored by the JVM, but is read back by the compiler so that
+ * light exceptions from libraries can be extended.
+ * The light exception attribute has the following structure :
+ * <pre>
+ *      LightException_attribute {
+ *          u2 attribute_name_index;
+ *          u4 attribute_length;
+ *      }
+ * </pre>
+ * @author Vincent Philippe (@vincent64)
+ */
+public final class LightExceptionAttribute extends Attribute {
+    public static final String NAME = "poly.LightException";
+
+    /**
+     * Constructs a light exception attribute.
+     * @param constantPool the constant pool
+     */
+    public LightExceptionAttribute(ConstantPool constantPool) {
+        super((short) constantPool.addUTF8Constant(NAME), 0);
+    }
+
+    @Override
+    public byte[] getBytes() {
+        ByteArray byteArray = new ByteArray();
+
+        //Add attribute content
+        byteArray.add(nameIndex);
+        byteArray.add(length);
+
+        return byteArray.getBytes();
+    }
+}
@@ -1,28 +1,34 @@
 package poly.compiler.output.attribute;
 
-import poly.compiler.generator.LocalTable;
 import poly.compiler.generator.OperandStack;
 import poly.compiler.output.Byteable;
 import poly.compiler.util.ByteArray;
 
+import java.util.List;
+
 /**
  * The StackMapFrame class. This class represents a stack map frame, as described by
  * the JVM specification.
  * @author Vincent Philippe (@vincent64)
  */
 public class StackMapFrame implements Byteable {
+    /** The maximum offset that can be encoded in the frame type. */
+    private static final int MAX_IMPLICIT_OFFSET = 63;
     private final Kind kind;
+    private final byte frameType;
     private final short offset;
     private final byte[] content;
 
     /**
-     * Constructs a stack map frame with the given kind, offset and byte content.
+     * Constructs a stack map frame with the given kind, frame type, offset and byte content.
      * @param kind the frame kind
+     * @param frameType the frame type
      * @param offset the frame offset
      * @param content the frame content
      */
-    private StackMapFrame(Kind kind, short offset, byte[] content) {
+    private StackMapFrame(Kind kind, int frameType, short offset, byte[] content) {
         this.kind = kind;
+        this.frameType = (byte) frameType;
         this.offset = offset;
         this.content = content;
     }
@@ -31,27 +37,28 @@ public class StackMapFrame implements Byteable {
      * Constructs a stack map frame with the given kind and offset.
      * @param kind the frame kind
      * @param offset the frame offset
+     * @param content the frame content
      */
-    private StackMapFrame(Kind kind, short offset) {
-        this(kind, offset, new byte[0]);
+    private StackMapFrame(Kind kind, short offset, byte[] content) {
+        this(kind, kind.getTag(), offset, content);
     }
 
     /**
-     * Creates and returns a full stack map frame from the given operand stack, local table and offset.
+     * Creates and returns a full stack map frame from the given operand stack, local types and offset.
      * @param operandStack the operand stack
-     * @param localTable the local table
+     * @param localTypes the local types
      * @param offset the frame offset
      * @return a full stack map frame
      */
-    public static StackMapFrame createFullFrame(OperandStack operandStack, LocalTable localTable, int offset) {
+    public static StackMapFrame createFullFrame(OperandStack operandStack, List<VerificationType> localTypes, int offset) {
         ByteArray byteArray = new ByteArray();
 
-        //Add operand stack types
-        byteArray.add((short) localTable.getCount());
-        for(VerificationType type : localTable.getLocalTypes())
+        //Add local types
+        byteArray.add((short) localTypes.size());
+        for(VerificationType type : localTypes)
             byteArray.add(type.getBytes());
 
-        //Add local types
+        //Add operand stack types
         byteArray.add((short) operandStack.getSize());
         for(VerificationType type : operandStack.getStackTypes())
             byteArray.add(type.getBytes());
@@ -61,29 +68,75 @@ public class StackMapFrame implements Byteable {
 
     /**
      * Creates and returns a same stack map frame from the given offset.
+     * If the offset is too large, a same extended stack map frame is returned instead.
      * @param offset the frame offset
      * @return a same stack map frame
      */
     public static StackMapFrame createSameFrame(int offset) {
-        return new StackMapFrame(Kind.SAME_FRAME, (short) offset);
+        if(offset > MAX_IMPLICIT_OFFSET)
+            return new StackMapFrame(Kind.SAME_FRAME_EXTENDED, (short) offset, new byte[0]);
+
+        return new StackMapFrame(Kind.SAME_FRAME, Kind.SAME_FRAME.getTag() + offset, (short) offset, new byte[0]);
+    }
+
+    /**
+     * Creates and returns a same locals stack map frame with the given single stack item and offset.
+     * If the offset is too large, an extended stack map frame is returned instead.
+     * @param stackType the stack item type
+     * @param offset the frame offset
+     * @return a same locals 1 stack item stack map frame
+     */
+    public static StackMapFrame createSameLocals1StackItemFrame(VerificationType stackType, int offset) {
+        if(offset > MAX_IMPLICIT_OFFSET)
+            return new StackMapFrame(Kind.SAME_LOCALS_1_STACK_ITEM_FRAME_EXTENDED, (short) offset, stackType.getBytes());
+
+        return new StackMapFrame(Kind.SAME_LOCALS_1_STACK_ITEM_FRAME,
+                Kind.SAME_LOCALS_1_STACK_ITEM_FRAME.getTag() + offset, (short) offset, stackType.getBytes());
+    }
+
+    /**
+     * Creates and returns a chop stack map frame, in which the given amount of last locals
+     * of the previous frame are absent.
+     * @param count the absent locals count (between 1 and 3)
+     * @param offset the frame offset
+     * @return a chop stack map frame
+     */
+    public static StackMapFrame createChopFrame(int count, int offset) {
+        return new StackMapFrame(Kind.CHOP_FRAME, (Kind.SAME_FRAME_EXTENDED.getTag() & 0xFF) - count,
+                (short) offset, new byte[0]);
+    }
+
+    /**
+     * Creates and returns an append stack map frame, in which the given local types
+     * are added to the locals of the previous frame.
+     * @param localTypes the additional local types (between 1 and 3)
+     * @param offset the frame offset
+     * @return an append stack map frame
+     */
+    public static StackMapFrame createAppendFrame(List<VerificationType> localTypes, int offset) {
+        ByteArray byteArray = new ByteArray();
+
+        //Add additional local types
+        for(VerificationType type : localTypes)
+            byteArray.add(type.getBytes());
+
+        return new StackMapFrame(Kind.APPEND_FRAME, (Kind.SAME_FRAME_EXTENDED.getTag() & 0xFF) + localTypes.size(),
+                (short) offset, byteArray.getBytes());
     }
 
     @Override
     public byte[] getBytes() {
         ByteArray byteArray = new ByteArray();
 
-        switch(kind) {
-            case FULL_FRAME -> {
-                byteArray.add(kind.getTag());
-                byteArray.add(offset);
-                byteArray.add(content);
-            }
-
-            case SAME_FRAME -> {
-                byteArray.add((byte) (kind.getTag() + offset));
-                byteArray.add(content);
-            }
-        }
+        //Add frame type
+        byteArray.add(frameType);
+
+        //Add explicit offset
+        if(kind != Kind.SAME_FRAME && kind != Kind.SAME_LOCALS_1_STACK_ITEM_FRAME)
+            byteArray.add(offset);
+
+        //Add frame content
+        byteArray.add(content);
 
         return byteArray.getBytes();
     }
@@ -0,0 +1,46 @@
+package poly.compiler.output.content;
+
+/**
+ * The BootstrapMethod class. This class contains the owner class, name and descriptor
+ * of the bootstrap methods used to link the invokedynamic call sites.
+ * @author Vincent Philippe (@vincent64)
+ */
+public class BootstrapMethod {
+    private BootstrapMethod() { }
+
+    /**
+     * The BootstrapMethod.StringConcatenation class. This class contains the bootstrap
+     * method used to link string concatenation call sites, as well as the recipe tags.
+     */
+    public static class StringConcatenation {
+        private StringConcatenation() { }
+
+        //Bootstrap method reference
+        public static final String CLASS_NAME = "java/lang/invoke/StringConcatFactory";
+        public static final String NAME = "makeConcatWithConstants";
+        public static final String DESCRIPTOR = "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;"
+                + "Ljava/lang/invoke/MethodType;Ljava/lang/String;[Ljava/lang/Object;)Ljava/lang/invoke/CallSite;";
+
+        //Recipe tags
+        public static final char ARGUMENT_TAG = '\u0001';
+        public static final char CONSTANT_TAG = '\u0002';
+
+        //Maximum amount of argument slots of a call site
+        public static final int MAX_SLOT_COUNT = 200;
+    }
+
+    /**
+     * The BootstrapMethod.LambdaMetafactory class. This class contains the bootstrap
+     * method used to link lambda expression call sites.
+     */
+    public static class LambdaMetafactory {
+        private LambdaMetafactory() { }
+
+        //Bootstrap method reference
+        public static final String CLASS_NAME = "java/lang/invoke/LambdaMetafactory";
+        public static final String NAME = "metafactory";
+        public static final String DESCRIPTOR = "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;"
+                + "Ljava/lang/invoke/MethodType;Ljava/lang/invoke/MethodType;Ljava/lang/invoke/MethodHandle;"
+                + "Ljava/lang/invoke/MethodType;)Ljava/lang/invoke/CallSite;";
+    }
+}
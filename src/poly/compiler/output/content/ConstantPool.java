@@ -399,6 +399,91 @@ public class ConstantPool implements Byteable {
         return addConstant(new Constant(Constant.Kind.STRING, bytes));
     }
 
+    /**
+     * Adds a method handle constant in the constant pool and returns its
+     * index in the constant pool. If the constant is already present
+     * in the constant pool, it will only return its index in it.
+     * The method handle constant has the following structure :
+     * <pre>
+     *      CONSTANT_MethodHandle_info {
+     *          u1 tag;
+     *          u1 reference_kind;
+     *          u2 reference_index;
+     *      }
+     * </pre>
+     * @param referenceKind the reference kind
+     * @param referenceIndex the field or method reference index
+     * @return the index of the constant in the constant pool
+     */
+    public int addMethodHandleConstant(byte referenceKind, int referenceIndex) {
+        //Create byte array containing the constant content
+        ByteArray byteArray = new ByteArray();
+        byteArray.add(Constant.Kind.METHOD_HANDLE.getTag());
+        byteArray.add(referenceKind);
+        byteArray.add((short) referenceIndex);
+        byte[] bytes = byteArray.getBytes();
+
+        return addConstant(new Constant(Constant.Kind.METHOD_HANDLE, bytes));
+    }
+
+    /**
+     * Adds a method type constant in the constant pool and returns its
+     * index in the constant pool. If the constant is already present
+     * in the constant pool, it will only return its index in it.
+     * The method type constant has the following structure :
+     * <pre>
+     *      CONSTANT_MethodType_info {
+     *          u1 tag;
+     *          u2 descriptor_index;
+     *      }
+     * </pre>
+     * @param descriptor the method descriptor
+     * @return the index of the constant in the constant pool
+     */
+    public int addMethodTypeConstant(String descriptor) {
+        //Add the descriptor as constant
+        int descriptorIndex = addUTF8Constant(descriptor);
+
+        //Create byte array containing the constant content
+        ByteArray byteArray = new ByteArray();
+        byteArray.add(Constant.Kind.METHOD_TYPE.getTag());
+        byteArray.add((short) descriptorIndex);
+        byte[] bytes = byteArray.getBytes();
+
+        return addConstant(new Constant(Constant.Kind.METHOD_TYPE, bytes));
+    }
+
+    /**
+     * Adds an invoke dynamic constant in the constant pool and returns its
+     * index in the constant pool. If the constant is already present
+     * in the constant pool, it will only return its index in it.
+     * The invoke dynamic constant has the following structure :
+     * <pre>
+     *      CONSTANT_InvokeDynamic_info {
+     *          u1 tag;
+     *          u2 bootstrap_method_attr_index;
+     *          u2 name_and_type_index;
+     *      }
+     * </pre>
+     * @param bootstrapMethodIndex the bootstrap method index in the bootstrap methods attribute
+     * @param name the call site name
+     * @param descriptor the call site descriptor
+     * @return the index of the constant in the constant pool
+     */
+    public int addInvokeDynamicConstant(int bootstrapMethodIndex, String name, String descriptor) {
+        //Add name-type constant
+        int nameAndTypeIndex = addNameAndTypeConstant(name, descriptor);
+
+        //Create byte array containing the constant content
+        ByteArray byteArray = new ByteArray();
+        byteArray.add(Constant.Kind.INVOKE_DYNAMIC.getTag());
+        byteArray.add((short) bootstrapMethodIndex);
+        byteArray.add((short) nameAndTypeIndex);
+        byte[] bytes = byteArray.getBytes();
+
+        return addConstant(new Constant(Constant.Kind.INVOKE_DYNAMIC, bytes));
+    }
+
     @Override
     public byte[] getBytes() {
         ByteArray byteArray = new ByteArray();
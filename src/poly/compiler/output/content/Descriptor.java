@@ -93,20 +93,30 @@ public class Descriptor {
      * @return the method descriptor
      */
     public static char[] generateMethodDescriptor(MethodSymbol methodSymbol) {
+        return generateMethodDescriptor(methodSymbol.getParameterTypes(), methodSymbol.getReturnType());
+    }
+
+    /**
+     * Returns the method descriptor characters from the given parameter types and return type.
+     * @param parameterTypes the parameter types
+     * @param returnType the return type
+     * @return the method descriptor
+     */
+    public static char[] generateMethodDescriptor(Type[] parameterTypes, Type returnType) {
         CharArray array = new CharArray();
 
         //Add opening parameters parenthesis
         array.add('(');
 
         //Add every parameter
-        for(Type parameterType : methodSymbol.getParameterTypes())
+        for(Type parameterType : parameterTypes)
             array.add(getDescriptorFromType(parameterType));
 
         //Add closing parameters parenthesis
         array.add(')');
 
         //Add method return type
-        array.add(getDescriptorFromType(methodSymbol.getReturnType()));
+        array.add(getDescriptorFromType(returnType));
 
         return array.getChars();
     }
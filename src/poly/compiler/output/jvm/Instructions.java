@@ -524,4 +524,19 @@ public class Instructions {
         public static final byte MODULE = 19;
         public static final byte PACKAGE = 20;
     }
+
+    /**
+     * Method handle reference kinds.
+     */
+    public static class MethodHandleKind {
+        public static final byte GET_FIELD = 1;
+        public static final byte GET_STATIC = 2;
+        public static final byte PUT_FIELD = 3;
+        public static final byte PUT_STATIC = 4;
+        public static final byte INVOKE_VIRTUAL = 5;
+        public static final byte INVOKE_STATIC = 6;
+        public static final byte INVOKE_SPECIAL = 7;
+        public static final byte NEW_INVOKE_SPECIAL = 8;
+        public static final byte INVOKE_INTERFACE = 9;
+    }
 }
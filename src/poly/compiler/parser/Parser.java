@@ -148,6 +148,41 @@ public final class Parser {
         return peekToken().getType() == type;
     }
 
+    /**
+     * Returns whether the current token is the memo modifier of a method declaration.
+     * Since the memo keyword is contextual, the word is instead a return type if it is directly
+     * followed by the method name and its parameters, or a method name if it is followed by
+     * the method parameters and body.
+     * @return true if the current token is the memo modifier
+     */
+    private boolean isMemoModifier() {
+        if(!isMatching(METHOD_MEMO) || isPastLastToken())
+            return false;
+
+        //Check if the word is a return type
+        if(isPeekMatchingType(Token.Type.IDENTIFIER))
+            return currentTokenIndex + 2 >= tokens.length
+                    || !tokens[currentTokenIndex + 2].getContent().equals(OPENING_PARENTHESIS);
+
+        if(!isPeekMatching(OPENING_PARENTHESIS))
+            return true;
+
+        //Find the closing parenthesis of the options or parameters
+        int depth = 0;
+        for(int i = currentTokenIndex + 1; i < tokens.length - 1; i++) {
+            String content = tokens[i].getContent();
+
+            if(content.equals(OPENING_PARENTHESIS)) depth++;
+            else if(content.equals(CLOSING_PARENTHESIS) && --depth == 0) {
+                //Check if the word is a method name
+                String next = tokens[i + 1].getContent();
+                return !next.equals(OPENING_CURLY_BRACKET) && !next.equals(Symbol.EQUAL) && !next.equals(SEMICOLON);
+            }
+        }
+
+        return true;
+    }
+
     /**
      * Returns wether the current token is matching the given string content,
      * and advances to the next token if it is the case.
@@ -239,6 +274,12 @@ public final class Parser {
         //Check if class is constant
         if(matches(VAR_CONST)) node.setConstant();
 
+        //Check if class is light, unless the class is named light
+        if(isMatching(CLASS_LIGHT) && isPeekMatchingType(Token.Type.IDENTIFIER)) {
+            match(CLASS_LIGHT);
+            node.setLight();
+        }
+
         //Parse class name
         if(isMatchingType(Token.Type.IDENTIFIER)) {
             node.setName(currentToken);
@@ -329,6 +370,29 @@ public final class Parser {
         //Check if method is constant
         if(matches(VAR_CONST)) node.setConstant();
 
+        //Check if method is asynchronous
+        if(matches(CONCURRENCY_ASYNC)) node.setAsync();
+
+        //Check if method is memoized
+        if(isMemoModifier()) {
+            match(METHOD_MEMO);
+            node.setMemo();
+
+            //Parse memoization cache options
+            if(matches(OPENING_PARENTHESIS)) {
+                //Parse cache capacity
+                if(!isMatching(CONCURRENCY_THREAD)) {
+                    node.setMemoCapacity(parseExpression());
+                    if(!isMatching(CLOSING_PARENTHESIS)) match(COMMA);
+                }
+
+                //Check if cache is thread-safe
+                if(matches(CONCURRENCY_THREAD)) node.setMemoThreadSafe();
+
+                match(CLOSING_PARENTHESIS);
+            }
+        }
+
         //Check if method is a constructor
         if(matches(METHOD_CONSTRUCTOR) && !node.isOperator()) {
             node.setConstructor();
@@ -455,6 +519,10 @@ public final class Parser {
             if(isMatching(STATEMENT_TRY))
                 return parseTryStatement();
 
+            //Parse thread-statement
+            if(isMatching(CONCURRENCY_THREAD))
+                return parseThreadStatement();
+
             //Parse throw-statement
             if(isMatching(STATEMENT_THROW))
                 return parseThrowStatement();
@@ -657,8 +725,13 @@ public final class Parser {
     private Statement parseForeachStatement() {
         ForeachStatement statement = new ForeachStatement(Node.Meta.fromLeadingToken(currentToken));
 
-        //Match foreach keyword and opening parenthesis
+        //Match foreach keyword
         match(STATEMENT_FOREACH);
+
+        //Check if foreach-statement is parallel
+        if(matches(EXPRESSION_PARALLEL)) statement.setParallel();
+
+        //Match opening parenthesis
         match(OPENING_PARENTHESIS);
 
         //Parse variable declaration
@@ -772,6 +845,18 @@ public final class Parser {
         return statement;
     }
 
+    private Statement parseThreadStatement() {
+        ThreadStatement statement = new ThreadStatement(Node.Meta.fromLeadingToken(currentToken));
+
+        //Match thread keyword
+        match(CONCURRENCY_THREAD);
+
+        //Parse statements block
+        statement.setBody(parseStatementBlock());
+
+        return statement;
+    }
+
     private Statement parseThrowStatement() {
         ThrowStatement statement = new ThrowStatement(Node.Meta.fromLeadingToken(currentToken));
 
@@ -911,6 +996,10 @@ public final class Parser {
         if(isMatching(EXPRESSION_PROD))
             return parseProdExpression();
 
+        //Parse lambda expression
+        if(isMatching(METHOD))
+            return parseLambdaExpression();
+
         return parseAssignmentExpression();
     }
 
@@ -940,8 +1029,13 @@ public final class Parser {
     private Expression parseSumExpression() {
         SumExpression expression = new SumExpression(Node.Meta.fromLeadingToken(currentToken));
 
-        //Match sum keyword and opening parenthesis
+        //Match sum keyword
         match(EXPRESSION_SUM);
+
+        //Check if sum-expression is parallel
+        if(matches(EXPRESSION_PARALLEL)) expression.setParallel();
+
+        //Match opening parenthesis
         match(OPENING_PARENTHESIS);
 
         //Parse variable initialiation
@@ -969,8 +1063,13 @@ public final class Parser {
     private Expression parseProdExpression() {
         ProdExpression expression = new ProdExpression(Node.Meta.fromLeadingToken(currentToken));
 
-        //Match prod keyword and opening parenthesis
+        //Match prod keyword
         match(EXPRESSION_PROD);
+
+        //Check if prod-expression is parallel
+        if(matches(EXPRESSION_PARALLEL)) expression.setParallel();
+
+        //Match opening parenthesis
         match(OPENING_PARENTHESIS);
 
         //Parse variable initialiation
@@ -995,6 +1094,24 @@ public final class Parser {
         return expression;
     }
 
+    private Expression parseLambdaExpression() {
+        LambdaExpression expression = new LambdaExpression(Node.Meta.fromLeadingToken(currentToken));
+
+        //Match fn keyword
+        match(METHOD);
+
+        //Parse parameters list
+        match(OPENING_PARENTHESIS);
+        expression.setParameterList(parseLambdaParameterList());
+        match(CLOSING_PARENTHESIS);
+
+        //Parse body statements block or expression
+        if(isMatching(OPENING_CURLY_BRACKET)) expression.setBody(parseStatementBlock());
+        else expression.setBody(parseExpression());
+
+        return expression;
+    }
+
     private Expression parseAssignmentExpression() {
         Expression expression = parseNullCoalescingExpression();
 
@@ -1262,6 +1379,18 @@ public final class Parser {
     }
 
     private Expression parseUnaryExpression() {
+        //Parse await expression
+        if(isMatching(CONCURRENCY_AWAIT)) {
+            AwaitExpression awaitExpression = new AwaitExpression(Node.Meta.fromLeadingToken(currentToken));
+
+            //Match await keyword
+            match(CONCURRENCY_AWAIT);
+
+            awaitExpression.setExpression(parseUnaryExpression());
+
+            return awaitExpression;
+        }
+
         //Parse unary expression
         if(isMatching(SUB) || isMatching(LOGICAL_NOT) || isMatching(BITWISE_NOT)
                 || isMatching(INCREMENT) || isMatching(DECREMENT)) {
@@ -1373,6 +1502,13 @@ public final class Parser {
                     qualifiedName.setName(currentToken.getContent());
                     expression = qualifiedName;
                     nextToken();
+                } else if(isMatchingType(Token.Type.KEYWORD) && !isMatching(CLASS_NEW)
+                        && isPeekMatching(OPENING_PARENTHESIS)) {
+                    //Parse call to a method named like a keyword, such as the sum method of Java streams
+                    MemberAccess memberAccess = new MemberAccess(Node.Meta.fromLeadingToken(currentToken));
+                    memberAccess.setMember(expression);
+                    memberAccess.setAccessor(parseMethodCall());
+                    expression = memberAccess;
                 } else {
                     //Parse member access
                     MemberAccess memberAccess = new MemberAccess(Node.Meta.fromLeadingToken(currentToken));
@@ -1727,6 +1863,31 @@ public final class Parser {
         return node;
     }
 
+    private Node parseLambdaParameterList() {
+        ParameterList node = new ParameterList(Node.Meta.fromLeadingToken(currentToken));
+
+        //Return empty parameters list
+        if(isMatching(CLOSING_PARENTHESIS))
+            return node;
+
+        //Parse parameters list
+        do {
+            //Parse parameter without type
+            if(isMatchingType(Token.Type.IDENTIFIER)
+                    && (isPeekMatching(COMMA) || isPeekMatching(CLOSING_PARENTHESIS))) {
+                Parameter parameter = new Parameter(Node.Meta.fromLeadingToken(currentToken));
+                parameter.setName(currentToken);
+                nextToken();
+
+                node.addParameter(parameter);
+            } else {
+                node.addParameter(parseParameter());
+            }
+        } while(matches(COMMA));
+
+        return node;
+    }
+
     private Node parseConstantList() {
         EnumConstantList node = new EnumConstantList(Node.Meta.fromLeadingToken(currentToken));
 
@@ -25,7 +25,7 @@ public class ClassDeclaration extends Node {
     private List<Node> methodNodes;
     private List<Node> nestedClasses;
     private Node constantList;
-    private boolean isStatic, isConstant;
+    private boolean isStatic, isConstant, isLight;
 
     /**
      * Constructs a class declaration node with the given metadata information.
@@ -121,6 +121,13 @@ public class ClassDeclaration extends Node {
         isConstant = true;
     }
 
+    /**
+     * Sets the current class declaration as light.
+     */
+    public void setLight() {
+        isLight = true;
+    }
+
     /**
      * Sets the current class declaration as an interface.
      */
@@ -237,6 +244,14 @@ public class ClassDeclaration extends Node {
         return isConstant;
     }
 
+    /**
+     * Returns whether the class declaration is light.
+     * @return true if the class is light
+     */
+    public boolean isLight() {
+        return isLight;
+    }
+
     /**
      * Returns whether the class declaration is an interface.
      * @return true if the class is an interface
@@ -286,7 +301,8 @@ public class ClassDeclaration extends Node {
                 "kind=" + kind,
                 "name=" + name,
                 "isStatic=" + isStatic,
-                "isConstant=" + isConstant);
+                "isConstant=" + isConstant,
+                "isLight=" + isLight);
         string.addString("Superclass:");
         string.addNode(superclass);
         string.addString("Interfaces:");
@@ -31,6 +31,14 @@ public class FieldDeclaration extends Node {
         accessModifier = AccessModifier.findAccessModifier(token.getContent());
     }
 
+    /**
+     * Sets the given field access modifier.
+     * @param accessModifier the access modifier
+     */
+    public void setAccessModifier(AccessModifier accessModifier) {
+        this.accessModifier = accessModifier;
+    }
+
     /**
      * Sets the field variable declaration node.
      * @param node the variable declaration node
@@ -19,9 +19,11 @@ public class MethodDeclaration extends Node {
     private Node returnType;
     private Node parameterList;
     private Statement body;
+    private Node memoCapacity;
     private boolean isStatic, isConstant;
     private boolean isConstructor, isStaticConstructor, isOperator;
-    private boolean isEmpty;
+    private boolean isEmpty, isAsync;
+    private boolean isMemo, isMemoThreadSafe;
 
     /**
      * Constructs a method declaration node with the given metadata information.
@@ -39,6 +41,14 @@ public class MethodDeclaration extends Node {
         accessModifier = AccessModifier.findAccessModifier(token.getContent());
     }
 
+    /**
+     * Sets the given method access modifier.
+     * @param accessModifier the access modifier
+     */
+    public void setAccessModifier(AccessModifier accessModifier) {
+        this.accessModifier = accessModifier;
+    }
+
     /**
      * Sets the method name from the given token.
      * @param token the token
@@ -53,6 +63,10 @@ public class MethodDeclaration extends Node {
      * Sets the given return type node.
      * @param node the return type node
      */
+    public void setName(String name) {
+        this.name = name;
+    }
+
     public void setReturnType(Node node) {
         returnType = node;
     }
@@ -87,6 +101,35 @@ public class MethodDeclaration extends Node {
         isConstant = true;
     }
 
+    /**
+     * Sets the current method declaration as asynchronous.
+     */
+    public void setAsync() {
+        isAsync = true;
+    }
+
+    /**
+     * Sets the current method declaration as memoized.
+     */
+    public void setMemo() {
+        isMemo = true;
+    }
+
+    /**
+     * Sets the memoization cache of the current method declaration as thread-safe.
+     */
+    public void setMemoThreadSafe() {
+        isMemoThreadSafe = true;
+    }
+
+    /**
+     * Sets the given memoization cache capacity expression node.
+     * @param node the capacity expression node
+     */
+    public void setMemoCapacity(Node node) {
+        memoCapacity = node;
+    }
+
     /**
      * Sets the current method declaration as a constructor.
      * The name of the method will be automatically set.
@@ -175,6 +218,38 @@ public class MethodDeclaration extends Node {
         return isConstant;
     }
 
+    /**
+     * Returns whether the method declaration is asynchronous.
+     * @return true if the method is asynchronous
+     */
+    public boolean isAsync() {
+        return isAsync;
+    }
+
+    /**
+     * Returns whether the method declaration is memoized.
+     * @return true if the method is memoized
+     */
+    public boolean isMemo() {
+        return isMemo;
+    }
+
+    /**
+     * Returns whether the memoization cache of the method declaration is thread-safe.
+     * @return true if the cache is thread-safe
+     */
+    public boolean isMemoThreadSafe() {
+        return isMemoThreadSafe;
+    }
+
+    /**
+     * Returns the memoization cache capacity expression node.
+     * @return the capacity expression node (null if unbounded)
+     */
+    public Node getMemoCapacity() {
+        return memoCapacity;
+    }
+
     /**
      * Returns whether the method declaration is a constructor.
      * @return true if the method is a constructor
@@ -224,6 +299,8 @@ public class MethodDeclaration extends Node {
                 "name=" + name,
                 "isStatic=" + isStatic,
                 "isConstant=" + isConstant,
+                "isAsync=" + isAsync,
+                "isMemo=" + isMemo,
                 "isConstructor=" + isConstructor,
                 "isOperator=" + isOperator,
                 "isEmpty=" + isEmpty);
@@ -1,8 +1,12 @@
 package poly.compiler.parser.tree;
 
-import poly.compiler.parser.tree.expression.Expression;
-import poly.compiler.parser.tree.expression.MemberAccess;
+import poly.compiler.analyzer.type.Array;
+import poly.compiler.analyzer.type.Object;
+import poly.compiler.analyzer.type.Primitive;
+import poly.compiler.analyzer.type.Type;
+import poly.compiler.parser.tree.expression.*;
 import poly.compiler.parser.tree.variable.Parameter;
+import poly.compiler.parser.tree.variable.VariableDeclaration;
 
 /**
  * The NodeGenerator class. This class is used to generate nodes outside the parser.
@@ -39,4 +43,107 @@ public class NodeGenerator {
 
         return parameter;
     }
+
+    /**
+     * Generates a parameter node with the given name and type.
+     * @param name the parameter name
+     * @param type the parameter type
+     * @return the parameter node
+     */
+    public static Parameter forParameter(String name, Type type) {
+        Parameter parameter = new Parameter(null);
+        parameter.setName(name);
+        parameter.setType(forType(type));
+
+        return parameter;
+    }
+
+    /**
+     * Generates a simple name node with the given name and expression type.
+     * @param name the name
+     * @param type the expression type
+     * @return the simple name node
+     */
+    public static SimpleName forSimpleName(String name, Type type) {
+        SimpleName simpleName = new SimpleName(null);
+        simpleName.setName(name);
+        simpleName.setExpressionType(type);
+
+        return simpleName;
+    }
+
+    /**
+     * Generates a variable declaration node with the given name and initialization expression.
+     * The variable type is the type of the initialization expression.
+     * @param name the variable name
+     * @param expression the initialization expression
+     * @return the variable declaration node
+     */
+    public static VariableDeclaration forVariableDeclaration(String name, Expression expression) {
+        VariableDeclaration variableDeclaration = new VariableDeclaration(null);
+        variableDeclaration.setName(name);
+        variableDeclaration.setType(forType(expression.getExpressionType()));
+        variableDeclaration.setInitializationExpression(expression);
+
+        return variableDeclaration;
+    }
+
+    /**
+     * Generates a variable declaration node with the given name and type, without initialization expression.
+     * @param name the variable name
+     * @param type the variable type
+     * @return the variable declaration node
+     */
+    public static VariableDeclaration forVariableDeclaration(String name, Type type) {
+        VariableDeclaration variableDeclaration = new VariableDeclaration(null);
+        variableDeclaration.setName(name);
+        variableDeclaration.setType(forType(type));
+
+        return variableDeclaration;
+    }
+
+    /**
+     * Generates an assignment expression node assigning the given expression to the variable with the given name.
+     * @param name the variable name
+     * @param expression the assigned expression
+     * @return the assignment expression node
+     */
+    public static AssignmentExpression forAssignmentExpression(String name, Expression expression) {
+        AssignmentExpression assignmentExpression = new AssignmentExpression(null);
+        assignmentExpression.setKind(AssignmentExpression.Kind.ASSIGNMENT);
+        assignmentExpression.setVariable(forSimpleName(name, expression.getExpressionType()));
+        assignmentExpression.setExpression(expression);
+        assignmentExpression.setExpressionType(expression.getExpressionType());
+
+        return assignmentExpression;
+    }
+
+    /**
+     * Generates the type node corresponding to the given type.
+     * @param type the type
+     * @return the type node
+     */
+    public static Expression forType(Type type) {
+        //Generate primitive type
+        if(type instanceof Primitive primitive) {
+            PrimitiveType primitiveType = new PrimitiveType(null);
+            primitiveType.setKind(primitive.getPrimitiveKind());
+
+            return primitiveType;
+        }
+
+        //Generate array type
+        if(type instanceof Array array) {
+            ArrayType arrayType = new ArrayType(null);
+            arrayType.setType(forType(array.getType()));
+
+            return arrayType;
+        }
+
+        //Generate object type
+        if(type instanceof Object object)
+            return QualifiedName.fromClassName(object.getClassSymbol().getClassName());
+
+        return null;
+    }
 }
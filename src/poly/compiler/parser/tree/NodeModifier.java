@@ -40,6 +40,7 @@ public interface NodeModifier {
     default Statement visitSwitchStatement(SwitchStatement switchStatement) { return switchStatement; }
     default Statement visitThisStatement(ThisStatement thisStatement) { return thisStatement; }
     default Statement visitThrowStatement(ThrowStatement throwStatement) { return throwStatement; }
+    default Statement visitThreadStatement(ThreadStatement threadStatement) { return threadStatement; }
     default Statement visitTryStatement(TryStatement tryStatement) { return tryStatement; }
     default Statement visitVariableDeclaration(VariableDeclaration variableDeclaration) { return variableDeclaration; }
     default Statement visitWhileStatement(WhileStatement whileStatement) { return whileStatement; }
@@ -49,10 +50,12 @@ public interface NodeModifier {
     default Expression visitArrayCreation(ArrayCreation arrayCreation) { return arrayCreation; }
     default Expression visitArrayType(ArrayType arrayType) { return arrayType; }
     default Expression visitAssignmentExpression(AssignmentExpression assignmentExpression) { return assignmentExpression; }
+    default Expression visitAwaitExpression(AwaitExpression awaitExpression) { return awaitExpression; }
     default Expression visitBinaryExpression(BinaryExpression binaryExpression) { return binaryExpression; }
     default Expression visitCastExpression(CastExpression castExpression) { return castExpression; }
     default Expression visitClassCreation(ClassCreation classCreation) { return classCreation; }
     default Expression visitIfExpression(IfExpression ifExpression) { return ifExpression; }
+    default Expression visitLambdaExpression(LambdaExpression lambdaExpression) { return lambdaExpression; }
     default Expression visitLiteral(Literal literal) { return literal; }
     default Expression visitMemberAccess(MemberAccess memberAccess) { return memberAccess; }
     default Expression visitMethodCall(MethodCall methodCall) { return methodCall; }
@@ -37,6 +37,7 @@ public interface NodeVisitor {
     default void visitSwitchStatement(SwitchStatement switchStatement) {}
     default void visitThisStatement(ThisStatement thisStatement) {}
     default void visitThrowStatement(ThrowStatement throwStatement) {}
+    default void visitThreadStatement(ThreadStatement threadStatement) {}
     default void visitTryStatement(TryStatement tryStatement) {}
     default void visitVariableDeclaration(VariableDeclaration variableDeclaration) {}
     default void visitWhileStatement(WhileStatement whileStatement) {}
@@ -46,10 +47,12 @@ public interface NodeVisitor {
     default void visitArrayCreation(ArrayCreation arrayCreation) {}
     default void visitArrayType(ArrayType arrayType) {}
     default void visitAssignmentExpression(AssignmentExpression assignmentExpression) {}
+    default void visitAwaitExpression(AwaitExpression awaitExpression) {}
     default void visitBinaryExpression(BinaryExpression binaryExpression) {}
     default void visitCastExpression(CastExpression castExpression) {}
     default void visitClassCreation(ClassCreation classCreation) {}
     default void visitIfExpression(IfExpression ifExpression) {}
+    default void visitLambdaExpression(LambdaExpression lambdaExpression) {}
     default void visitLiteral(Literal literal) {}
     default void visitMemberAccess(MemberAccess memberAccess) {}
     default void visitMethodCall(MethodCall methodCall) {}
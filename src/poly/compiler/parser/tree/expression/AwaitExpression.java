@@ -0,0 +1,45 @@
+package poly.compiler.parser.tree.expression;
+
+import poly.compiler.parser.tree.NodeModifier;
+import poly.compiler.parser.tree.NodeVisitor;
+import poly.compiler.util.NodeStringifier;
+
+/**
+ * The AwaitExpression class. This class represents an await-expression, and contains
+ * the expression of the future to wait for.
+ * @author Vincent Philippe (@vincent64)
+ */
+public class AwaitExpression extends Expression {
+    private Expression expression;
+
+    public AwaitExpression(Meta meta) {
+        super(meta);
+    }
+
+    public void setExpression(Expression node) {
+        expression = node;
+    }
+
+    public Expression getExpression() {
+        return expression;
+    }
+
+    @Override
+    public void accept(NodeVisitor visitor) {
+        visitor.visitAwaitExpression(this);
+    }
+
+    @Override
+    public Expression accept(NodeModifier modifier) {
+        return modifier.visitAwaitExpression(this);
+    }
+
+    @Override
+    public String toString() {
+        NodeStringifier string = new NodeStringifier("AwaitExpression");
+        string.addString("Expression:");
+        string.addNode(expression);
+
+        return string.toString();
+    }
+}
@@ -0,0 +1,105 @@
+package poly.compiler.parser.tree.expression;
+
+import poly.compiler.analyzer.table.Variable;
+import poly.compiler.parser.tree.Node;
+import poly.compiler.parser.tree.NodeModifier;
+import poly.compiler.parser.tree.NodeVisitor;
+import poly.compiler.resolver.symbol.MethodSymbol;
+import poly.compiler.util.NodeStringifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The LambdaExpression class. This class represents a lambda expression, and contains
+ * the parameters list and the body of the lambda, which is either an expression or a statements block.
+ * After the analysis, it also contains the synthetic method implementing the lambda body,
+ * the functional interface method and the variables captured from the enclosing method.
+ * @author Vincent Philippe (@vincent64)
+ */
+public class LambdaExpression extends Expression {
+    private Node parameterList;
+    private Node body;
+    private MethodSymbol methodSymbol;
+    private MethodSymbol interfaceMethodSymbol;
+    private final List<Variable> capturedVariables;
+    private boolean isCapturingThis;
+
+    public LambdaExpression(Meta meta) {
+        super(meta);
+
+        //Initialize captured variables list
+        capturedVariables = new ArrayList<>();
+    }
+
+    public void setParameterList(Node node) {
+        parameterList = node;
+    }
+
+    public void setBody(Node node) {
+        body = node;
+    }
+
+    public void setMethodSymbol(MethodSymbol methodSymbol) {
+        this.methodSymbol = methodSymbol;
+    }
+
+    public void setInterfaceMethodSymbol(MethodSymbol methodSymbol) {
+        interfaceMethodSymbol = methodSymbol;
+    }
+
+    public void addCapturedVariable(Variable variable) {
+        if(!capturedVariables.contains(variable))
+            capturedVariables.add(variable);
+    }
+
+    public void setCapturingThis() {
+        isCapturingThis = true;
+    }
+
+    public Node getParameterList() {
+        return parameterList;
+    }
+
+    public Node getBody() {
+        return body;
+    }
+
+    public MethodSymbol getMethodSymbol() {
+        return methodSymbol;
+    }
+
+    public MethodSymbol getInterfaceMethodSymbol() {
+        return interfaceMethodSymbol;
+    }
+
+    public List<Variable> getCapturedVariables() {
+        return capturedVariables;
+    }
+
+    public boolean isCapturingThis() {
+        return isCapturingThis;
+    }
+
+    @Override
+    public void accept(NodeVisitor visitor) {
+        visitor.visitLambdaExpression(this);
+    }
+
+    @Override
+    public Expression accept(NodeModifier modifier) {
+        return modifier.visitLambdaExpression(this);
+    }
+
+    @Override
+    public String toString() {
+        NodeStringifier string = new NodeStringifier("LambdaExpression",
+                "isCapturingThis=" + isCapturingThis);
+        string.addString("Parameters list:");
+        string.addNode(parameterList);
+        string.addString("Body:");
+        string.addNode(body);
+
+        return string.toString();
+    }
+}
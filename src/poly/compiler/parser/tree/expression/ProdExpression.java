@@ -8,7 +8,7 @@ import poly.compiler.util.NodeStringifier;
 /**
  * The ProdExpression class. This class represents a product-expression, and contains
  * the variable initialization, the condition expression, the increment expression
- * and the body expression of the product.
+ * and the body expression of the product, and whether the product is parallel.
  * @author Vincent Philippe (@vincent64)
  */
 public class ProdExpression extends Expression {
@@ -16,6 +16,7 @@ public class ProdExpression extends Expression {
     private Expression condition;
     private Statement incrementExpression;
     private Expression expression;
+    private boolean isParallel;
 
     public ProdExpression(Meta meta) {
         super(meta);
@@ -37,6 +38,10 @@ public class ProdExpression extends Expression {
         expression = node;
     }
 
+    public void setParallel() {
+        isParallel = true;
+    }
+
     public Statement getVariableInitialization() {
         return variableInitialization;
     }
@@ -53,6 +58,10 @@ public class ProdExpression extends Expression {
         return expression;
     }
 
+    public boolean isParallel() {
+        return isParallel;
+    }
+
     @Override
     public void accept(NodeVisitor visitor) {
         visitor.visitProdExpression(this);
@@ -65,7 +74,8 @@ public class ProdExpression extends Expression {
 
     @Override
     public String toString() {
-        NodeStringifier string = new NodeStringifier("ProdExpression");
+        NodeStringifier string = new NodeStringifier("ProdExpression",
+                "isParallel=" + isParallel);
         string.addString("Variable initialization:");
         string.addNode(variableInitialization);
         string.addString("Condition:");
@@ -8,7 +8,7 @@ import poly.compiler.util.NodeStringifier;
 /**
  * The SumExpression class. This class represents a sum-expression, and contains
  * the variable initialization, the condition expression, the increment expression
- * and the body expression of the summation.
+ * and the body expression of the summation, and whether the summation is parallel.
  * @author Vincent Philippe (@vincent64)
  */
 public class SumExpression extends Expression {
@@ -16,6 +16,7 @@ public class SumExpression extends Expression {
     private Expression condition;
     private Statement incrementExpression;
     private Expression expression;
+    private boolean isParallel;
 
     public SumExpression(Meta meta) {
         super(meta);
@@ -37,6 +38,10 @@ public class SumExpression extends Expression {
         expression = node;
     }
 
+    public void setParallel() {
+        isParallel = true;
+    }
+
     public Statement getVariableInitialization() {
         return variableInitialization;
     }
@@ -53,6 +58,10 @@ public class SumExpression extends Expression {
         return expression;
     }
 
+    public boolean isParallel() {
+        return isParallel;
+    }
+
     @Override
     public void accept(NodeVisitor visitor) {
         visitor.visitSumExpression(this);
@@ -65,7 +74,8 @@ public class SumExpression extends Expression {
 
     @Override
     public String toString() {
-        NodeStringifier string = new NodeStringifier("SumExpression");
+        NodeStringifier string = new NodeStringifier("SumExpression",
+                "isParallel=" + isParallel);
         string.addString("Variable initialization:");
         string.addNode(variableInitialization);
         string.addString("Condition:");
@@ -7,13 +7,14 @@ import poly.compiler.util.NodeStringifier;
 
 /**
  * The ForeachStatement class. This class represents a foreach-statement, containing the
- * variable declaration and iterable expression.
+ * variable declaration and iterable expression, and whether the iterations are parallel.
  * @author Vincent Philippe(@vincent64)
  */
 public class ForeachStatement extends Statement {
     private Statement variableDeclaration;
     private Expression expression;
     private Statement body;
+    private boolean isParallel;
 
     public ForeachStatement(Meta meta) {
         super(meta);
@@ -31,6 +32,10 @@ public class ForeachStatement extends Statement {
         body = node;
     }
 
+    public void setParallel() {
+        isParallel = true;
+    }
+
     public Statement getVariableDeclaration() {
         return variableDeclaration;
     }
@@ -43,6 +48,10 @@ public class ForeachStatement extends Statement {
         return body;
     }
 
+    public boolean isParallel() {
+        return isParallel;
+    }
+
     @Override
     public void accept(NodeVisitor visitor) {
         visitor.visitForeachStatement(this);
@@ -55,7 +64,8 @@ public class ForeachStatement extends Statement {
 
     @Override
     public String toString() {
-        NodeStringifier string = new NodeStringifier("ForeachStatement");
+        NodeStringifier string = new NodeStringifier("ForeachStatement",
+                "isParallel=" + isParallel);
         string.addString("Variable declaration:");
         string.addNode(variableDeclaration);
         string.addString("Expression:");
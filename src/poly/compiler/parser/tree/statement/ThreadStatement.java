@@ -0,0 +1,45 @@
+package poly.compiler.parser.tree.statement;
+
+import poly.compiler.parser.tree.NodeModifier;
+import poly.compiler.parser.tree.NodeVisitor;
+import poly.compiler.util.NodeStringifier;
+
+/**
+ * The ThreadStatement class. This class represents a thread-statement, and contains
+ * the block of statements to be executed concurrently in a structured concurrency scope.
+ * @author Vincent Philippe (@vincent64)
+ */
+public class ThreadStatement extends Statement {
+    private Statement body;
+
+    public ThreadStatement(Meta meta) {
+        super(meta);
+    }
+
+    public void setBody(Statement node) {
+        body = node;
+    }
+
+    public Statement getBody() {
+        return body;
+    }
+
+    @Override
+    public void accept(NodeVisitor visitor) {
+        visitor.visitThreadStatement(this);
+    }
+
+    @Override
+    public Statement accept(NodeModifier modifier) {
+        return modifier.visitThreadStatement(this);
+    }
+
+    @Override
+    public String toString() {
+        NodeStringifier string = new NodeStringifier("ThreadStatement");
+        string.addString("Body:");
+        string.addNode(body);
+
+        return string.toString();
+    }
+}
@@ -32,6 +32,10 @@ public class VariableDeclaration extends Statement {
         name = String.valueOf(token.getContent());
     }
 
+    public void setName(String name) {
+        this.name = name;
+    }
+
     public void setConstant() {
         isConstant = true;
     }
@@ -1,7 +1,11 @@
 package poly.compiler.resolver;
 
 import poly.compiler.parser.tree.ClassDeclaration;
+import poly.compiler.parser.tree.MethodDeclaration;
+import poly.compiler.parser.tree.statement.StatementBlock;
+import poly.compiler.parser.tree.variable.ParameterList;
 import poly.compiler.resolver.symbol.ClassSymbol;
+import poly.compiler.resolver.symbol.MethodSymbol;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -34,10 +38,59 @@ public class ClassDefinition {
      * Adds a method definition to the current class definition.
      * @param methodDefinition the method definition
      */
-    void addMethodDefinition(MethodDefinition methodDefinition) {
+    public void addMethodDefinition(MethodDefinition methodDefinition) {
         methodDefinitions.add(methodDefinition);
     }
 
+    /**
+     * Adds a static constructor to the current class definition, if there is none yet.
+     */
+    public void addStaticConstructor() {
+        if(hasStaticConstructor())
+            return;
+
+        MethodSymbol staticConstructorSymbol = MethodSymbol.generateStaticConstructor(classSymbol);
+
+        //Generate static method declaration
+        MethodDeclaration methodDeclaration = new MethodDeclaration(null);
+        methodDeclaration.setBody(new StatementBlock(null));
+        methodDeclaration.setParameterList(new ParameterList(null));
+        methodDeclaration.setStaticConstructor();
+        methodDeclaration.setStatic();
+
+        //Add the constructor to the class symbol
+        classSymbol.addSymbol(staticConstructorSymbol);
+
+        addMethodDefinition(new MethodDefinition(methodDeclaration, staticConstructorSymbol));
+    }
+
+    /**
+     * Returns whether the current class definition has a static constructor.
+     * @return true if there is a static constructor
+     */
+    public boolean hasStaticConstructor() {
+        for(MethodDefinition methodDefinition : methodDefinitions) {
+            if(methodDefinition.getMethodDeclaration().isStaticConstructor())
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the method definition corresponding to the given method symbol.
+     * @param methodSymbol the method symbol
+     * @return the method definition (null if none was found)
+     */
+    public MethodDefinition findMethodDefinition(MethodSymbol methodSymbol) {
+        for(MethodDefinition methodDefinition : methodDefinitions) {
+            if(methodDefinition.getMethodSymbol().equals(methodSymbol))
+                return methodDefinition;
+        }
+
+        return null;
+    }
+
     /**
      * Returns the class declaration node.
      * @return the class declaration
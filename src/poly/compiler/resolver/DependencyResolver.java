@@ -31,6 +31,14 @@ public final class DependencyResolver {
         return new DependencyResolver(classDefinition);
     }
 
+    /**
+     * Removes the inherited and implementation methods cached for the previous project.
+     */
+    public static void clear() {
+        inheritedMethods.clear();
+        implementationMethods.clear();
+    }
+
     /**
      * Resolves the class definition inheritance and implementations.
      */
@@ -84,6 +92,13 @@ public final class DependencyResolver {
         if(classDefinition.getClassDeclaration().isException()
                 && !((ClassSymbol) classSymbol.getSuperclassSymbol()).isSubtypeOf(LibraryClasses.findClass(ClassName.RUNTIME_EXCEPTION)))
             new ResolvingError.InvalidExceptionSuperclass(classDefinition.getClassDeclaration());
+
+        //Make sure the light exception superclass is runtime exception or a light exception
+        classSymbol = classDefinition.getClassSymbol();
+        ClassSymbol superclassSymbol = (ClassSymbol) classSymbol.getSuperclassSymbol();
+        if(classSymbol.isLight() && !superclassSymbol.isLight()
+                && !superclassSymbol.equals(LibraryClasses.findClass(ClassName.RUNTIME_EXCEPTION)))
+            new ResolvingError.InvalidLightSuperclass(classDefinition.getClassDeclaration());
     }
 
     /**
@@ -20,13 +20,18 @@ import java.util.*;
 public class LibraryClasses {
     private static final PackageSymbol rootSymbol = new PackageSymbol("");
     private static final Map<String, LibraryFile> libraryFiles = new HashMap<>();
+    private static boolean isLoaded;
 
     private LibraryClasses() { }
 
     /**
-     * Loads the project libraries.
+     * Loads the project libraries. The libraries are only loaded once, and are then
+     * kept in memory to be reused by the next compilations.
      */
-    public static void loadLibraries() {
+    public static synchronized void loadLibraries() {
+        if(isLoaded)
+            return;
+
         //Load Java runtime library
         for(LibraryFile libraryFile : LibraryReader.loadJavaLibraryFiles())
             addLibraryFile(libraryFile);
@@ -47,6 +52,16 @@ public class LibraryClasses {
 
         //Print the libraries for debugging
         Debug.printLibraryFiles(libraryFiles);
+
+        isLoaded = true;
+    }
+
+    /**
+     * Returns whether the libraries have already been loaded.
+     * @return true if the libraries are loaded
+     */
+    public static synchronized boolean isLoaded() {
+        return isLoaded;
     }
 
     /**
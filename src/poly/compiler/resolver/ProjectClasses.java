@@ -6,16 +6,47 @@ import poly.compiler.resolver.symbol.Symbol;
 import poly.compiler.util.ClassName;
 import poly.compiler.util.PackageName;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
- * The ProjectClasses class. This class contains every symbol of the project.
+ * The ProjectClasses class. This class contains every symbol of the project,
+ * and the class definitions of the classes declared in the project.
  * @author Vincent Philippe (@vincent64)
  */
 public class ProjectClasses {
     /** The project source root symbol. */
-    private static final PackageSymbol rootSymbol = new PackageSymbol("");
+    private static PackageSymbol rootSymbol = new PackageSymbol("");
+    /** The project class definitions. */
+    private static Map<ClassSymbol, ClassDefinition> classDefinitions = new HashMap<>();
 
     private ProjectClasses() { }
 
+    /**
+     * Removes every symbol of the project, so that a new project can be compiled.
+     */
+    public static void clear() {
+        rootSymbol = new PackageSymbol("");
+        classDefinitions = new HashMap<>();
+    }
+
+    /**
+     * Adds the given class definition to the project.
+     * @param classDefinition the class definition
+     */
+    public static void addClassDefinition(ClassDefinition classDefinition) {
+        classDefinitions.put(classDefinition.getClassSymbol(), classDefinition);
+    }
+
+    /**
+     * Returns the class definition of the given class symbol.
+     * @param classSymbol the class symbol
+     * @return the class definition (null if the class is not from the project)
+     */
+    public static ClassDefinition findClassDefinition(ClassSymbol classSymbol) {
+        return classDefinitions.get(classSymbol);
+    }
+
     /**
      * Generates the package from the given package name.
      * @param packageName the package name
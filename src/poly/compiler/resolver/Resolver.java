@@ -101,6 +101,10 @@ public final class Resolver {
         if(classSymbol.isStatic() && classDeclaration.getSuperclass() != null)
             new ResolvingError.InvalidStaticSuperclass(classDeclaration);
 
+        //Make sure the class is an exception if it is light
+        if(classSymbol.isLight() && !classDeclaration.isException())
+            new ResolvingError.InvalidLightClass(classDeclaration);
+
         //Make sure the class is not static or interface if it is inner
         if(ownerSymbol instanceof ClassSymbol outerClassSymbol) {
             if(classSymbol.isInner() && (outerClassSymbol.isStatic() || outerClassSymbol.isInterface()))
@@ -117,7 +121,9 @@ public final class Resolver {
         }
 
         //Create the class definition
-        classDefinitions.add(new ClassDefinition(classDeclaration, classSymbol));
+        ClassDefinition classDefinition = new ClassDefinition(classDeclaration, classSymbol);
+        classDefinitions.add(classDefinition);
+        ProjectClasses.addClassDefinition(classDefinition);
 
         return classSymbol;
     }
@@ -3,22 +3,20 @@ package poly.compiler.resolver;
 import poly.compiler.analyzer.content.SpecialMethod;
 import poly.compiler.analyzer.table.ImportTable;
 import poly.compiler.analyzer.type.Primitive;
+import poly.compiler.analyzer.type.Type;
 import poly.compiler.analyzer.type.Void;
 import poly.compiler.error.ResolvingError;
 import poly.compiler.output.content.AccessModifier;
 import poly.compiler.parser.tree.*;
-import poly.compiler.parser.tree.expression.ArrayType;
-import poly.compiler.parser.tree.expression.Expression;
-import poly.compiler.parser.tree.expression.PrimitiveType;
-import poly.compiler.parser.tree.expression.QualifiedName;
-import poly.compiler.parser.tree.statement.StatementBlock;
-import poly.compiler.parser.tree.statement.SuperStatement;
+import poly.compiler.parser.tree.expression.*;
+import poly.compiler.parser.tree.statement.*;
 import poly.compiler.parser.tree.variable.*;
 import poly.compiler.resolver.symbol.*;
 import poly.compiler.tokenizer.content.Keyword;
 import poly.compiler.util.ClassName;
 import poly.compiler.warning.ResolverWarning;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -114,6 +112,9 @@ public final class SymbolResolver {
         if(classSymbol.isInner())
             resolveInnerReference(classSymbol);
 
+        //Generate memoized method caches
+        generateMemoMethods();
+
         boolean hasStaticField = false;
 
         //Resolve enum constants
@@ -253,7 +254,7 @@ public final class SymbolResolver {
 
         //Add static constructor for static fields
         if(hasStaticField)
-            addStaticConstructor(classSymbol);
+            classDefinition.addStaticConstructor();
     }
 
     /**
@@ -337,26 +338,6 @@ public final class SymbolResolver {
         classDefinition.addMethodDefinition(new MethodDefinition(methodDeclaration, constructorSymbol));
     }
 
-    /**
-     * Adds a static constructor to the given class symbol.
-     * @param classSymbol the class symbol
-     */
-    private void addStaticConstructor(ClassSymbol classSymbol) {
-        MethodSymbol staticConstructorSymbol = MethodSymbol.generateStaticConstructor(classSymbol);
-
-        //Generate static method declaration
-        MethodDeclaration methodDeclaration = new MethodDeclaration(null);
-        methodDeclaration.setBody(new StatementBlock(null));
-        methodDeclaration.setParameterList(new ParameterList(null));
-        methodDeclaration.setStaticConstructor();
-        methodDeclaration.setStatic();
-
-        //Add the constructor to the class symbol
-        classSymbol.addSymbol(staticConstructorSymbol);
-
-        classDefinition.addMethodDefinition(new MethodDefinition(methodDeclaration, staticConstructorSymbol));
-    }
-
     /**
      * Adds an enum class constructor to the given class symbol.
      * @param classSymbol the class symbol
@@ -415,4 +396,262 @@ public final class SymbolResolver {
         parameterList.addFirstParameter(NodeGenerator.forEmptyParameter(stringType));
         parameterList.addFirstParameter(NodeGenerator.forEmptyParameter(integerType));
     }
+
+    /**
+     * Generates the cache field and the computing method of every memoized method,
+     * and replaces the body of the memoized methods with a lookup in the cache.
+     */
+    private void generateMemoMethods() {
+        ClassDeclaration classDeclaration = classDefinition.getClassDeclaration();
+        int memoCount = 0;
+
+        for(Node node : new ArrayList<>(classDeclaration.getMethods())) {
+            MethodDeclaration methodDeclaration = (MethodDeclaration) node;
+
+            if(methodDeclaration.isMemo())
+                generateMemoMethod(methodDeclaration, "memo$" + memoCount++);
+        }
+    }
+
+    /**
+     * Generates the cache field and the computing method of the given memoized method declaration,
+     * and replaces its body with a lookup in the cache.
+     * @param methodDeclaration the memoized method declaration
+     * @param memoName the name prefix of the generated members
+     */
+    private void generateMemoMethod(MethodDeclaration methodDeclaration, String memoName) {
+        ClassDeclaration classDeclaration = classDefinition.getClassDeclaration();
+        ClassSymbol classSymbol = classDefinition.getClassSymbol();
+        Node.Meta meta = methodDeclaration.getMeta();
+        List<Node> parameters = ((ParameterList) methodDeclaration.getParameterList()).getParameters();
+
+        //Make sure the method can be memoized
+        if(methodDeclaration.isConstructor() || methodDeclaration.isAsync()
+                || methodDeclaration.isEmpty() || classSymbol.isInterface())
+            new ResolvingError.InvalidMemoMethod(methodDeclaration);
+
+        //Make sure the method has a result and arguments
+        if(methodDeclaration.getReturnType() == null || parameters.isEmpty())
+            new ResolvingError.InvalidMemoSignature(methodDeclaration);
+
+        Type returnType = resolveMemoType(methodDeclaration.getReturnType());
+        Type[] parameterTypes = new Type[parameters.size()];
+        for(int i = 0; i < parameters.size(); i++)
+            parameterTypes[i] = resolveMemoType(((Parameter) parameters.get(i)).getType());
+
+        String tableName = memoName + "$table";
+        String computeName = memoName + "$compute";
+        boolean isStatic = methodDeclaration.isStatic() || classSymbol.isStatic();
+
+        //Use a primitive-keyed table for a single integer or long argument
+        String tableKind = null;
+        if(parameterTypes.length == 1 && methodDeclaration.getMemoCapacity() == null
+                && !methodDeclaration.isMemoThreadSafe()
+                && parameterTypes[0] instanceof Primitive primitive) {
+            if(primitive.getPrimitiveKind() == Primitive.Kind.INTEGER) tableKind = "IntTable";
+            if(primitive.getPrimitiveKind() == Primitive.Kind.LONG) tableKind = "LongTable";
+        }
+
+        //Generate cache field
+        VariableDeclaration tableDeclaration = new VariableDeclaration(meta);
+        tableDeclaration.setName(tableName);
+        tableDeclaration.setConstant();
+        if(tableKind != null) {
+            QualifiedName tableType = new QualifiedName(meta);
+            tableType.setQualifiedName(QualifiedName.fromClassName(ClassName.MEMO));
+            tableType.setName(tableKind);
+            tableDeclaration.setType(tableType);
+            tableDeclaration.setInitializationExpression(generateMemoCall(meta,
+                    tableKind.equals("IntTable") ? "intTable" : "longTable"));
+        } else {
+            Expression capacity = methodDeclaration.getMemoCapacity() != null
+                    ? (Expression) methodDeclaration.getMemoCapacity()
+                    : new Literal.Integer(meta, 0);
+            tableDeclaration.setType(QualifiedName.fromClassName(ClassName.MAP));
+            tableDeclaration.setInitializationExpression(generateMemoCall(meta, "map",
+                    capacity, new Literal.Boolean(meta, methodDeclaration.isMemoThreadSafe())));
+        }
+
+        FieldDeclaration fieldDeclaration = new FieldDeclaration(meta);
+        fieldDeclaration.setAccessModifier(AccessModifier.PRIVATE);
+        fieldDeclaration.setVariable(tableDeclaration);
+        if(isStatic) fieldDeclaration.setStatic();
+        classDeclaration.addField(fieldDeclaration);
+
+        //Move the method body to the computing method
+        MethodDeclaration computeDeclaration = new MethodDeclaration(meta);
+        computeDeclaration.setAccessModifier(AccessModifier.PRIVATE);
+        computeDeclaration.setName(computeName);
+        computeDeclaration.setReturnType(methodDeclaration.getReturnType());
+        computeDeclaration.setParameterList(methodDeclaration.getParameterList());
+        computeDeclaration.setBody(methodDeclaration.getBody());
+        if(methodDeclaration.isStatic()) computeDeclaration.setStatic();
+        if(methodDeclaration.isConstant()) computeDeclaration.setConstant();
+        classDeclaration.addMethod(computeDeclaration);
+
+        //Generate the memoized method parameters and arguments
+        ParameterList parameterList = new ParameterList(meta);
+        ArgumentList argumentList = new ArgumentList(meta);
+        Literal.Array boxedArguments = new Literal.Array(meta);
+        for(int i = 0; i < parameters.size(); i++) {
+            String parameterName = memoName + "$" + i;
+            parameterList.addParameter(NodeGenerator.forParameter(parameterName, parameterTypes[i]));
+            argumentList.addArgument(NodeGenerator.forSimpleName(parameterName, null));
+            boxedArguments.addElement(generateMemoCall(meta, "box", NodeGenerator.forSimpleName(parameterName, null)));
+        }
+
+        methodDeclaration.setParameterList(parameterList);
+        methodDeclaration.setReturnType(NodeGenerator.forType(returnType));
+
+        //Generate the cache key
+        Expression key;
+        if(tableKind != null) key = NodeGenerator.forSimpleName(memoName + "$0", null);
+        else if(parameters.size() == 1) key = boxedArguments.getElements().getFirst();
+        else key = generateMemoCall(meta, "key", boxedArguments);
+
+        String valueName = memoName + "$value";
+        String keyName = memoName + "$key";
+        StatementBlock body = new StatementBlock(meta);
+
+        //Get the cached value
+        VariableDeclaration keyDeclaration = new VariableDeclaration(meta);
+        keyDeclaration.setName(keyName);
+        keyDeclaration.setType(tableKind != null
+                ? NodeGenerator.forType(parameterTypes[0])
+                : QualifiedName.fromClassName(ClassName.OBJECT));
+        keyDeclaration.setInitializationExpression(key);
+        body.addStatement(keyDeclaration);
+
+        VariableDeclaration valueDeclaration = new VariableDeclaration(meta);
+        valueDeclaration.setName(valueName);
+        valueDeclaration.setType(QualifiedName.fromClassName(ClassName.OBJECT));
+        valueDeclaration.setInitializationExpression(generateMemberCall(meta, tableName, "get",
+                NodeGenerator.forSimpleName(keyName, null)));
+        body.addStatement(valueDeclaration);
+
+        //Compute and cache the value if absent
+        MethodCall computeCall = new MethodCall(meta);
+        computeCall.setMethodName(computeName);
+        computeCall.setArgumentList(argumentList);
+
+        AssignmentExpression assignmentExpression = new AssignmentExpression(meta);
+        assignmentExpression.setKind(AssignmentExpression.Kind.ASSIGNMENT);
+        assignmentExpression.setVariable(NodeGenerator.forSimpleName(valueName, null));
+        assignmentExpression.setExpression(generateMemoCall(meta, "box", computeCall));
+
+        ExpressionStatement computeStatement = new ExpressionStatement(meta);
+        computeStatement.setExpression(assignmentExpression);
+
+        ExpressionStatement putStatement = new ExpressionStatement(meta);
+        putStatement.setExpression(generateMemberCall(meta, tableName, "put",
+                NodeGenerator.forSimpleName(keyName, null), NodeGenerator.forSimpleName(valueName, null)));
+
+        StatementBlock ifBody = new StatementBlock(meta);
+        ifBody.addStatement(computeStatement);
+        ifBody.addStatement(putStatement);
+
+        BinaryExpression condition = new BinaryExpression(meta);
+        condition.setKind(BinaryExpression.Kind.REFERENCE_EQUAL);
+        condition.setFirst(NodeGenerator.forSimpleName(valueName, null));
+        condition.setSecond(new Literal.Null(meta));
+
+        IfStatement ifStatement = new IfStatement(meta);
+        ifStatement.setCondition(condition);
+        ifStatement.setBody(ifBody);
+        body.addStatement(ifStatement);
+
+        //Return the unboxed value
+        Expression result;
+        if(returnType instanceof Primitive primitive) {
+            result = generateMemoCall(meta, "to" + getPrimitiveName(primitive),
+                    NodeGenerator.forSimpleName(valueName, null));
+        } else {
+            CastExpression castExpression = new CastExpression(meta);
+            castExpression.setExpression(generateMemoCall(meta, "unbox", NodeGenerator.forSimpleName(valueName, null)));
+            castExpression.setCastType(NodeGenerator.forType(returnType));
+            result = castExpression;
+        }
+
+        ReturnStatement returnStatement = new ReturnStatement(meta);
+        returnStatement.setExpression(result);
+        body.addStatement(returnStatement);
+
+        methodDeclaration.setBody(body);
+    }
+
+    /**
+     * Resolves the given type node of a memoized method.
+     * @param node the type node
+     * @return the type
+     */
+    private Type resolveMemoType(Node node) {
+        Type type = Type.fromTypeNode(node, classDefinition.getClassSymbol(), importTable);
+
+        //Make sure the type is valid
+        if(type == null)
+            new ResolvingError.UnresolvableType(node);
+
+        return type;
+    }
+
+    /**
+     * Generates a call to the method of the Memo class with the given name and arguments.
+     * @param meta the node meta
+     * @param methodName the method name
+     * @param arguments the arguments
+     * @return the method call
+     */
+    private Expression generateMemoCall(Node.Meta meta, String methodName, Expression... arguments) {
+        return generateMemberCall(meta, QualifiedName.fromClassName(ClassName.MEMO), methodName, arguments);
+    }
+
+    /**
+     * Generates a call to the method with the given name and arguments on the variable with the given name.
+     * @param meta the node meta
+     * @param variableName the variable name
+     * @param methodName the method name
+     * @param arguments the arguments
+     * @return the method call
+     */
+    private Expression generateMemberCall(Node.Meta meta, String variableName, String methodName, Expression... arguments) {
+        return generateMemberCall(meta, NodeGenerator.forSimpleName(variableName, null), methodName, arguments);
+    }
+
+    /**
+     * Generates a call to the method with the given name and arguments on the given member expression.
+     * @param meta the node meta
+     * @param member the member expression
+     * @param methodName the method name
+     * @param arguments the arguments
+     * @return the method call
+     */
+    private Expression generateMemberCall(Node.Meta meta, Expression member, String methodName, Expression... arguments) {
+        ArgumentList argumentList = new ArgumentList(meta);
+        for(Expression argument : arguments)
+            argumentList.addArgument(argument);
+
+        MethodCall methodCall = new MethodCall(meta);
+        methodCall.setMethodName(methodName);
+        methodCall.setArgumentList(argumentList);
+
+        return NodeGenerator.forMemberAccess(member, methodCall);
+    }
+
+    /**
+     * Returns the capitalized name of the given primitive type, used in the memoization unboxing method names.
+     * @param primitive the primitive type
+     * @return the primitive name
+     */
+    private String getPrimitiveName(Primitive primitive) {
+        return switch(primitive.getPrimitiveKind()) {
+            case BOOLEAN -> "Bool";
+            case BYTE -> "Byte";
+            case CHAR -> "Char";
+            case SHORT -> "Short";
+            case INTEGER -> "Int";
+            case LONG -> "Long";
+            case FLOAT -> "Float";
+            case DOUBLE -> "Double";
+        };
+    }
 }
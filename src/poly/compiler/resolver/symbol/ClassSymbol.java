@@ -7,6 +7,7 @@ import poly.compiler.output.ClassFile;
 import poly.compiler.output.content.AccessModifier;
 import poly.compiler.parser.tree.ClassDeclaration;
 import poly.compiler.parser.tree.Node;
+import poly.compiler.resolver.LibraryClasses;
 import poly.compiler.util.ClassName;
 
 import java.util.ArrayList;
@@ -24,13 +25,15 @@ public final class ClassSymbol extends Symbol {
     private final List<Symbol> symbols;
     private final Symbol ownerSymbol;
     private final PackageSymbol packageSymbol;
+    private final boolean isLight;
     private Symbol superclassSymbol;
     private List<Symbol> interfaceSymbols;
 
-    private ClassSymbol(AccessModifier accessModifier, Kind kind, String name, boolean isStatic, boolean isConstant,
+    private ClassSymbol(AccessModifier accessModifier, Kind kind, String name, boolean isStatic, boolean isConstant, boolean isLight,
                         ClassName className, ClassName superclassName, List<Node> interfaceNodes, Symbol ownerSymbol, PackageSymbol packageSymbol) {
         super(Symbol.Kind.CLASS, accessModifier, name, isStatic, isConstant);
         this.kind = kind;
+        this.isLight = isLight;
         this.className = className;
         this.ownerSymbol = ownerSymbol;
         this.packageSymbol = packageSymbol;
@@ -65,6 +68,7 @@ public final class ClassSymbol extends Symbol {
                 classDeclaration.getName(),
                 classDeclaration.isStatic(),
                 classDeclaration.isConstant() || classDeclaration.isEnum(),
+                classDeclaration.isLight(),
                 className,
                 superclassNode == null
                     ? classDeclaration.isException()
@@ -97,6 +101,7 @@ public final class ClassSymbol extends Symbol {
                 className.getLast(),
                 false,
                 classFile.isConstant(),
+                classFile.isLight(),
                 className,
                 superclassName == null
                         ? null
@@ -155,6 +160,28 @@ public final class ClassSymbol extends Symbol {
         return null;
     }
 
+    /**
+     * Finds the ordinal of the enum constant corresponding to the given constant name.
+     * The ordinal is the position of the constant in the enum declaration.
+     * @param name the enum constant name
+     * @return the enum constant ordinal (-1 if none was found)
+     */
+    public int findEnumOrdinal(String name) {
+        int ordinal = 0;
+
+        //Find enum constant in current class
+        for(Symbol symbol : symbols) {
+            if(symbol instanceof FieldSymbol fieldSymbol && fieldSymbol.isEnum()) {
+                if(name.equals(fieldSymbol.name))
+                    return ordinal;
+
+                ordinal++;
+            }
+        }
+
+        return -1;
+    }
+
     /**
      * Finds the method symbol corresponding to the given method name and parameter types.
      * @param name the method name
@@ -259,6 +286,73 @@ public final class ClassSymbol extends Symbol {
         return findConstructor(MethodSymbol.getEnumConstructorParameterTypes(types), sourceClass, node);
     }
 
+    /**
+     * Finds the single abstract method of the current class if it is a functional interface.
+     * The abstract method can be one from the current interface or from its super interfaces.
+     * @return the functional method symbol (null if the class is not a functional interface)
+     */
+    public MethodSymbol findFunctionalMethod() {
+        //Make sure the class is an interface
+        if(!isInterface())
+            return null;
+
+        List<MethodSymbol> methodSymbols = new ArrayList<>();
+
+        //Find abstract methods in interface
+        findAbstractMethods(methodSymbols, new ArrayList<>());
+
+        return methodSymbols.size() == 1 ? methodSymbols.getFirst() : null;
+    }
+
+    /**
+     * Finds the abstract methods of the current interface and its super interfaces.
+     * The abstract methods overridden in a subinterface and the public methods
+     * of the Object class are not abstract methods of a functional interface.
+     * @param methodSymbols the abstract method symbols
+     * @param declaredMethods the method symbols declared in the visited subinterfaces
+     */
+    private void findAbstractMethods(List<MethodSymbol> methodSymbols, List<MethodSymbol> declaredMethods) {
+        ClassSymbol objectSymbol = LibraryClasses.findClass(ClassName.OBJECT);
+        List<MethodSymbol> currentMethods = new ArrayList<>();
+
+        //Find abstract methods in current interface
+        for(Symbol symbol : symbols) {
+            if(symbol instanceof MethodSymbol methodSymbol && !methodSymbol.isStatic()
+                    && !declaredMethods.contains(methodSymbol)) {
+                currentMethods.add(methodSymbol);
+
+                //Make sure the method is not a public method of the Object class
+                if(methodSymbol.isEmpty() && !isObjectPublicMethod(objectSymbol, methodSymbol)
+                        && !methodSymbols.contains(methodSymbol))
+                    methodSymbols.add(methodSymbol);
+            }
+        }
+
+        //Find abstract methods in super interfaces
+        declaredMethods.addAll(currentMethods);
+        for(Symbol interfaceSymbol : interfaceSymbols)
+            ((ClassSymbol) interfaceSymbol).findAbstractMethods(methodSymbols, declaredMethods);
+
+        //Find abstract methods in inherited interface
+        if(superclassSymbol instanceof ClassSymbol superclass && superclass.isInterface())
+            superclass.findAbstractMethods(methodSymbols, declaredMethods);
+    }
+
+    /**
+     * Returns whether the given method symbol has the signature of a public method of the Object class.
+     * @param objectSymbol the Object class symbol
+     * @param methodSymbol the method symbol
+     * @return true if the method is a public method of the Object class
+     */
+    private static boolean isObjectPublicMethod(ClassSymbol objectSymbol, MethodSymbol methodSymbol) {
+        for(MethodSymbol objectMethod : objectSymbol.getMethods()) {
+            if(objectMethod.equals(methodSymbol) && objectMethod.getAccessModifier() == AccessModifier.PUBLIC)
+                return true;
+        }
+
+        return false;
+    }
+
     /**
      * Returns the class symbol from the given class name.
      * @param className the class name
@@ -348,6 +442,29 @@ public final class ClassSymbol extends Symbol {
         return false;
     }
 
+    /**
+     * Returns whether the current class and the given class symbol are nested in the same outermost class,
+     * and can therefore access the private members of each other.
+     * @param classSymbol the class symbol
+     * @return true if the classes are nestmates
+     */
+    public boolean isNestmateOf(ClassSymbol classSymbol) {
+        return getNestHost().equals(classSymbol.getNestHost());
+    }
+
+    /**
+     * Returns the outermost class symbol in which the current class is nested,
+     * or the current class itself if it is not nested.
+     * @return the nest host class symbol
+     */
+    private ClassSymbol getNestHost() {
+        ClassSymbol hostClassSymbol = this;
+        while(hostClassSymbol.getOwnerSymbol() instanceof ClassSymbol outerClassSymbol)
+            hostClassSymbol = outerClassSymbol;
+
+        return hostClassSymbol;
+    }
+
     /**
      * Returns whether the current class can be accessed from the given class symbol origin.
      * @param classSymbol the class symbol origin
@@ -356,7 +473,7 @@ public final class ClassSymbol extends Symbol {
     public boolean isAccessibleFrom(ClassSymbol classSymbol) {
         return switch(accessModifier) {
             case PUBLIC -> true;
-            case PRIVATE -> classSymbol.equals(this) || this.isInnerClassOf(classSymbol);
+            case PRIVATE -> this.isNestmateOf(classSymbol);
             case DEFAULT -> classSymbol.getPackageSymbol().equals(this.getPackageSymbol());
             case PROTECTED ->
                     classSymbol.getPackageSymbol().equals(this.getPackageSymbol())
@@ -364,6 +481,22 @@ public final class ClassSymbol extends Symbol {
         };
     }
 
+    /**
+     * Returns the field symbol containing whether the assertions are disabled.
+     * Unlike other fields, this field is only searched in the current class.
+     * @return the assertions field symbol (null if the class has no assert-statement)
+     */
+    public FieldSymbol findAssertionsField() {
+        for(Symbol symbol : symbols) {
+            if(symbol instanceof FieldSymbol fieldSymbol
+                    && fieldSymbol.name.equals(FieldSymbol.ASSERTIONS_DISABLED)) {
+                return fieldSymbol;
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Returns the list of field symbols of the class symbol.
      * @return the field symbols list
@@ -534,6 +667,14 @@ public final class ClassSymbol extends Symbol {
         return kind == Kind.INNER;
     }
 
+    /**
+     * Returns whether the class is a light exception.
+     * @return true if the class is light
+     */
+    public boolean isLight() {
+        return isLight;
+    }
+
     /**
      * Returns whether the given class symbol has the same qualified name as the current one.
      * @param object the class symbol
@@ -2,6 +2,7 @@ package poly.compiler.resolver.symbol;
 
 import poly.compiler.analyzer.table.ImportTable;
 import poly.compiler.analyzer.type.Object;
+import poly.compiler.analyzer.type.Primitive;
 import poly.compiler.analyzer.type.Type;
 import poly.compiler.error.ResolvingError;
 import poly.compiler.output.content.*;
@@ -18,6 +19,8 @@ import poly.compiler.util.ModifiedUTF8;
  * @author Vincent Philippe (@vincent64)
  */
 public final class FieldSymbol extends Symbol {
+    /** The name of the field containing whether the assertions are disabled. */
+    public static final String ASSERTIONS_DISABLED = "$assertionsDisabled";
     private final ClassSymbol classSymbol;
     private final Type type;
     private final boolean isEnum;
@@ -97,7 +100,7 @@ public final class FieldSymbol extends Symbol {
                 name,
                 field.isStatic(),
                 field.isConstant(),
-                false);
+                field.isEnum());
     }
 
     /**
@@ -113,6 +116,20 @@ public final class FieldSymbol extends Symbol {
                 false, true, false);
     }
 
+    /**
+     * Generates and returns the static field symbol containing whether the assertions
+     * are disabled for the given class symbol.
+     * @param classSymbol the class symbol
+     * @return the assertions field symbol
+     */
+    public static FieldSymbol generateAssertionsField(ClassSymbol classSymbol) {
+        return new FieldSymbol(classSymbol,
+                classSymbol.isInterface() ? AccessModifier.PUBLIC : AccessModifier.PRIVATE,
+                new Primitive(Primitive.Kind.BOOLEAN),
+                ASSERTIONS_DISABLED,
+                true, true, false);
+    }
+
     /**
      * Returns whether the current field can be accessed from the given class symbol origin.
      * @param classSymbol the class symbol origin
@@ -121,7 +138,7 @@ public final class FieldSymbol extends Symbol {
     public boolean isAccessibleFrom(ClassSymbol classSymbol) {
         return switch(accessModifier) {
             case PUBLIC -> true;
-            case PRIVATE -> classSymbol.equals(this.classSymbol) || this.classSymbol.isInnerClassOf(classSymbol);
+            case PRIVATE -> this.classSymbol.isNestmateOf(classSymbol);
             case DEFAULT -> classSymbol.getPackageSymbol().equals(this.classSymbol.getPackageSymbol());
             case PROTECTED ->
                     classSymbol.getPackageSymbol().equals(this.classSymbol.getPackageSymbol())
@@ -29,14 +29,29 @@ public final class MethodSymbol extends Symbol implements Comparable<MethodSymbo
     private final Type returnType;
     private final Type[] parameterTypes;
     private final boolean isEmpty;
+    private final Type asyncReturnType;
+    private final boolean isSynthetic;
 
     private MethodSymbol(ClassSymbol classSymbol, AccessModifier accessModifier, Type returnType, Type[] parameterTypes,
                          String name, boolean isStatic, boolean isConstant, boolean isEmpty) {
+        this(classSymbol, accessModifier, returnType, parameterTypes, name, isStatic, isConstant, isEmpty, null);
+    }
+
+    private MethodSymbol(ClassSymbol classSymbol, AccessModifier accessModifier, Type returnType, Type[] parameterTypes,
+                         String name, boolean isStatic, boolean isConstant, boolean isEmpty, Type asyncReturnType) {
+        this(classSymbol, accessModifier, returnType, parameterTypes, name, isStatic, isConstant, isEmpty, asyncReturnType, false);
+    }
+
+    private MethodSymbol(ClassSymbol classSymbol, AccessModifier accessModifier, Type returnType, Type[] parameterTypes,
+                         String name, boolean isStatic, boolean isConstant, boolean isEmpty, Type asyncReturnType,
+                         boolean isSynthetic) {
         super(Kind.METHOD, accessModifier, name, isStatic, isConstant);
         this.classSymbol = classSymbol;
         this.returnType = returnType;
         this.parameterTypes = parameterTypes;
         this.isEmpty = isEmpty;
+        this.asyncReturnType = asyncReturnType;
+        this.isSynthetic = isSynthetic;
     }
 
     /**
@@ -72,6 +87,13 @@ public final class MethodSymbol extends Symbol implements Comparable<MethodSymbo
         if(returnType == null)
             returnType = new Void();
 
+        //Return a future of the return type if asynchronous
+        Type asyncReturnType = null;
+        if(methodDeclaration.isAsync()) {
+            asyncReturnType = returnType;
+            returnType = new Object(LibraryClasses.findClass(ClassName.FUTURE));
+        }
+
         return new MethodSymbol(classSymbol,
                 methodDeclaration.getAccessModifier(),
                 returnType,
@@ -79,7 +101,8 @@ public final class MethodSymbol extends Symbol implements Comparable<MethodSymbo
                 methodDeclaration.getName(),
                 methodDeclaration.isStatic(),
                 methodDeclaration.isConstant(),
-                methodDeclaration.isEmpty());
+                methodDeclaration.isEmpty(),
+                asyncReturnType);
     }
 
     /**
@@ -182,7 +205,7 @@ public final class MethodSymbol extends Symbol implements Comparable<MethodSymbo
     public boolean isAccessibleFrom(ClassSymbol classSymbol) {
         return switch(accessModifier) {
             case PUBLIC -> true;
-            case PRIVATE -> classSymbol.equals(this.classSymbol) || this.classSymbol.isInnerClassOf(classSymbol);
+            case PRIVATE -> this.classSymbol.isNestmateOf(classSymbol);
             case DEFAULT -> classSymbol.getPackageSymbol().equals(this.classSymbol.getPackageSymbol());
             case PROTECTED ->
                     classSymbol.getPackageSymbol().equals(this.classSymbol.getPackageSymbol())
@@ -211,7 +234,7 @@ public final class MethodSymbol extends Symbol implements Comparable<MethodSymbo
      * @return the same method symbol but static
      */
     public MethodSymbol asStatic() {
-        return new MethodSymbol(classSymbol, accessModifier, returnType, parameterTypes, name, true, isConstant, isEmpty);
+        return new MethodSymbol(classSymbol, accessModifier, returnType, parameterTypes, name, true, isConstant, isEmpty, asyncReturnType, isSynthetic);
     }
 
     /**
@@ -219,7 +242,7 @@ public final class MethodSymbol extends Symbol implements Comparable<MethodSymbo
      * @return the same method symbol but constant
      */
     public MethodSymbol asConstant() {
-        return new MethodSymbol(classSymbol, accessModifier, returnType, parameterTypes, name, isStatic, true, isEmpty);
+        return new MethodSymbol(classSymbol, accessModifier, returnType, parameterTypes, name, isStatic, true, isEmpty, asyncReturnType, isSynthetic);
     }
 
     /**
@@ -227,7 +250,7 @@ public final class MethodSymbol extends Symbol implements Comparable<MethodSymbo
      * @return the same method symbol but public
      */
     public MethodSymbol asPublic() {
-        return new MethodSymbol(classSymbol, AccessModifier.PUBLIC, returnType, parameterTypes, name, isStatic, isConstant, isEmpty);
+        return new MethodSymbol(classSymbol, AccessModifier.PUBLIC, returnType, parameterTypes, name, isStatic, isConstant, isEmpty, asyncReturnType, isSynthetic);
     }
 
     /**
@@ -235,7 +258,16 @@ public final class MethodSymbol extends Symbol implements Comparable<MethodSymbo
      * @return the same method symbol but private
      */
     public MethodSymbol asPrivate() {
-        return new MethodSymbol(classSymbol, AccessModifier.PRIVATE, returnType, parameterTypes, name, isStatic, isConstant, isEmpty);
+        return new MethodSymbol(classSymbol, AccessModifier.PRIVATE, returnType, parameterTypes, name, isStatic, isConstant, isEmpty, asyncReturnType, isSynthetic);
+    }
+
+    /**
+     * Returns the same method symbol with the private access modifier set, as a synthetic method
+     * generated by the compiler which does not appear in the source code.
+     * @return the same method symbol but private and synthetic
+     */
+    public MethodSymbol asPrivateSynthetic() {
+        return new MethodSymbol(classSymbol, AccessModifier.PRIVATE, returnType, parameterTypes, name, isStatic, isConstant, isEmpty, asyncReturnType, true);
     }
 
     /**
@@ -243,7 +275,7 @@ public final class MethodSymbol extends Symbol implements Comparable<MethodSymbo
      * @return the same method but as actual enum constructor
      */
     public MethodSymbol asEnumConstructor() {
-        return new MethodSymbol(classSymbol, accessModifier, returnType, getEnumConstructorParameterTypes(parameterTypes), name, isStatic, isConstant, isEmpty);
+        return new MethodSymbol(classSymbol, accessModifier, returnType, getEnumConstructorParameterTypes(parameterTypes), name, isStatic, isConstant, isEmpty, asyncReturnType, isSynthetic);
     }
 
     /**
@@ -270,6 +302,15 @@ public final class MethodSymbol extends Symbol implements Comparable<MethodSymbo
         return returnType;
     }
 
+    /**
+     * Returns the return type of the asynchronous method, which is the type of the awaited result,
+     * or null if the method is not asynchronous.
+     * @return the asynchronous return type
+     */
+    public Type getAsyncReturnType() {
+        return asyncReturnType;
+    }
+
     /**
      * Returns the method parameter types.
      * @return the parameter types
@@ -286,6 +327,14 @@ public final class MethodSymbol extends Symbol implements Comparable<MethodSymbo
         return isEmpty;
     }
 
+    /**
+     * Returns whether the method is synthetic, i.e. generated by the compiler.
+     * @return true if the method is synthetic
+     */
+    public boolean isSynthetic() {
+        return isSynthetic;
+    }
+
     /**
      * Returns whether the given types array contains the same types in the same order.
      * @param types1 the first types array
@@ -7,6 +7,8 @@ import java.util.Set;
 
 /**
  * The Keyword class. This class contains every reserved keywords of the Poly language.
+ * It also contains the contextual keywords, which are only keywords at specific positions
+ * and can otherwise be used as identifiers, such as the names of Java methods.
  * It also contains utility methods to check if a given string is a keyword.
  * This class is mainly used during the tokenization and parsing phases.
  * @author Vincent Philippe (@vincent64)
@@ -31,6 +33,7 @@ public class Keyword {
     public static final String EXPRESSION_OUTER = "outer";
     public static final String EXPRESSION_SUM = "sum";
     public static final String EXPRESSION_PROD = "prod";
+    public static final String EXPRESSION_PARALLEL = "parallel"; //Contextual
 
     //Statement keywords
     public static final String STATEMENT_IF = "if";
@@ -58,6 +61,7 @@ public class Keyword {
     public static final String CLASS_INNER = "inner";
     public static final String CLASS_EXCEPTION = "exception";
     public static final String CLASS_DATUM = "datum";
+    public static final String CLASS_LIGHT = "light"; //Contextual
 
     //Method keywords
     public static final String METHOD = "fn";
@@ -66,6 +70,7 @@ public class Keyword {
     public static final String METHOD_OPERATOR = "op";
     public static final String METHOD_EXTERNAL = "ext";
     public static final String METHOD_NULLIFIER = "nullifier";
+    public static final String METHOD_MEMO = "memo"; //Contextual
 
     //Variable keywords
     public static final String VAR_CONST = "const";
@@ -76,7 +81,7 @@ public class Keyword {
     public static final String IMPORT = "import";
     public static final String DEFINE = "define";
 
-    //Concurrency keywords (reserved for later use)
+    //Concurrency keywords
     public static final String CONCURRENCY_ASYNC = "async";
     public static final String CONCURRENCY_AWAIT = "await";
     public static final String CONCURRENCY_THREAD = "thread";
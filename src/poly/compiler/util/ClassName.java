@@ -25,8 +25,40 @@ public final class ClassName {
     public static final ClassName THROWABLE = ClassName.fromStringQualifiedName("java/lang/Throwable");
     /** The RuntimeException class' class name. */
     public static final ClassName RUNTIME_EXCEPTION = ClassName.fromStringQualifiedName("java/lang/RuntimeException");
+    /** The Class class' class name. */
+    public static final ClassName CLASS = ClassName.fromStringQualifiedName("java/lang/Class");
     /** The Enum class' class name. */
     public static final ClassName ENUM = ClassName.fromStringQualifiedName("java/lang/Enum");
+    /** The Objects class' class name. */
+    public static final ClassName OBJECTS = ClassName.fromStringQualifiedName("java/util/Objects");
+    /** The Iterable interface's class name. */
+    public static final ClassName ITERABLE = ClassName.fromStringQualifiedName("java/lang/Iterable");
+    /** The ArrayList class' class name. */
+    public static final ClassName ARRAY_LIST = ClassName.fromStringQualifiedName("poly/collection/ArrayList");
+    /** The Parallel class' class name. */
+    public static final ClassName PARALLEL = ClassName.fromStringQualifiedName("poly/util/Parallel");
+    /** The Async class' class name. */
+    public static final ClassName ASYNC = ClassName.fromStringQualifiedName("poly/util/Async");
+    /** The Memo class' class name. */
+    public static final ClassName MEMO = ClassName.fromStringQualifiedName("poly/util/Memo");
+    /** The Map interface's class name. */
+    public static final ClassName MAP = ClassName.fromStringQualifiedName("java/util/Map");
+    /** The Future interface's class name. */
+    public static final ClassName FUTURE = ClassName.fromStringQualifiedName("java/util/concurrent/Future");
+    /** The Callable interface's class name. */
+    public static final ClassName CALLABLE = ClassName.fromStringQualifiedName("java/util/concurrent/Callable");
+    /** The Runnable interface's class name. */
+    public static final ClassName RUNNABLE = ClassName.fromStringQualifiedName("java/lang/Runnable");
+    /** The IntUnaryOperator interface's class name. */
+    public static final ClassName INT_UNARY_OPERATOR = ClassName.fromStringQualifiedName("java/util/function/IntUnaryOperator");
+    /** The IntToLongFunction interface's class name. */
+    public static final ClassName INT_TO_LONG_FUNCTION = ClassName.fromStringQualifiedName("java/util/function/IntToLongFunction");
+    /** The IntToFloatFunction interface's class name. */
+    public static final ClassName INT_TO_FLOAT_FUNCTION = ClassName.fromStringQualifiedName("poly/util/IntToFloatFunction");
+    /** The IntToDoubleFunction interface's class name. */
+    public static final ClassName INT_TO_DOUBLE_FUNCTION = ClassName.fromStringQualifiedName("java/util/function/IntToDoubleFunction");
+    /** The IntConsumer interface's class name. */
+    public static final ClassName INT_CONSUMER = ClassName.fromStringQualifiedName("java/util/function/IntConsumer");
 
     private static final String PACKAGE_SEPARATOR = "/";
     private static final String CLASS_SEPARATOR = "$";
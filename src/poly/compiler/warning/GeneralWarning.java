@@ -17,4 +17,12 @@ public class GeneralWarning extends Warning {
             super(MESSAGE.formatted(className));
         }
     }
+
+    public static class UnreadableFile extends GeneralWarning {
+        private static final String MESSAGE = "Could not visit the file '%s'";
+
+        public UnreadableFile(String fileName) {
+            super(MESSAGE.formatted(fileName));
+        }
+    }
 }
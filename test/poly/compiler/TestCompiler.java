@@ -0,0 +1,55 @@
+package poly.compiler;
+
+import poly.compiler.file.MemoryClassLoader;
+import poly.compiler.file.SourceCode;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public final class TestCompiler {
+    private static final String PACKAGE_NAME = "test";
+    private static final String CLASS_NAME = "Main";
+
+    private TestCompiler() { }
+
+    public static Class<?> compile(String code, SourceCode... otherSourceCodes) {
+        List<SourceCode> sourceCodes = new ArrayList<>(List.of(otherSourceCodes));
+        sourceCodes.add(new SourceCode(CLASS_NAME, PACKAGE_NAME, code));
+
+        Map<String, byte[]> classes = Compiler.compileInMemory(sourceCodes);
+        MemoryClassLoader classLoader = new MemoryClassLoader(classes, TestCompiler.class.getClassLoader());
+
+        try {
+            return Class.forName(PACKAGE_NAME + "." + CLASS_NAME, true, classLoader);
+        } catch(ClassNotFoundException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    public static Class<?> compileOptimized(String code, SourceCode... otherSourceCodes) {
+        boolean optimizations = Parameters.optimizations();
+        Parameters.setOptimizations(true);
+
+        try {
+            return compile(code, otherSourceCodes);
+        } finally {
+            Parameters.setOptimizations(optimizations);
+        }
+    }
+
+    public static Object call(Class<?> clazz, String methodName, Object... arguments) {
+        for(Method method : clazz.getDeclaredMethods()) {
+            if(method.getName().equals(methodName) && method.getParameterCount() == arguments.length) {
+                try {
+                    return method.invoke(null, arguments);
+                } catch(ReflectiveOperationException e) {
+                    throw new AssertionError(e);
+                }
+            }
+        }
+
+        throw new AssertionError("Missing method " + methodName);
+    }
+}
@@ -0,0 +1,48 @@
+package poly.compiler.analyzer;
+
+import org.junit.jupiter.api.Test;
+import poly.compiler.TestCompiler;
+import poly.compiler.file.SourceCode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncMethodTest {
+    private static final Class<?> MAIN = TestCompiler.compile("""
+            class+ Main {
+                fn+ # async int countdown(int n, int step) {
+                    int count = 0;
+                    while(n > 0) {
+                        n = n - step;
+                        count++;
+                    }
+                    return count;
+                }
+
+                fn+ # async String greet(String name) {
+                    name = "Hello " + name;
+                    return name;
+                }
+
+                fn+ # int awaitCountdown(int n) = await countdown(n, 3);
+
+                fn+ # String awaitGreet(String name) = await greet(name);
+            }""", readAsyncSource());
+
+    @Test
+    void testParameterAssignment() {
+        assertEquals(4, TestCompiler.call(MAIN, "awaitCountdown", 10));
+        assertEquals("Hello Poly", TestCompiler.call(MAIN, "awaitGreet", "Poly"));
+    }
+
+    private static SourceCode readAsyncSource() {
+        try {
+            return new SourceCode("Async", "poly.util", Files.readString(Path.of("src/language/poly/util/Async.poly")));
+        } catch(IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
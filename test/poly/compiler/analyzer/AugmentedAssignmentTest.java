@@ -0,0 +1,59 @@
+package poly.compiler.analyzer;
+
+import org.junit.jupiter.api.Test;
+import poly.compiler.TestCompiler;
+import poly.compiler.file.SourceCode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AugmentedAssignmentTest {
+    private static final Class<?> MAIN = TestCompiler.compile("""
+            import poly.math.IntVector;
+
+            class+ Main {
+                fn+ # String concatenate(String text) {
+                    text += "!";
+                    return text;
+                }
+
+                fn+ # bool isVectorUnchanged() {
+                    IntVector vector = new IntVector([1, 2, 3]);
+                    IntVector alias = vector;
+                    vector += new IntVector([1, 1, 1]);
+                    vector *= 2;
+                    return alias.get(0) == 1 && vector.get(0) == 4 && vector !== alias;
+                }
+            }""",
+            readSource("Math", "poly.math"),
+            readSource("Vector", "poly.math"),
+            readSource("IntVector", "poly.math"),
+            readSource("LongVector", "poly.math"),
+            readSource("FloatVector", "poly.math"),
+            readSource("DoubleVector", "poly.math"),
+            readSource("Matrix", "poly.math"),
+            readSource("IntMatrix", "poly.math"),
+            readSource("LongMatrix", "poly.math"),
+            readSource("FloatMatrix", "poly.math"),
+            readSource("DoubleMatrix", "poly.math"),
+            readSource("Equatable", "poly.util"),
+            readSource("Array", "poly.util"));
+
+    @Test
+    void testAugmentedAssignmentFallback() {
+        assertEquals("Poly!", TestCompiler.call(MAIN, "concatenate", "Poly"));
+        assertEquals(true, TestCompiler.call(MAIN, "isVectorUnchanged"));
+    }
+
+    private static SourceCode readSource(String className, String packageName) {
+        try {
+            Path path = Path.of("src/language", packageName.replace('.', '/'), className + ".poly");
+            return new SourceCode(className, packageName, Files.readString(path));
+        } catch(IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package poly.compiler.analyzer;
+
+import org.junit.jupiter.api.Test;
+import poly.compiler.TestCompiler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EliminatorTest {
+    private static final Class<?> MAIN = TestCompiler.compileOptimized("""
+            class+ Main {
+                - # int counter;
+
+                fn+ # int repeated(int a, int b) {
+                    int x = (a * b + 1) * 2;
+                    int y = (a * b + 1) * 3;
+                    return x + y;
+                }
+
+                fn+ # int variableAssigned(int a, int b) {
+                    int x = a * b;
+                    a = a + 1;
+                    int y = a * b;
+                    return x + y;
+                }
+
+                fn+ # int fieldAssigned(int a) {
+                    counter = a;
+                    int x = counter * 2;
+                    counter = counter + 1;
+                    int y = counter * 2;
+                    return x + y;
+                }
+
+                fn+ # int next() {
+                    counter++;
+                    return counter;
+                }
+
+                fn+ # int impure() {
+                    counter = 0;
+                    return next() * 10 + next();
+                }
+
+                fn+ # int branches(int a, int b, bool c) {
+                    int x = a * b;
+                    if(c) a = 0;
+                    return x + a * b;
+                }
+            }""");
+
+    @Test
+    void testRepeatedExpression() {
+        assertEquals(35, TestCompiler.call(MAIN, "repeated", 2, 3));
+        assertEquals(-5, TestCompiler.call(MAIN, "repeated", -2, 1));
+    }
+
+    @Test
+    void testAssignedVariable() {
+        assertEquals(2 * 3 + 3 * 3, TestCompiler.call(MAIN, "variableAssigned", 2, 3));
+    }
+
+    @Test
+    void testAssignedField() {
+        assertEquals(5 * 2 + 6 * 2, TestCompiler.call(MAIN, "fieldAssigned", 5));
+    }
+
+    @Test
+    void testImpureCalls() {
+        assertEquals(12, TestCompiler.call(MAIN, "impure"));
+    }
+
+    @Test
+    void testBranches() {
+        assertEquals(12, TestCompiler.call(MAIN, "branches", 2, 3, false));
+        assertEquals(6, TestCompiler.call(MAIN, "branches", 2, 3, true));
+    }
+}
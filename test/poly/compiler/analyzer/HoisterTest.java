@@ -0,0 +1,86 @@
+package poly.compiler.analyzer;
+
+import org.junit.jupiter.api.Test;
+import poly.compiler.TestCompiler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HoisterTest {
+    private static final Class<?> MAIN = TestCompiler.compileOptimized("""
+            class+ Main {
+                fn+ # int invariant(int[] values, int a, int b) {
+                    int total = 0;
+                    for(int i = 0; i < values.size; i++)
+                        total += values[i] * (a * b);
+                    return total;
+                }
+
+                fn+ # int assigned(int a) {
+                    int total = 0;
+                    for(int i = 0; i < 4; i++) {
+                        total += a * 2;
+                        a++;
+                    }
+                    return total;
+                }
+
+                fn+ # int nested(int n, int a) {
+                    int total = 0;
+                    for(int i = 0; i < n; i++) {
+                        for(int j = 0; j < n; j++)
+                            total += a * a + i;
+                    }
+                    return total;
+                }
+
+                fn+ # int throwing(int n, int d) {
+                    int total = 0;
+                    for(int i = 0; i < n; i++)
+                        total += 10 / d;
+                    return total;
+                }
+
+                fn+ # int emptyArray(int n, int[] values) {
+                    int total = 0;
+                    for(int i = 0; i < n; i++)
+                        total += values.size;
+                    return total;
+                }
+
+                fn+ # int summation(int n, int a, int b) = sum(int i = 0; i < n; i++) a * b + i;
+            }""");
+
+    @Test
+    void testInvariantExpression() {
+        assertEquals(6 * (1 + 2 + 3), TestCompiler.call(MAIN, "invariant", new int[] {1, 2, 3}, 2, 3));
+        assertEquals(0, TestCompiler.call(MAIN, "invariant", new int[0], 2, 3));
+    }
+
+    @Test
+    void testAssignedVariable() {
+        assertEquals(2 + 4 + 6 + 8, TestCompiler.call(MAIN, "assigned", 1));
+    }
+
+    @Test
+    void testNestedLoops() {
+        assertEquals(3 * (3 * 4 + 0) + 3 * (1 + 2), TestCompiler.call(MAIN, "nested", 3, 2));
+    }
+
+    @Test
+    void testThrowingExpression() {
+        assertEquals(0, TestCompiler.call(MAIN, "throwing", 0, 0));
+        assertEquals(15, TestCompiler.call(MAIN, "throwing", 3, 2));
+    }
+
+    @Test
+    void testNotExecutedLoop() {
+        assertEquals(0, TestCompiler.call(MAIN, "emptyArray", 0, null));
+        assertEquals(4, TestCompiler.call(MAIN, "emptyArray", 2, new int[2]));
+    }
+
+    @Test
+    void testSummation() {
+        assertEquals(4 * 6 + 6, TestCompiler.call(MAIN, "summation", 4, 2, 3));
+        assertEquals(0, TestCompiler.call(MAIN, "summation", 0, 2, 3));
+    }
+}
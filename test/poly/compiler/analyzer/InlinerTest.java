@@ -0,0 +1,103 @@
+package poly.compiler.analyzer;
+
+import org.junit.jupiter.api.Test;
+import poly.compiler.TestCompiler;
+import poly.compiler.file.SourceCode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InlinerTest {
+    private static final Class<?> MAIN = TestCompiler.compileOptimized("""
+            import p1.Base;
+            import p2.Derived;
+
+            class+ Main(Base) {
+                + # int loads;
+
+                fn+ constructor() { }
+
+                fn+ # int square(int x) = x * x;
+                fn+ # int squares(int a) = square(a) + square(a + 1);
+
+                fn+ # int markLoaded() {
+                    loads++;
+                    return 1;
+                }
+
+                fn+ # int loaded() = Loaded.twice(4);
+                fn+ # int loadCount() = loads;
+                fn+ # int constant() = Constant.twice(5);
+
+                fn+ # int pointX(Point point) = point.getX();
+
+                fn+ # int protectedValue(Derived derived) = derived.getValue();
+            }
+
+            class Loaded {
+                + # int LOADED = Main.markLoaded();
+
+                fn+ # int twice(int x) = x * 2;
+            }
+
+            class Constant {
+                + # const int FACTOR = 2;
+
+                fn+ # int twice(int x) = x * FACTOR;
+            }
+
+            class+ const Point {
+                - int x;
+
+                fn+ constructor(int x) {
+                    this.x = x;
+                }
+
+                fn+ int getX() = x;
+            }""",
+            new SourceCode("Base", "p1", """
+            class+ Base {
+                ~ int value;
+
+                fn+ constructor() {
+                    value = 5;
+                }
+            }"""),
+            new SourceCode("Derived", "p2", """
+            import p1.Base;
+
+            class+ const Derived(Base) {
+                fn+ constructor() { }
+
+                fn+ int getValue() = value;
+            }"""));
+
+    @Test
+    void testStaticMethod() {
+        assertEquals(9 + 16, TestCompiler.call(MAIN, "squares", 3));
+        assertEquals(1, TestCompiler.call(MAIN, "squares", -1));
+    }
+
+    @Test
+    void testClassInitialization() {
+        assertEquals(8, TestCompiler.call(MAIN, "loaded"));
+        assertEquals(1, TestCompiler.call(MAIN, "loadCount"));
+        assertEquals(10, TestCompiler.call(MAIN, "constant"));
+    }
+
+    @Test
+    void testNullReceiver() throws ReflectiveOperationException {
+        Class<?> point = Class.forName("test.Point", true, MAIN.getClassLoader());
+        Object instance = point.getConstructor(int.class).newInstance(7);
+
+        assertEquals(7, TestCompiler.call(MAIN, "pointX", instance));
+        AssertionError error = assertThrows(AssertionError.class, () -> TestCompiler.call(MAIN, "pointX", (Object) null));
+        assertInstanceOf(NullPointerException.class, error.getCause().getCause());
+    }
+
+    @Test
+    void testProtectedAccess() throws ReflectiveOperationException {
+        Class<?> derived = Class.forName("p2.Derived", true, MAIN.getClassLoader());
+
+        assertEquals(5, TestCompiler.call(MAIN, "protectedValue", derived.getConstructor().newInstance()));
+    }
+}
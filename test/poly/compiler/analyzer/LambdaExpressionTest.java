@@ -0,0 +1,107 @@
+package poly.compiler.analyzer;
+
+import org.junit.jupiter.api.Test;
+import poly.compiler.TestCompiler;
+import poly.compiler.file.SourceCode;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LambdaExpressionTest {
+    private static final Class<?> MAIN = TestCompiler.compile("""
+            import java.util.Comparator;
+
+            class+ Main {
+                fn+ # int compare(String a, String b) {
+                    Comparator comparator = fn(x, y) (x:String).compareTo(y:String);
+                    return comparator.compare(a, b);
+                }
+
+                fn+ # int twice(int x) {
+                    Doubler doubler = fn(y) y * 2;
+                    return doubler.twice(x);
+                }
+            }
+
+            interface Operator {
+                fn int apply(int x);
+                fn int twice(int x);
+            }
+
+            interface Doubler(Operator) {
+                fn int twice(int x) = apply(apply(x));
+            }""");
+    private static final Class<?> GENERATED = TestCompiler.compile("""
+            import java.util.concurrent.atomic.AtomicInteger;
+
+            class+ Main {
+                fn+ # async int square(int x) = x * x;
+
+                fn+ # long total(int n) = sum parallel(int i = 0; i < n; i++) i:long;
+
+                fn+ # int count(int[] values) {
+                    AtomicInteger counter = new(0);
+                    foreach parallel(int value : values)
+                        counter.addAndGet(value);
+                    return counter.get();
+                }
+
+                fn+ # int threaded(int x) {
+                    thread {
+                        int a = await square(x);
+                        int b = x + 1;
+                    }
+                    return a + b;
+                }
+            }""", readSource("Async"), readSource("Parallel"), readSource("IntToFloatFunction"));
+
+    @Test
+    void testObjectMethodsInFunctionalInterface() {
+        assertTrue((Integer) TestCompiler.call(MAIN, "compare", "a", "b") < 0);
+    }
+
+    @Test
+    void testOverriddenMethodInFunctionalInterface() {
+        assertEquals(12, TestCompiler.call(MAIN, "twice", 3));
+    }
+
+    @Test
+    void testSyntheticLambdaMethod() {
+        assertSyntheticLambdaMethods(MAIN);
+    }
+
+    @Test
+    void testSyntheticGeneratedLambdaMethod() {
+        assertEquals(45L, TestCompiler.call(GENERATED, "total", 10));
+        assertEquals(6, TestCompiler.call(GENERATED, "count", (Object) new int[] {1, 2, 3}));
+        assertEquals(13, TestCompiler.call(GENERATED, "threaded", 3));
+        assertSyntheticLambdaMethods(GENERATED);
+    }
+
+    private static void assertSyntheticLambdaMethods(Class<?> main) {
+        int count = 0;
+
+        for(Method method : main.getDeclaredMethods()) {
+            if(method.getName().startsWith("lambda$")) {
+                assertTrue(method.isSynthetic(), method.getName());
+                assertTrue(Modifier.isPrivate(method.getModifiers()), method.getName());
+                count++;
+            }
+        }
+
+        assertTrue(count > 0);
+    }
+
+    private static SourceCode readSource(String className) {
+        try {
+            return new SourceCode(className, "poly.util", Files.readString(Path.of("src/language/poly/util/" + className + ".poly")));
+        } catch(IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
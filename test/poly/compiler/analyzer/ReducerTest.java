@@ -0,0 +1,69 @@
+package poly.compiler.analyzer;
+
+import org.junit.jupiter.api.Test;
+import poly.compiler.TestCompiler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReducerTest {
+    private static final Class<?> MAIN = TestCompiler.compileOptimized("""
+            class+ Main {
+                fn+ # int multiply(int x) = x * 8;
+                fn+ # int multiplyLeft(int x) = 16 * x;
+                fn+ # int divide(int x) = x / 8;
+                fn+ # int modulo(int x) = x % 8;
+                fn+ # int divideOne(int x) = x / 1;
+                fn+ # int divideNegative(int x) = x / -4;
+                fn+ # int moduloNegative(int x) = x % -4;
+                fn+ # int divideSum(int x, int y) = (x + y) / 4;
+                fn+ # int moduloSum(int x, int y) = (x + y) % 4;
+                fn+ # long divideLong(long x) = x / 16L;
+                fn+ # long moduloLong(long x) = x % 16L;
+            }""");
+    private static final int[] VALUES = {
+            Integer.MIN_VALUE, -17, -16, -9, -8, -7, -1, 0, 1, 7, 8, 9, 16, 17, Integer.MAX_VALUE
+    };
+
+    @Test
+    void testMultiplication() {
+        for(int x : VALUES) {
+            assertEquals(x * 8, TestCompiler.call(MAIN, "multiply", x));
+            assertEquals(16 * x, TestCompiler.call(MAIN, "multiplyLeft", x));
+        }
+    }
+
+    @Test
+    void testDivision() {
+        for(int x : VALUES) {
+            assertEquals(x / 8, TestCompiler.call(MAIN, "divide", x));
+            assertEquals(x, TestCompiler.call(MAIN, "divideOne", x));
+            assertEquals(x / -4, TestCompiler.call(MAIN, "divideNegative", x));
+        }
+    }
+
+    @Test
+    void testModulo() {
+        for(int x : VALUES) {
+            assertEquals(x % 8, TestCompiler.call(MAIN, "modulo", x));
+            assertEquals(x % -4, TestCompiler.call(MAIN, "moduloNegative", x));
+        }
+    }
+
+    @Test
+    void testExpressionDividend() {
+        for(int x : VALUES) {
+            assertEquals((x + 3) / 4, TestCompiler.call(MAIN, "divideSum", x, 3));
+            assertEquals((x - 3) % 4, TestCompiler.call(MAIN, "moduloSum", x, -3));
+        }
+    }
+
+    @Test
+    void testLongOperands() {
+        long[] values = { Long.MIN_VALUE, -33L, -32L, -1L, 0L, 1L, 31L, 32L, Long.MAX_VALUE };
+
+        for(long x : values) {
+            assertEquals(x / 16, TestCompiler.call(MAIN, "divideLong", x));
+            assertEquals(x % 16, TestCompiler.call(MAIN, "moduloLong", x));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package poly.compiler.file;
+
+import org.junit.jupiter.api.Test;
+import poly.compiler.Parameters;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JarBuilderTest {
+    private static final Map<String, byte[]> CLASSES = Map.of(
+            "test/Main", new byte[] {(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, 1, 2, 3},
+            "test/util/Helper", new byte[4096],
+            "a/First", new byte[0]);
+
+    @Test
+    void testEntries() throws IOException {
+        Path file = build();
+
+        try(JarFile jarFile = new JarFile(file.toFile())) {
+            List<String> names = new ArrayList<>();
+            jarFile.stream().map(JarEntry::getName).forEach(names::add);
+
+            assertEquals(List.of("META-INF/MANIFEST.MF", "a/First.class", "test/Main.class", "test/util/Helper.class"), names);
+            assertNotNull(jarFile.getManifest());
+
+            for(Map.Entry<String, byte[]> entry : CLASSES.entrySet()) {
+                JarEntry jarEntry = jarFile.getJarEntry(entry.getKey() + ".class");
+                assertArrayEquals(entry.getValue(), jarFile.getInputStream(jarEntry).readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    void testReproducibleOutput() throws IOException {
+        byte[] first = Files.readAllBytes(build());
+        byte[] second = Files.readAllBytes(build());
+
+        assertArrayEquals(first, second);
+    }
+
+    private static Path build() throws IOException {
+        Path directory = Files.createTempDirectory("jar");
+        Parameters.initialize(new String[] {directory.toString(), "-jar", "-reproducible"});
+        JarBuilder.build(CLASSES);
+
+        return Path.of(Parameters.getOutputPath()).resolve("project" + JarBuilder.JAR_EXTENSION);
+    }
+}
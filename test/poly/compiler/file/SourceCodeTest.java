@@ -0,0 +1,27 @@
+package poly.compiler.file;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SourceCodeTest {
+
+    @Test
+    void testLineTerminators() {
+        SourceCode sourceCode = new SourceCode("Main", "test", "a\r\nb\rc\n\r\nd");
+
+        assertArrayEquals("a\nb\nc\n\nd\n".toCharArray(), sourceCode.getContent());
+    }
+
+    @Test
+    void testFinalLineFeed() {
+        assertArrayEquals("a\n".toCharArray(), new SourceCode("Main", "test", "a\n").getContent());
+        assertArrayEquals(new char[0], new SourceCode("Main", "test", "").getContent());
+    }
+
+    @Test
+    void testPackageName() {
+        assertEquals("poly/util/Main.poly", new SourceCode("Main", "poly.util", "").getFullFileName());
+        assertEquals("Main.poly", new SourceCode("Main", "", "").getFullFileName());
+    }
+}
@@ -0,0 +1,179 @@
+package poly.compiler.generator;
+
+import org.junit.jupiter.api.Test;
+import poly.compiler.TestCompiler;
+import poly.compiler.file.SourceCode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ForeachStatementTest {
+    private static final Class<?> MAIN = TestCompiler.compile("""
+            import java.lang.Iterable;
+            import java.lang.Integer;
+            import java.util.Iterator;
+            import java.util.List;
+
+            class+ Main {
+                fn+ # int sumCounter(int count) {
+                    int total = 0;
+                    foreach(Object o : new Bag(count)) {
+                        total += (o:Integer).intValue();
+                    }
+                    return total;
+                }
+
+                fn+ # int sumList(List list) {
+                    int total = 0;
+                    foreach(Object o : list) {
+                        total += (o:Integer).intValue();
+                    }
+                    return total;
+                }
+            }
+
+            class+ Bag : Iterable {
+                int count;
+
+                fn+ constructor(int count) {
+                    this.count = count;
+                }
+
+                fn+ Counter iterator() = new Counter(count);
+            }
+
+            class+ Counter : Iterator {
+                int count;
+                int i;
+
+                fn+ constructor(int count) {
+                    this.count = count;
+                }
+
+                fn+ bool hasNext() = i < count;
+
+                fn+ Object next() {
+                    i++;
+                    return Integer.valueOf(i);
+                }
+            }""");
+
+    private static final Class<?> COLLECTIONS = TestCompiler.compile("""
+            import java.util.Iterator;
+            import poly.collection.ArrayList;
+            import poly.collection.ArrayQueue;
+            import poly.collection.ArrayStack;
+            import poly.collection.LinkedList;
+            import poly.collection.LinkedQueue;
+            import poly.collection.LinkedStack;
+
+            class+ Main {
+                fn+ # int sumLinkedList() {
+                    LinkedList list = new LinkedList();
+                    list.add("a");
+                    list.add("bc");
+                    int total = 0;
+                    foreach(Object o : list) {
+                        total += (o:String).length();
+                    }
+                    return total;
+                }
+
+                fn+ # int exhaustArrayList() {
+                    ArrayList list = new ArrayList();
+                    list.add("a");
+                    return exhaust(list.iterator());
+                }
+
+                fn+ # int exhaustLinkedList() {
+                    LinkedList list = new LinkedList();
+                    list.add("a");
+                    return exhaust(list.iterator());
+                }
+
+                fn+ # int exhaustArrayQueue() {
+                    ArrayQueue queue = new ArrayQueue();
+                    queue.push("a");
+                    return exhaust(queue.iterator());
+                }
+
+                fn+ # int exhaustLinkedQueue() {
+                    LinkedQueue queue = new LinkedQueue();
+                    queue.push("a");
+                    return exhaust(queue.iterator());
+                }
+
+                fn+ # int exhaustArrayStack() {
+                    ArrayStack stack = new ArrayStack();
+                    stack.push("a");
+                    return exhaust(stack.iterator());
+                }
+
+                fn+ # int exhaustLinkedStack() {
+                    LinkedStack stack = new LinkedStack();
+                    stack.push("a");
+                    return exhaust(stack.iterator());
+                }
+
+                fn- # int exhaust(Iterator iterator) {
+                    int count = 0;
+                    while(iterator.hasNext()) {
+                        iterator.next();
+                        count++;
+                    }
+                    iterator.next();
+                    return count;
+                }
+            }""",
+            readSource("Collection", "poly.collection"),
+            readSource("List", "poly.collection"),
+            readSource("Deque", "poly.collection"),
+            readSource("Queue", "poly.collection"),
+            readSource("Stack", "poly.collection"),
+            readSource("ArrayList", "poly.collection"),
+            readSource("ArrayQueue", "poly.collection"),
+            readSource("ArrayStack", "poly.collection"),
+            readSource("LinkedList", "poly.collection"),
+            readSource("LinkedQueue", "poly.collection"),
+            readSource("LinkedStack", "poly.collection"),
+            readSource("Array", "poly.util"),
+            readSource("Equatable", "poly.util"));
+
+    @Test
+    void testClassIterator() {
+        assertEquals(10, TestCompiler.call(MAIN, "sumCounter", 4));
+        assertEquals(0, TestCompiler.call(MAIN, "sumCounter", 0));
+    }
+
+    @Test
+    void testInterfaceIterator() {
+        assertEquals(6, TestCompiler.call(MAIN, "sumList", List.of(1, 2, 3)));
+    }
+
+    @Test
+    void testCollectionIterator() {
+        assertEquals(3, TestCompiler.call(COLLECTIONS, "sumLinkedList"));
+    }
+
+    @Test
+    void testExhaustedCollectionIterator() {
+        for(String collection : List.of("ArrayList", "LinkedList", "ArrayQueue", "LinkedQueue", "ArrayStack", "LinkedStack")) {
+            AssertionError error = assertThrows(AssertionError.class, () -> TestCompiler.call(COLLECTIONS, "exhaust" + collection));
+            assertInstanceOf(NoSuchElementException.class, error.getCause().getCause(), collection);
+        }
+    }
+
+    private static SourceCode readSource(String className, String packageName) {
+        try {
+            Path path = Path.of("src/language", packageName.replace('.', '/'), className + ".poly");
+            return new SourceCode(className, packageName, Files.readString(path));
+        } catch(IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package poly.compiler.generator;
+
+import org.junit.jupiter.api.Test;
+import poly.compiler.TestCompiler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StringConcatenationTest {
+    private static final Class<?> MAIN = TestCompiler.compile("""
+            class+ Main {
+                fn+ # String concat(String s, int i, long l, double d, char c) = s + i + l + d + c;
+                fn+ # String equality(int x) = "eq=" + (x == 2);
+                fn+ # String negation(bool b) = "not=" + !b;
+                fn+ # String logical(bool b, int x) = "and=" + (b && x > 0) + " or=" + (x < 0 || !b);
+                fn+ # String comparison(double a, double b) = "" + (a == b) + (a < b);
+                fn+ # String boolean(bool b) = "b=" + b;
+                fn+ # String object(Object o) = "o=" + o;
+            }""");
+
+    @Test
+    void testPrimitiveOperands() {
+        assertEquals("a120.5x", TestCompiler.call(MAIN, "concat", "a", 1, 2L, 0.5, 'x'));
+    }
+
+    @Test
+    void testEqualityOperand() {
+        assertEquals("eq=false", TestCompiler.call(MAIN, "equality", 1));
+        assertEquals("eq=true", TestCompiler.call(MAIN, "equality", 2));
+    }
+
+    @Test
+    void testNegationOperand() {
+        assertEquals("not=false", TestCompiler.call(MAIN, "negation", true));
+        assertEquals("not=true", TestCompiler.call(MAIN, "negation", false));
+    }
+
+    @Test
+    void testLogicalOperands() {
+        assertEquals("and=true or=false", TestCompiler.call(MAIN, "logical", true, 1));
+        assertEquals("and=false or=true", TestCompiler.call(MAIN, "logical", false, 1));
+    }
+
+    @Test
+    void testComparisonOperands() {
+        assertEquals("falsetrue", TestCompiler.call(MAIN, "comparison", 1.5, 2.5));
+        assertEquals("truefalse", TestCompiler.call(MAIN, "comparison", 2.5, 2.5));
+    }
+
+    @Test
+    void testBooleanOperand() {
+        assertEquals("b=true", TestCompiler.call(MAIN, "boolean", true));
+    }
+
+    @Test
+    void testNullOperand() {
+        assertEquals("o=null", TestCompiler.call(MAIN, "object", (Object) null));
+    }
+}
@@ -0,0 +1,165 @@
+package poly.compiler.generator;
+
+import org.junit.jupiter.api.Test;
+import poly.compiler.Compiler;
+import poly.compiler.TestCompiler;
+import poly.compiler.file.ClassReader;
+import poly.compiler.file.MemoryClassLoader;
+import poly.compiler.file.SourceCode;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SwitchStatementTest {
+    private static final Class<?> MAIN = TestCompiler.compile("""
+            import java.time.DayOfWeek;
+
+            enum+ Mineral {
+                COPPER,
+                MAGNESIUM,
+                ZINC;
+            }
+
+            class+ Main {
+                fn+ # int projectEnum(int index) {
+                    Mineral mineral = if(index == 0) Mineral.COPPER else if(index == 1) Mineral.MAGNESIUM else Mineral.ZINC;
+                    switch(mineral) {
+                        case(ZINC) return 30;
+                        case(Mineral.COPPER) return 29;
+                        else return 0;
+                    }
+                    return -1;
+                }
+
+                fn+ # int libraryEnum(int day) {
+                    switch(DayOfWeek.of(day)) {
+                        case(SUNDAY) return 7;
+                        case(MONDAY) return 1;
+                        case(DayOfWeek.FRIDAY) return 5;
+                        else return 0;
+                    }
+                    return -1;
+                }
+
+                fn+ # int libraryEnumWithoutElse(int day) {
+                    int value = 0;
+                    switch(DayOfWeek.of(day)) {
+                        case(MONDAY) value = 1;
+                        case(TUESDAY) value = 2;
+                    }
+                    return value;
+                }
+
+                fn+ # int nullEnum() {
+                    DayOfWeek day = null;
+                    switch(day) {
+                        case(MONDAY) return 1;
+                        else return 0;
+                    }
+                    return -1;
+                }
+
+                fn+ # int string(String value) {
+                    switch(value) {
+                        case("Aa") return 1;
+                        case("BB") return 2;
+                        case("") return 3;
+                        case("poly") return 4;
+                        else return 0;
+                    }
+                    return -1;
+                }
+
+                fn+ # int integer(int value) {
+                    switch(value) {
+                        case(1) return 10;
+                        case(2) return 20;
+                        case(1000) return 30;
+                        else return 0;
+                    }
+                    return -1;
+                }
+            }""");
+
+    @Test
+    void testStringCases() {
+        assertEquals(3, TestCompiler.call(MAIN, "string", ""));
+        assertEquals(4, TestCompiler.call(MAIN, "string", "poly"));
+        assertEquals(0, TestCompiler.call(MAIN, "string", "Poly"));
+    }
+
+    @Test
+    void testStringHashCollision() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        assertEquals(1, TestCompiler.call(MAIN, "string", "Aa"));
+        assertEquals(2, TestCompiler.call(MAIN, "string", "BB"));
+        assertEquals(0, TestCompiler.call(MAIN, "string", "C#"));
+    }
+
+    @Test
+    void testProjectEnumCases() {
+        assertEquals(29, TestCompiler.call(MAIN, "projectEnum", 0));
+        assertEquals(30, TestCompiler.call(MAIN, "projectEnum", 2));
+        assertEquals(0, TestCompiler.call(MAIN, "projectEnum", 1));
+    }
+
+    @Test
+    void testLibraryEnumCases() {
+        assertEquals(1, TestCompiler.call(MAIN, "libraryEnum", 1));
+        assertEquals(5, TestCompiler.call(MAIN, "libraryEnum", 5));
+        assertEquals(7, TestCompiler.call(MAIN, "libraryEnum", 7));
+        assertEquals(0, TestCompiler.call(MAIN, "libraryEnum", 3));
+        assertEquals(2, TestCompiler.call(MAIN, "libraryEnumWithoutElse", 2));
+        assertEquals(0, TestCompiler.call(MAIN, "libraryEnumWithoutElse", 3));
+    }
+
+    @Test
+    void testReorderedLibraryEnum() throws ReflectiveOperationException {
+        //Compile the library enum and load it as a library class
+        Map<String, byte[]> libraryClasses = Compiler.compileInMemory(List.of(new SourceCode("Metal", "lib", """
+                enum+ Metal {
+                    IRON,
+                    GOLD;
+                }""")));
+        new ClassReader(libraryClasses.get("lib/Metal")).read();
+
+        Map<String, byte[]> classes = new HashMap<>(Compiler.compileInMemory(List.of(new SourceCode("Main", "test", """
+                class+ Main {
+                    fn+ # int metal() {
+                        switch(lib.Metal.GOLD) {
+                            case(IRON) return 1;
+                            case(GOLD) return 2;
+                            else return 0;
+                        }
+                        return -1;
+                    }
+                }"""))));
+
+        //Reorder the enum constants after the compilation of the switch
+        classes.putAll(Compiler.compileInMemory(List.of(new SourceCode("Metal", "lib", """
+                enum+ Metal {
+                    GOLD,
+                    IRON;
+                }"""))));
+
+        MemoryClassLoader classLoader = new MemoryClassLoader(classes, SwitchStatementTest.class.getClassLoader());
+        Class<?> main = Class.forName("test.Main", true, classLoader);
+        assertEquals(2, TestCompiler.call(main, "metal"));
+    }
+
+    @Test
+    void testNullEnum() {
+        AssertionError error = assertThrows(AssertionError.class, () -> TestCompiler.call(MAIN, "nullEnum"));
+        assertInstanceOf(NullPointerException.class, error.getCause().getCause());
+    }
+
+    @Test
+    void testIntegerCases() {
+        assertEquals(10, TestCompiler.call(MAIN, "integer", 1));
+        assertEquals(30, TestCompiler.call(MAIN, "integer", 1000));
+        assertEquals(0, TestCompiler.call(MAIN, "integer", 3));
+    }
+}
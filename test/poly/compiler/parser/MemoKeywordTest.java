@@ -0,0 +1,53 @@
+package poly.compiler.parser;
+
+import org.junit.jupiter.api.Test;
+import poly.compiler.TestCompiler;
+import poly.compiler.file.SourceCode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MemoKeywordTest {
+    private static final Class<?> MAIN = TestCompiler.compile("""
+            class+ Main {
+                - # int calls;
+                - # int memo = 5;
+
+                fn+ # memo long fibonacci(int n) {
+                    calls++;
+                    return if(n < 2) n:long else fibonacci(n - 1) + fibonacci(n - 2);
+                }
+
+                fn+ # memo(16) int square(int n) = n * n;
+
+                fn+ # int callCount() = calls;
+
+                fn+ # int memo() = memo * 2;
+
+                fn+ # int field() = memo + memo();
+            }""", readMemoSource());
+
+    @Test
+    void testMemoModifier() {
+        assertEquals(12586269025L, TestCompiler.call(MAIN, "fibonacci", 50));
+        assertEquals(51, TestCompiler.call(MAIN, "callCount"));
+        assertEquals(49, TestCompiler.call(MAIN, "square", 7));
+    }
+
+    @Test
+    void testIdentifier() {
+        assertEquals(10, TestCompiler.call(MAIN, "memo"));
+        assertEquals(15, TestCompiler.call(MAIN, "field"));
+    }
+
+    private static SourceCode readMemoSource() {
+        try {
+            return new SourceCode("Memo", "poly.util", Files.readString(Path.of("src/language/poly/util/Memo.poly")));
+        } catch(IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
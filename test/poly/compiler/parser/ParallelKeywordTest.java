@@ -0,0 +1,29 @@
+package poly.compiler.parser;
+
+import org.junit.jupiter.api.Test;
+import poly.compiler.TestCompiler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelKeywordTest {
+    private static final Class<?> MAIN = TestCompiler.compile("""
+            import java.util.stream.IntStream;
+
+            class+ Main {
+                fn+ # int streamSum(int size) = IntStream.range(0, size).parallel().sum();
+                fn+ # bool isParallel() = IntStream.range(0, 1).parallel().isParallel();
+
+                fn+ # int variable(int parallel) = parallel * 2;
+            }""");
+
+    @Test
+    void testStreamMethods() {
+        assertEquals(45, TestCompiler.call(MAIN, "streamSum", 10));
+        assertEquals(true, TestCompiler.call(MAIN, "isParallel"));
+    }
+
+    @Test
+    void testIdentifier() {
+        assertEquals(6, TestCompiler.call(MAIN, "variable", 3));
+    }
+}
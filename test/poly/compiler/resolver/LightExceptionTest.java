@@ -0,0 +1,63 @@
+package poly.compiler.resolver;
+
+import org.junit.jupiter.api.Test;
+import poly.compiler.Compiler;
+import poly.compiler.TestCompiler;
+import poly.compiler.file.ClassReader;
+import poly.compiler.file.MemoryClassLoader;
+import poly.compiler.file.SourceCode;
+import poly.compiler.resolver.symbol.ClassSymbol;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LightExceptionTest {
+
+    @Test
+    void testLightKeyword() {
+        Class<?> main = TestCompiler.compile("""
+                exception+ light Stop {
+                    fn+ constructor() super("stop");
+                }
+
+                class+ Main {
+                    fn+ # int depth() = new Stop().getStackTrace().size;
+
+                    fn+ # int light(int light) = light * 2;
+                }""");
+
+        assertEquals(0, TestCompiler.call(main, "depth"));
+        assertEquals(6, TestCompiler.call(main, "light", 3));
+    }
+
+    @Test
+    void testLibraryLightException() throws ReflectiveOperationException {
+        //Compile the light exception in its own compilation unit
+        Map<String, byte[]> libraryClasses = Compiler.compileInMemory(List.of(new SourceCode("Stop", "lib", """
+                exception+ light Stop {
+                    fn+ constructor(String message) super(message);
+                }""")));
+
+        //Load the light exception as a library class
+        ClassSymbol classSymbol = new ClassReader(libraryClasses.get("lib/Stop")).read();
+        assertTrue(classSymbol.isLight());
+
+        //Extend the light exception from another compilation unit
+        Map<String, byte[]> classes = new HashMap<>(libraryClasses);
+        classes.putAll(Compiler.compileInMemory(List.of(new SourceCode("Main", "test", """
+                exception+ light Deeper(lib.Stop) {
+                    fn+ constructor() super("deeper");
+                }
+
+                class+ Main {
+                    fn+ # int depth() = new Deeper().getStackTrace().size;
+                }"""))));
+
+        MemoryClassLoader classLoader = new MemoryClassLoader(classes, LightExceptionTest.class.getClassLoader());
+        Class<?> main = Class.forName("test.Main", true, classLoader);
+        assertEquals(0, TestCompiler.call(main, "depth"));
+    }
+}